@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@link BloomFilterBits} that many threads may set at once without locking, each bit being set with a compare and
+ * set of its long.
+ */
+@GwtIncompatible
+final class AtomicLongArrayBloomFilterBits implements BloomFilterBits {
+
+    AtomicLongArrayBloomFilterBits(final int length) {
+        this.words = new AtomicLongArray(length);
+    }
+
+    @Override
+    public boolean set(final long bit) {
+        final AtomicLongArray words = this.words;
+        final int index = (int) (bit >>> 6);
+        final long mask = 1L << bit;
+
+        for (;;) {
+            final long word = words.get(index);
+            if (0 != (word & mask)) {
+                return false;
+            }
+            if (words.compareAndSet(index, word, word | mask)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean get(final long bit) {
+        return 0 != (this.words.get((int) (bit >>> 6)) & (1L << bit));
+    }
+
+    @Override
+    public int length() {
+        return this.words.length();
+    }
+
+    @Override
+    public long word(final int index) {
+        return this.words.get(index);
+    }
+
+    @Override
+    public void setWord(final int index,
+                       final long word) {
+        this.words.set(index, word);
+    }
+
+    private final AtomicLongArray words;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * The bits of a {@link URIBloomFilter} packed into longs.
+ */
+interface BloomFilterBits {
+
+    /**
+     * Sets the given bit, returning true if it was clear.
+     */
+    boolean set(final long bit);
+
+    /**
+     * Returns true if the given bit is set.
+     */
+    boolean get(final long bit);
+
+    /**
+     * The number of longs holding the bits.
+     */
+    int length();
+
+    /**
+     * Returns the long at index, holding bits {@code index * 64} up to {@code index * 64 + 63}.
+     */
+    long word(final int index);
+
+    /**
+     * Replaces the long at index, used when loading saved bits.
+     */
+    void setWord(final int index,
+                 final long word);
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.nio.charset.Charset;
+
+/**
+ * Decodes a run of bytes taken from consecutive {@code %XX} escapes straight into the output chars of
+ * {@link URLDecoder}.
+ */
+interface ByteRunDecoder {
+
+    /**
+     * Returns a decoder for the given {@link Charset}. UTF-8 and the common single byte charsets are decoded by hand,
+     * anything else goes through the {@link String} constructor.
+     */
+    static ByteRunDecoder with(final Charset charset) {
+        final ByteRunDecoder decoder;
+
+        switch (charset.name()) {
+            case "UTF-8":
+                decoder = Utf8ByteRunDecoder.INSTANCE;
+                break;
+            case "ISO-8859-1":
+                decoder = SingleByteRunDecoder.ISO_8859_1;
+                break;
+            case "US-ASCII":
+                decoder = SingleByteRunDecoder.US_ASCII;
+                break;
+            case "windows-1252":
+                decoder = SingleByteRunDecoder.WINDOWS_1252;
+                break;
+            default:
+                decoder = new CharsetByteRunDecoder(charset);
+                break;
+        }
+
+        return decoder;
+    }
+
+    /**
+     * Decodes the first length bytes writing the chars from offset, returning the offset after the last char written.
+     * Malformed or unmappable bytes become {@link #REPLACEMENT} like the {@link String} constructor.
+     */
+    int decode(final byte[] bytes,
+               final int length,
+               final char[] chars,
+               final int offset);
+
+    char REPLACEMENT = '\ufffd';
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * Produces the UTF-8 bytes of the canonical form of a {@link URI}, the form {@link URI#hashCode()} uses with the
+ * scheme and host in lower case, each char on its own, and the hex digits of every {@code %XX} escape in lower case.
+ * The bytes come straight from the components of the URI, so the canonical form is never built as a string. An
+ * unpaired surrogate becomes {@code '?'} like {@link String#getBytes(java.nio.charset.Charset)} does.
+ */
+abstract class CanonicalURIBytes {
+
+    CanonicalURIBytes() {
+        super();
+    }
+
+    /**
+     * Produces the canonical form of the whole URI.
+     */
+    final void uri(final URI uri) {
+        final String scheme = uri.getScheme();
+        if (null != scheme) {
+            this.lowerCase(scheme);
+            this.add(':');
+        }
+
+        if (uri.isOpaque()) {
+            this.escaped(uri.getRawSchemeSpecificPart());
+        } else {
+            final String authority = uri.getRawAuthority();
+            if (null != authority) {
+                this.add('/');
+                this.add('/');
+
+                final String host = uri.getHost();
+                if (null == host) {
+                    this.escaped(authority);
+                } else {
+                    final String userInfo = uri.getRawUserInfo();
+                    if (null != userInfo) {
+                        this.escaped(userInfo);
+                        this.add('@');
+                    }
+                    this.lowerCase(host);
+                    final int port = uri.getPort();
+                    if (-1 != port) {
+                        this.add(':');
+                        this.port(port);
+                    }
+                }
+            }
+
+            final String path = uri.getRawPath();
+            if (null != path) {
+                this.escaped(path);
+            }
+
+            final String query = uri.getRawQuery();
+            if (null != query) {
+                this.add('?');
+                this.escaped(query);
+            }
+        }
+
+        final String fragment = uri.getRawFragment();
+        if (null != fragment) {
+            this.add('#');
+            this.escaped(fragment);
+        }
+    }
+
+    /**
+     * Produces the host in lower case, or for a registry based authority the canonical authority, otherwise nothing.
+     */
+    final void host(final URI uri) {
+        final String host = uri.getHost();
+        if (null != host) {
+            this.lowerCase(host);
+        } else {
+            final String authority = uri.getRawAuthority();
+            if (null != authority && !uri.isOpaque()) {
+                this.escaped(authority);
+            }
+        }
+    }
+
+    private void lowerCase(final String text) {
+        this.text(text, true, false);
+    }
+
+    private void escaped(final String text) {
+        this.text(text, false, true);
+    }
+
+    private void port(final int port) {
+        if (port >= 10) {
+            this.port(port / 10);
+        }
+        this.add('0' + port % 10);
+    }
+
+    /**
+     * Produces the UTF-8 bytes of text, either lower casing every char or only the two chars after each
+     * {@code '%'}.
+     */
+    final void text(final String text,
+                    final boolean lowerCase,
+                    final boolean escaped) {
+        final int length = text.length();
+        int hex = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (lowerCase || hex > 0) {
+                c = Character.toLowerCase(c);
+                if (hex > 0) {
+                    hex--;
+                }
+            } else if (escaped && '%' == c) {
+                hex = 2;
+            }
+
+            if (c < 0x80) {
+                this.add(c);
+            } else if (c < 0x800) {
+                this.add(0xc0 | (c >> 6));
+                this.add(0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                this.add(0xf0 | (codePoint >> 18));
+                this.add(0x80 | ((codePoint >> 12) & 0x3f));
+                this.add(0x80 | ((codePoint >> 6) & 0x3f));
+                this.add(0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                this.unpairedSurrogate = true;
+                this.add('?');
+            } else {
+                this.add(0xe0 | (c >> 12));
+                this.add(0x80 | ((c >> 6) & 0x3f));
+                this.add(0x80 | (c & 0x3f));
+            }
+        }
+    }
+
+    /**
+     * Receives the next byte, in the low 8 bits.
+     */
+    abstract void add(final int b);
+
+    /**
+     * Set once an unpaired surrogate has been produced as {@code '?'}.
+     */
+    boolean unpairedSurrogate;
+
+    /**
+     * Returns true if the text holds a surrogate that is not part of a pair, which has no UTF-8 bytes of its own.
+     */
+    static boolean hasUnpairedSurrogate(final String text) {
+        final int length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The exception thrown when a URI whose text cannot be kept as UTF-8 bytes is added.
+     */
+    static IllegalArgumentException unpairedSurrogate(final URI uri) {
+        return new IllegalArgumentException("Unpaired surrogate in " + uri); //$NON-NLS-1$
+    }
+}
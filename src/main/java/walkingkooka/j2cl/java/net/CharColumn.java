@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.util.Arrays;
+
+/**
+ * A column of text for {@link URIColumns}, the chars of every row packed into one array with the end of each row
+ * after those of the rows before it. A null row is recorded by its owner and appended here as empty.
+ */
+final class CharColumn {
+
+    CharColumn() {
+        super();
+    }
+
+    /**
+     * Appends the chars between start and end of text as the next row.
+     */
+    void append(final String text,
+                final int start,
+                final int end) {
+        final int length = this.length;
+        final int newLength = length + end - start;
+        if (newLength < 0) {
+            throw new IllegalStateException("Column full"); //$NON-NLS-1$
+        }
+        if (newLength > this.chars.length) {
+            this.chars = Arrays.copyOf(this.chars, Math.max(newLength, (int) Math.min(Integer.MAX_VALUE - 8, this.chars.length * 2L)));
+        }
+        text.getChars(start, end, this.chars, length);
+        this.length = newLength;
+
+        if (this.rows == this.ends.length) {
+            this.ends = Arrays.copyOf(this.ends, this.rows * 2);
+        }
+        this.ends[this.rows++] = newLength;
+    }
+
+    /**
+     * The offset of the first char of row.
+     */
+    int start(final int row) {
+        return 0 == row ?
+                0 :
+                this.ends[row - 1];
+    }
+
+    /**
+     * The offset after the last char of row.
+     */
+    int end(final int row) {
+        return this.ends[row];
+    }
+
+    /**
+     * Returns the text of row.
+     */
+    String text(final int row) {
+        final int start = this.start(row);
+        return new String(this.chars, start, this.ends[row] - start);
+    }
+
+    /**
+     * The chars of every row, valid up to the end of the last row.
+     */
+    char[] chars() {
+        return this.chars;
+    }
+
+    /**
+     * The number of chars in every row.
+     */
+    int length() {
+        return this.length;
+    }
+
+    private char[] chars = new char[64];
+
+    private int length;
+
+    private int[] ends = new int[16];
+
+    private int rows;
+}
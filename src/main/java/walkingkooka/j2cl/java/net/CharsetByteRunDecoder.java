@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.nio.charset.Charset;
+
+/**
+ * A {@link ByteRunDecoder} for any other {@link Charset}, which decodes with the {@link String} constructor and copies
+ * the chars once.
+ */
+final class CharsetByteRunDecoder implements ByteRunDecoder {
+
+    CharsetByteRunDecoder(final Charset charset) {
+        this.charset = charset;
+    }
+
+    @Override
+    public int decode(final byte[] bytes,
+                      final int length,
+                      final char[] chars,
+                      final int offset) {
+        final String decoded = new String(bytes, 0, length, this.charset);
+        final int decodedLength = decoded.length();
+        decoded.getChars(0, decodedLength, chars, offset);
+        return offset + decodedLength;
+    }
+
+    private final Charset charset;
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+
+/**
+ * Resolves charset names for the {@code String enc} methods of {@link URLEncoder} and {@link URLDecoder}, remembering
+ * the last few names so repeated calls skip {@link Charset#forName(String)}.
+ */
+final class CharsetCache {
+
+    /**
+     * The number of recently resolved names that are remembered.
+     */
+    final static int SIZE = 8;
+
+    /**
+     * Returns the {@link Charset} with the given name, reporting unknown or illegal names as
+     * {@link UnsupportedEncodingException} like {@link String#getBytes(String)}.
+     */
+    static Charset forName(final String name) throws UnsupportedEncodingException {
+        Charset charset = known(name);
+        if (null == charset) {
+            final Entry[] entries = ENTRIES;
+            for (final Entry entry : entries) {
+                if (null != entry && entry.name.equals(name)) {
+                    charset = entry.charset;
+                    break;
+                }
+            }
+
+            if (null == charset) {
+                charset = lookup(name);
+
+                // racing threads may overwrite each other's entries, which only costs another lookup
+                final int next = CharsetCache.next;
+                entries[next] = new Entry(name, charset);
+                CharsetCache.next = (next + 1) % SIZE;
+            }
+        }
+        return charset;
+    }
+
+    /**
+     * The canonical names of the charsets every platform supports are matched without any lookup.
+     */
+    private static Charset known(final String name) {
+        Charset charset = null;
+
+        if (StandardCharsets.UTF_8.name().equalsIgnoreCase(name)) {
+            charset = StandardCharsets.UTF_8;
+        } else if (StandardCharsets.ISO_8859_1.name().equalsIgnoreCase(name)) {
+            charset = StandardCharsets.ISO_8859_1;
+        }
+
+        return charset;
+    }
+
+    private static Charset lookup(final String name) throws UnsupportedEncodingException {
+        try {
+            return Charset.forName(name);
+        } catch (final IllegalCharsetNameException | UnsupportedCharsetException cause) {
+            throw (UnsupportedEncodingException) new UnsupportedEncodingException(name)
+                    .initCause(cause);
+        }
+    }
+
+    private final static Entry[] ENTRIES = new Entry[SIZE];
+
+    private static int next;
+
+    /**
+     * A name and the {@link Charset} it resolved to, immutable so a racing reader never sees half an entry.
+     */
+    private static final class Entry {
+
+        Entry(final String name, final Charset charset) {
+            this.name = name;
+            this.charset = charset;
+        }
+
+        final String name;
+
+        final Charset charset;
+    }
+
+    /**
+     * Stop creation
+     */
+    private CharsetCache() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads a {@code application/x-www-form-urlencoded} body such as {@code a=1&b=2} in chunks, giving each decoded name
+ * and value to a {@link BiConsumer} as soon as its {@code '&'} is read. Names and values are decoded with
+ * {@link URLDecoder#decode(String, Charset)}, and only the current name and value are held, so memory is bounded by
+ * the longest of them rather than the whole body. Escapes and multi byte characters may be split across chunks.
+ * <p>
+ * A segment without {@code '='} is a name with an empty value, only the first {@code '='} of a segment separates
+ * and empty segments are skipped.
+ */
+public final class FormDecoder {
+
+    /**
+     * The number of chars or bytes read at a time.
+     */
+    final static int BUFFER_SIZE = 4096;
+
+    /**
+     * Decodes all the pairs read from the given {@link Reader}. The reader is not closed.
+     *
+     * @throws IOException
+     *             if reading fails.
+     * @throws IllegalArgumentException
+     *             if a name or value contains an invalid {@code %} escape.
+     */
+    public static void decode(final Reader reader,
+                              final Charset charset,
+                              final BiConsumer<String, String> pairs) throws IOException {
+        final FormDecoder decoder = new FormDecoder(charset, pairs);
+        if (null == reader) {
+            throw new NullPointerException("Reader"); //$NON-NLS-1$
+        }
+
+        final char[] buffer = new char[BUFFER_SIZE];
+        final StringBuilder token = new StringBuilder();
+
+        for (;;) {
+            final int count = reader.read(buffer, 0, buffer.length);
+            if (-1 == count) {
+                break;
+            }
+
+            int start = 0;
+            for (int i = 0; i < count; i++) {
+                final char c = buffer[i];
+                if ('&' == c || ('=' == c && null == decoder.name)) {
+                    token.append(buffer, start, i - start);
+                    decoder.separator(c, token.toString());
+                    token.setLength(0);
+                    start = i + 1;
+                }
+            }
+            token.append(buffer, start, count - start);
+        }
+
+        decoder.separator('&', token.toString());
+    }
+
+    /**
+     * Decodes all the pairs read from the given {@link InputStream}. The separators are found in the raw bytes, so
+     * the charset must encode {@code '&'} and {@code '='} as their single ASCII bytes, as UTF-8 and the ISO-8859
+     * charsets do. The stream is not closed.
+     *
+     * @throws IOException
+     *             if reading fails.
+     * @throws IllegalArgumentException
+     *             if a name or value contains an invalid {@code %} escape.
+     */
+    public static void decode(final InputStream input,
+                              final Charset charset,
+                              final BiConsumer<String, String> pairs) throws IOException {
+        final FormDecoder decoder = new FormDecoder(charset, pairs);
+        if (null == input) {
+            throw new NullPointerException("InputStream"); //$NON-NLS-1$
+        }
+
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        byte[] token = new byte[64];
+        int tokenLength = 0;
+
+        for (;;) {
+            final int count = input.read(buffer, 0, buffer.length);
+            if (-1 == count) {
+                break;
+            }
+
+            int start = 0;
+            for (int i = 0; i < count; i++) {
+                final byte b = buffer[i];
+                if ('&' == b || ('=' == b && null == decoder.name)) {
+                    token = append(token, tokenLength, buffer, start, i - start);
+                    tokenLength += i - start;
+                    decoder.separator((char) b, new String(token, 0, tokenLength, charset));
+                    tokenLength = 0;
+                    start = i + 1;
+                }
+            }
+            token = append(token, tokenLength, buffer, start, count - start);
+            tokenLength += count - start;
+        }
+
+        decoder.separator('&', new String(token, 0, tokenLength, charset));
+    }
+
+    /**
+     * Appends the bytes to the token, returning a larger copy when it is full.
+     */
+    private static byte[] append(final byte[] token,
+                                 final int tokenLength,
+                                 final byte[] bytes,
+                                 final int start,
+                                 final int length) {
+        byte[] appended = token;
+        if (tokenLength + length > token.length) {
+            appended = new byte[Math.max(token.length * 2, tokenLength + length)];
+            System.arraycopy(token, 0, appended, 0, tokenLength);
+        }
+        System.arraycopy(bytes, start, appended, tokenLength, length);
+        return appended;
+    }
+
+    private FormDecoder(final Charset charset,
+                        final BiConsumer<String, String> pairs) {
+        if (null == charset) {
+            throw new NullPointerException("Charset"); //$NON-NLS-1$
+        }
+        if (null == pairs) {
+            throw new NullPointerException("pairs"); //$NON-NLS-1$
+        }
+        this.charset = charset;
+        this.pairs = pairs;
+    }
+
+    /**
+     * Handles the still encoded token before a {@code '='} that ends a name, or a {@code '&'} that ends a pair.
+     */
+    private void separator(final char c,
+                           final String token) {
+        final String name = this.name;
+        if ('=' == c) {
+            this.name = this.decode(token);
+        } else {
+            if (null == name) {
+                if (token.length() > 0) {
+                    this.pairs.accept(this.decode(token), "");
+                }
+            } else {
+                this.name = null;
+                this.pairs.accept(name, this.decode(token));
+            }
+        }
+    }
+
+    private String decode(final String token) {
+        return URLDecoder.decode(token, this.charset);
+    }
+
+    private final Charset charset;
+
+    private final BiConsumer<String, String> pairs;
+
+    /**
+     * The decoded name when the value is being read, otherwise null.
+     */
+    private String name;
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link Writer} that encodes everything written to it with the {@link URLEncoder} rules, so a large
+ * {@code application/x-www-form-urlencoded} body can be written straight to its destination. Letters, digits and
+ * {@code .-*_} are kept, a space becomes {@code '+'} and everything else becomes the {@code %XX} escapes of its bytes
+ * in the charset. Encoded text is gathered in a fixed size buffer which is written to the {@link Appendable} when full,
+ * so memory use does not grow with the body.
+ * <pre>
+ * encoder.pair("name", "value");
+ * encoder.name("file");
+ * encoder.write(...); // the value of file
+ * encoder.close();
+ * </pre>
+ * A surrogate pair may be split across writes.
+ */
+public final class FormEncoder extends Writer {
+
+    /**
+     * The number of encoded chars gathered before they are written to the {@link Appendable}.
+     */
+    final static int BUFFER_SIZE = 4096;
+
+    /**
+     * Creates an encoder writing to the given {@link Appendable}. {@link #flush()} and {@link #close()} also flush and
+     * close it when it is {@link Flushable} or {@link Closeable}.
+     */
+    public FormEncoder(final Appendable output,
+                       final Charset charset) {
+        super();
+        if (null == output) {
+            throw new NullPointerException("Appendable"); //$NON-NLS-1$
+        }
+        if (null == charset) {
+            throw new NullPointerException("Charset"); //$NON-NLS-1$
+        }
+        this.output = output;
+        this.charset = charset;
+        this.utf8 = StandardCharsets.UTF_8.equals(charset);
+        this.latin1 = StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    /**
+     * Writes a complete name and value pair, preceded by {@code '&'} unless it is the first.
+     */
+    public FormEncoder pair(final String name,
+                            final String value) throws IOException {
+        this.name(name);
+        this.write(value);
+        return this;
+    }
+
+    /**
+     * Writes a name and {@code '='}, preceded by {@code '&'} unless it is the first. Anything written afterwards up to
+     * the next name is the value.
+     */
+    public FormEncoder name(final String name) throws IOException {
+        this.ensureOpen();
+        this.endSurrogate();
+
+        if (this.first) {
+            this.first = false;
+        } else {
+            this.appendChar('&');
+        }
+        this.write(name);
+        this.appendChar('=');
+        return this;
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        this.ensureOpen();
+        this.encode((char) c);
+    }
+
+    @Override
+    public void write(final char[] chars,
+                      final int offset,
+                      final int length) throws IOException {
+        this.ensureOpen();
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            this.encode(chars[i]);
+        }
+    }
+
+    @Override
+    public void write(final String s,
+                      final int offset,
+                      final int length) throws IOException {
+        this.ensureOpen();
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            this.encode(s.charAt(i));
+        }
+    }
+
+    /**
+     * Writes the buffered chars to the {@link Appendable} and flushes it if possible. A high surrogate waiting for
+     * its low surrogate is kept.
+     */
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+        this.flushBuffer();
+        if (this.output instanceof Flushable) {
+            ((Flushable) this.output).flush();
+        }
+    }
+
+    /**
+     * Writes everything left, including an unpaired high surrogate, and closes the {@link Appendable} if possible.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.endSurrogate();
+            this.flushBuffer();
+            this.closed = true;
+            if (this.output instanceof Closeable) {
+                ((Closeable) this.output).close();
+            }
+        }
+    }
+
+    private void encode(final char c) throws IOException {
+        final char high = this.high;
+        if (0 != high) {
+            this.high = 0;
+            if (Character.isLowSurrogate(c)) {
+                this.escape(Character.toCodePoint(high, c));
+                return;
+            }
+            this.escape(high);
+        }
+
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9') || '.' == c || '-' == c || '*' == c || '_' == c) {
+            this.appendChar(c);
+        } else if (' ' == c) {
+            this.appendChar('+');
+        } else if (Character.isHighSurrogate(c)) {
+            this.high = c;
+        } else {
+            this.escape(c);
+        }
+    }
+
+    /**
+     * A high surrogate not followed by a low surrogate is encoded on its own, which gives the charset replacement.
+     */
+    private void endSurrogate() throws IOException {
+        final char high = this.high;
+        if (0 != high) {
+            this.high = 0;
+            this.escape(high);
+        }
+    }
+
+    /**
+     * Writes the {@code %XX} escapes for the code point, by hand for UTF-8 and ISO-8859-1 and using
+     * {@link String#getBytes(Charset)} for any other charset.
+     */
+    private void escape(final int codePoint) throws IOException {
+        if (this.utf8) {
+            if (codePoint < 0x80) {
+                this.escapeByte(codePoint, 1);
+            } else if (codePoint < 0x800) {
+                this.escapeByte(0xc0 | (codePoint >> 6), 2);
+                this.escapeByte(0x80 | (codePoint & 0x3f), 0);
+            } else if (codePoint >= 0xd800 && codePoint <= 0xdfff) {
+                // an unpaired surrogate, String.getBytes gives '?'
+                this.escapeByte('?', 1);
+            } else if (codePoint < 0x10000) {
+                this.escapeByte(0xe0 | (codePoint >> 12), 3);
+                this.escapeByte(0x80 | ((codePoint >> 6) & 0x3f), 0);
+                this.escapeByte(0x80 | (codePoint & 0x3f), 0);
+            } else {
+                this.escapeByte(0xf0 | (codePoint >> 18), 4);
+                this.escapeByte(0x80 | ((codePoint >> 12) & 0x3f), 0);
+                this.escapeByte(0x80 | ((codePoint >> 6) & 0x3f), 0);
+                this.escapeByte(0x80 | (codePoint & 0x3f), 0);
+            }
+        } else if (this.latin1) {
+            this.escapeByte(codePoint <= 0xff ? codePoint : '?', 1);
+        } else {
+            final String s = codePoint < 0x10000 ?
+                    String.valueOf((char) codePoint) :
+                    new String(Character.toChars(codePoint));
+            final byte[] bytes = s.getBytes(this.charset);
+            final int count = bytes.length;
+            for (int i = 0; i < count; i++) {
+                this.escapeByte(bytes[i], 0 == i ? count : 0);
+            }
+        }
+    }
+
+    /**
+     * Writes one escaped byte. The first byte of a code point passes the number of bytes so all of them fit in the
+     * buffer without checking again.
+     */
+    private void escapeByte(final int b,
+                            final int reserveBytes) throws IOException {
+        if (reserveBytes > 0 && this.length + reserveBytes * 3 > this.buffer.length) {
+            this.flushBuffer();
+        }
+        final char[] buffer = this.buffer;
+        int length = this.length;
+        buffer[length++] = '%';
+        buffer[length++] = URLEncoder.digits.charAt((b & 0xf0) >> 4);
+        buffer[length++] = URLEncoder.digits.charAt(b & 0xf);
+        this.length = length;
+    }
+
+    private void appendChar(final char c) throws IOException {
+        if (this.length == this.buffer.length) {
+            this.flushBuffer();
+        }
+        this.buffer[this.length++] = c;
+    }
+
+    private void flushBuffer() throws IOException {
+        final int length = this.length;
+        if (length > 0) {
+            final Appendable output = this.output;
+            if (output instanceof Writer) {
+                ((Writer) output).write(this.buffer, 0, length);
+            } else if (output instanceof StringBuilder) {
+                ((StringBuilder) output).append(this.buffer, 0, length);
+            } else {
+                output.append(new String(this.buffer, 0, length));
+            }
+            this.length = 0;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Closed"); //$NON-NLS-1$
+        }
+    }
+
+    private final Appendable output;
+
+    private final Charset charset;
+
+    private final boolean utf8;
+
+    private final boolean latin1;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private int length;
+
+    /**
+     * A high surrogate waiting for the low surrogate in the next write, otherwise 0.
+     */
+    private char high;
+
+    /**
+     * True until the first name is written.
+     */
+    private boolean first = true;
+
+    private boolean closed;
+}
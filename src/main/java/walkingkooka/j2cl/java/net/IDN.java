@@ -0,0 +1,757 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * Converts internationalized domain names between Unicode and the ASCII Compatible Encoding of RFC 3490, so a host
+ * such as <code>b&uuml;cher.example</code> can be sent on the wire as {@code xn--bcher-kva.example}.
+ * <p>
+ * Labels are separated by any of the four IDNA dots. Labels that are all ASCII are only checked, and are returned with
+ * their original case. Other labels are prepared with nameprep (RFC 3491) and then encoded with {@link Punycode}:
+ * characters that map to nothing are removed, the label is case folded and normalized to NFKC and the code points of
+ * the prohibited tables C.1.2 to C.9 of RFC 3454 are rejected. The bidi checks are not performed.
+ * <p>
+ * Unassigned means unassigned in Unicode 3.2 as listed by table A.1 of RFC 3454. On the JVM labels holding the few
+ * code points whose mapping has changed since Unicode 3.2 are rejected. J2CL has no normalizer, so there only labels
+ * that need no more than lower casing are prepared and any other label is rejected. Either way a label is never
+ * converted to a different name than the JDK gives.
+ * <p>
+ * The last few non-ASCII names converted by {@link #toASCII(String, int)} are remembered, so converting the same host
+ * for every request only pays for Punycode once.
+ */
+public final class IDN {
+
+    /**
+     * Allow unassigned code points.
+     */
+    public static final int ALLOW_UNASSIGNED = 0x01;
+
+    /**
+     * Reject labels that contain characters other than letters, digits and hyphen, or start or end with a hyphen.
+     */
+    public static final int USE_STD3_ASCII_RULES = 0x02;
+
+    /**
+     * The number of non-ASCII names remembered by {@link #toASCII(String, int)}.
+     */
+    final static int CACHE_SIZE = 16;
+
+    private final static String ACE_PREFIX = "xn--"; //$NON-NLS-1$
+
+    private final static int MAX_LABEL_LENGTH = 63;
+
+    /**
+     * Converts a domain name to its ASCII form.
+     *
+     * @param input
+     *            the domain name.
+     * @param flag
+     *            {@link #ALLOW_UNASSIGNED} and or {@link #USE_STD3_ASCII_RULES}.
+     * @return the ASCII form of the domain name.
+     * @throws IllegalArgumentException
+     *             if a label is empty, too long or breaks the STD3 rules.
+     */
+    public static String toASCII(final String input, final int flag) {
+        if (isRootLabel(input)) {
+            return "."; //$NON-NLS-1$
+        }
+        if (isAllASCII(input)) {
+            // nothing to convert, only the labels need checking
+            int start = 0;
+            while (start < input.length()) {
+                final int end = nextDot(input, start);
+                checkLabel(input, start, end, flag);
+                checkLength(end - start);
+                start = end + 1;
+            }
+            return input;
+        }
+
+        final Entry[] entries = ENTRIES;
+        for (final Entry entry : entries) {
+            if (null != entry && entry.flag == flag && entry.input.equals(input)) {
+                return entry.ascii;
+            }
+        }
+
+        final StringBuilder ascii = new StringBuilder(input.length() + 8);
+        int start = 0;
+        while (start < input.length()) {
+            final int end = nextDot(input, start);
+            appendASCII(input.substring(start, end), flag, ascii);
+            if (end != input.length()) {
+                ascii.append('.');
+            }
+            start = end + 1;
+        }
+        final String result = ascii.toString();
+
+        // racing threads may overwrite each other's entries, which only costs another conversion
+        final int next = IDN.next;
+        entries[next] = new Entry(input, flag, result);
+        IDN.next = (next + 1) % CACHE_SIZE;
+
+        return result;
+    }
+
+    /**
+     * Converts a domain name to its ASCII form using no flags.
+     *
+     * @param input
+     *            the domain name.
+     * @return the ASCII form of the domain name.
+     * @throws IllegalArgumentException
+     *             if a label is empty or too long.
+     */
+    public static String toASCII(final String input) {
+        return toASCII(input, 0);
+    }
+
+    /**
+     * Converts a domain name to its Unicode form. Labels that are not valid ACE labels are returned unchanged, so this
+     * method never fails.
+     *
+     * @param input
+     *            the domain name.
+     * @param flag
+     *            {@link #ALLOW_UNASSIGNED} and or {@link #USE_STD3_ASCII_RULES}.
+     * @return the Unicode form of the domain name.
+     */
+    public static String toUnicode(final String input, final int flag) {
+        final StringBuilder unicode = new StringBuilder(input.length());
+        int start = 0;
+        while (start < input.length()) {
+            final int end = nextDot(input, start);
+            unicode.append(toUnicodeLabel(input.substring(start, end), flag));
+            if (end != input.length()) {
+                unicode.append('.');
+            }
+            start = end + 1;
+        }
+        return unicode.toString();
+    }
+
+    /**
+     * Converts a domain name to its Unicode form using no flags.
+     *
+     * @param input
+     *            the domain name.
+     * @return the Unicode form of the domain name.
+     */
+    public static String toUnicode(final String input) {
+        return toUnicode(input, 0);
+    }
+
+    private static void appendASCII(final String label, final int flag, final StringBuilder ascii) {
+        if (isAllASCII(label)) {
+            checkLabel(label, 0, label.length(), flag);
+            checkLength(label.length());
+            ascii.append(label);
+        } else {
+            String prepared = prepare(label, flag);
+            checkLabel(prepared, 0, prepared.length(), flag);
+            if (!isAllASCII(prepared)) {
+                if (startsWithACEPrefix(prepared)) {
+                    throw new IllegalArgumentException("The input starts with the ACE Prefix"); //$NON-NLS-1$
+                }
+                prepared = ACE_PREFIX + toLowerCaseASCII(Punycode.encode(prepared));
+            }
+            checkLength(prepared.length());
+            ascii.append(prepared);
+        }
+    }
+
+    private static String toUnicodeLabel(final String label, final int flag) {
+        String prepared = label;
+        if (!isAllASCII(label)) {
+            try {
+                prepared = prepare(label, flag);
+            } catch (final IllegalArgumentException ignored) {
+                // compare against the label as given
+            }
+        }
+        if (startsWithACEPrefix(prepared)) {
+            try {
+                final String decoded = Punycode.decode(prepared.substring(ACE_PREFIX.length()));
+                if (toASCII(decoded, flag).equalsIgnoreCase(prepared)) {
+                    return decoded;
+                }
+            } catch (final IllegalArgumentException ignored) {
+                // not a valid ACE label, keep it
+            }
+        }
+        return label;
+    }
+
+    /**
+     * Checks the label between start and end, which is already all ASCII or
+     * prepared. Only ASCII characters can break the STD3 rules.
+     */
+    private static void checkLabel(final String label, final int start, final int end, final int flag) {
+        if (start == end) {
+            throw new IllegalArgumentException("Empty label is not a legal name"); //$NON-NLS-1$
+        }
+        if ((flag & USE_STD3_ASCII_RULES) != 0) {
+            for (int i = start; i < end; i++) {
+                if (isNonLDH(label.charAt(i))) {
+                    throw new IllegalArgumentException("Contains non-LDH ASCII characters"); //$NON-NLS-1$
+                }
+            }
+            if ('-' == label.charAt(start) || '-' == label.charAt(end - 1)) {
+                throw new IllegalArgumentException("Has leading or trailing hyphen"); //$NON-NLS-1$
+            }
+        }
+    }
+
+    private static void checkLength(final int length) {
+        if (length > MAX_LABEL_LENGTH) {
+            throw new IllegalArgumentException("The label in the input is too long"); //$NON-NLS-1$
+        }
+    }
+
+    /*
+     * Nameprep: the label is mapped by tables B.1 and B.2 and normalized to
+     * NFKC, then every code point is checked against the prohibited and
+     * unassigned rules.
+     */
+    private static String prepare(final String label, final int flag) {
+        final String prepared = MAPPING.apply(label);
+        for (int i = 0; i < prepared.length(); ) {
+            final int c = prepared.codePointAt(i);
+            i += Character.charCount(c);
+
+            if (isProhibited(c)) {
+                throw new IllegalArgumentException("A prohibited code point was found in the input " + label); //$NON-NLS-1$
+            }
+            if ((flag & ALLOW_UNASSIGNED) == 0 && isUnassigned(c)) {
+                throw new IllegalArgumentException("An unassigned code point was found in the input " + label); //$NON-NLS-1$
+            }
+        }
+        return prepared;
+    }
+
+    /**
+     * Maps a label by tables B.1 and B.2 and normalizes it to NFKC, chosen once when this class is initialized.
+     */
+    private final static UnaryOperator<String> MAPPING = mapping(null);
+
+    /**
+     * J2CL has no normalizer so only labels that need no more than lower casing are mapped. The J2CL build strips
+     * {@link #mapping(String)} so the null argument above resolves to this method.
+     */
+    private static UnaryOperator<String> mapping(final Object j2cl) {
+        return IDN::mapLowerCase;
+    }
+
+    /**
+     * On the JVM labels are case folded and normalized with {@link Normalizer}. The null argument resolves to this
+     * method as String is more specific than Object.
+     */
+    @GwtIncompatible
+    private static UnaryOperator<String> mapping(final String jvm) {
+        return IDN::mapNormalized;
+    }
+
+    /*
+     * Characters mapped to nothing by table B.1 are dropped, sharp s folds to
+     * "ss" and the rest are lower cased. Any other code point the mapping
+     * might change, or that might compose with a neighbour, is rejected.
+     * Prohibited and unassigned code points are kept for prepare to check.
+     */
+    static String mapLowerCase(final String label) {
+        final StringBuilder mapped = new StringBuilder(label.length());
+        for (int i = 0; i < label.length(); ) {
+            final int c = label.codePointAt(i);
+            i += Character.charCount(c);
+            if (isMappedToNothing(c)) {
+                continue;
+            }
+            if (0xdf == c) {
+                mapped.append("ss"); //$NON-NLS-1$
+                continue;
+            }
+            if (c < 0x80 || isInRanges(c, LOWER_CASE_MAPPED)) {
+                mapped.appendCodePoint(Character.toLowerCase(c));
+            } else if (isProhibited(c) || isUnassigned(c)) {
+                mapped.appendCodePoint(c);
+            } else {
+                throw cannotPrepare(label);
+            }
+        }
+        return mapped.toString();
+    }
+
+    private static IllegalArgumentException cannotPrepare(final String label) {
+        return new IllegalArgumentException("A code point that cannot be prepared was found in the input " + label); //$NON-NLS-1$
+    }
+
+    /*
+     * The non ASCII code points whose nameprep mapping is the same as
+     * Character.toLowerCase, which are not combining marks and never the
+     * second of a canonical composition, as inclusive start and end pairs.
+     * Derived from the nameprep of the JDK, which uses Unicode 3.2.
+     */
+    private final static int[] LOWER_CASE_MAPPED = {
+            0xa1, 0xa7, 0xa9, 0xa9, 0xab, 0xac, 0xae, 0xae,
+            0xb0, 0xb1, 0xb6, 0xb7, 0xbb, 0xbb, 0xbf, 0xde,
+            0xe0, 0x12f, 0x131, 0x131, 0x134, 0x13e, 0x141, 0x148,
+            0x14a, 0x17e, 0x180, 0x1c3, 0x1cd, 0x1f0, 0x1f4, 0x220,
+            0x222, 0x233, 0x250, 0x2ad, 0x2b9, 0x2d7, 0x2de, 0x2df,
+            0x2e5, 0x2ee, 0x375, 0x375, 0x386, 0x386, 0x388, 0x38a,
+            0x38c, 0x38c, 0x38e, 0x3a1, 0x3a3, 0x3c1, 0x3c3, 0x3ce,
+            0x3d7, 0x3ef, 0x3f3, 0x3f4, 0x3f6, 0x3f6, 0x400, 0x482,
+            0x48a, 0x4bf, 0x4c1, 0x4ce, 0x4d0, 0x4f5, 0x4f8, 0x4f9,
+            0x500, 0x50f, 0x531, 0x556, 0x559, 0x55f, 0x561, 0x586,
+            0x589, 0x58a, 0x5be, 0x5be, 0x5c0, 0x5c0, 0x5c3, 0x5c3,
+            0x5d0, 0x5ea, 0x5f0, 0x5f4, 0x60c, 0x60c, 0x61b, 0x61b,
+            0x61f, 0x61f, 0x621, 0x63a, 0x640, 0x64a, 0x660, 0x66f,
+            0x671, 0x674, 0x679, 0x6d5, 0x6de, 0x6de, 0x6e5, 0x6e6,
+            0x6e9, 0x6e9, 0x6f0, 0x6fe, 0x700, 0x70d, 0x710, 0x710,
+            0x712, 0x72c, 0x780, 0x7a5, 0x7b1, 0x7b1, 0x905, 0x939,
+            0x93d, 0x93d, 0x950, 0x950, 0x960, 0x961, 0x964, 0x970,
+            0x985, 0x98c, 0x98f, 0x990, 0x993, 0x9a8, 0x9aa, 0x9b0,
+            0x9b2, 0x9b2, 0x9b6, 0x9b9, 0x9e0, 0x9e1, 0x9e6, 0x9fa,
+            0xa05, 0xa0a, 0xa0f, 0xa10, 0xa13, 0xa28, 0xa2a, 0xa30,
+            0xa32, 0xa32, 0xa35, 0xa35, 0xa38, 0xa39, 0xa5c, 0xa5c,
+            0xa66, 0xa6f, 0xa72, 0xa74, 0xa85, 0xa8b, 0xa8d, 0xa8d,
+            0xa8f, 0xa91, 0xa93, 0xaa8, 0xaaa, 0xab0, 0xab2, 0xab3,
+            0xab5, 0xab9, 0xabd, 0xabd, 0xad0, 0xad0, 0xae0, 0xae0,
+            0xae6, 0xaef, 0xb05, 0xb0c, 0xb0f, 0xb10, 0xb13, 0xb28,
+            0xb2a, 0xb30, 0xb32, 0xb33, 0xb36, 0xb39, 0xb3d, 0xb3d,
+            0xb5f, 0xb61, 0xb66, 0xb70, 0xb83, 0xb83, 0xb85, 0xb8a,
+            0xb8e, 0xb90, 0xb92, 0xb95, 0xb99, 0xb9a, 0xb9c, 0xb9c,
+            0xb9e, 0xb9f, 0xba3, 0xba4, 0xba8, 0xbaa, 0xbae, 0xbb5,
+            0xbb7, 0xbb9, 0xbe7, 0xbf2, 0xc05, 0xc0c, 0xc0e, 0xc10,
+            0xc12, 0xc28, 0xc2a, 0xc33, 0xc35, 0xc39, 0xc60, 0xc61,
+            0xc66, 0xc6f, 0xc85, 0xc8c, 0xc8e, 0xc90, 0xc92, 0xca8,
+            0xcaa, 0xcb3, 0xcb5, 0xcb9, 0xcde, 0xcde, 0xce0, 0xce1,
+            0xce6, 0xcef, 0xd05, 0xd0c, 0xd0e, 0xd10, 0xd12, 0xd28,
+            0xd2a, 0xd39, 0xd60, 0xd61, 0xd66, 0xd6f, 0xd85, 0xd96,
+            0xd9a, 0xdb1, 0xdb3, 0xdbb, 0xdbd, 0xdbd, 0xdc0, 0xdc6,
+            0xdf4, 0xdf4, 0xe01, 0xe30, 0xe32, 0xe32, 0xe3f, 0xe46,
+            0xe4f, 0xe5b, 0xe81, 0xe82, 0xe84, 0xe84, 0xe87, 0xe88,
+            0xe8a, 0xe8a, 0xe8d, 0xe8d, 0xe94, 0xe97, 0xe99, 0xe9f,
+            0xea1, 0xea3, 0xea5, 0xea5, 0xea7, 0xea7, 0xeaa, 0xeab,
+            0xead, 0xeb0, 0xeb2, 0xeb2, 0xebd, 0xebd, 0xec0, 0xec4,
+            0xec6, 0xec6, 0xed0, 0xed9, 0xf00, 0xf0b, 0xf0d, 0xf17,
+            0xf1a, 0xf34, 0xf36, 0xf36, 0xf38, 0xf38, 0xf3a, 0xf3d,
+            0xf40, 0xf42, 0xf44, 0xf47, 0xf49, 0xf4c, 0xf4e, 0xf51,
+            0xf53, 0xf56, 0xf58, 0xf5b, 0xf5d, 0xf68, 0xf6a, 0xf6a,
+            0xf85, 0xf85, 0xf88, 0xf8b, 0xfbe, 0xfc5, 0xfc7, 0xfcc,
+            0xfcf, 0xfcf, 0x1000, 0x1021, 0x1023, 0x1027, 0x1029, 0x102a,
+            0x1040, 0x1055, 0x10d0, 0x10f8, 0x10fb, 0x10fb, 0x1100, 0x1159,
+            0x115f, 0x1160, 0x1176, 0x11a2, 0x11c3, 0x11f9, 0x1200, 0x1206,
+            0x1208, 0x1246, 0x1248, 0x1248, 0x124a, 0x124d, 0x1250, 0x1256,
+            0x1258, 0x1258, 0x125a, 0x125d, 0x1260, 0x1286, 0x1288, 0x1288,
+            0x128a, 0x128d, 0x1290, 0x12ae, 0x12b0, 0x12b0, 0x12b2, 0x12b5,
+            0x12b8, 0x12be, 0x12c0, 0x12c0, 0x12c2, 0x12c5, 0x12c8, 0x12ce,
+            0x12d0, 0x12d6, 0x12d8, 0x12ee, 0x12f0, 0x130e, 0x1310, 0x1310,
+            0x1312, 0x1315, 0x1318, 0x131e, 0x1320, 0x1346, 0x1348, 0x135a,
+            0x1361, 0x137c, 0x1401, 0x1676, 0x1681, 0x169c, 0x16a0, 0x16f0,
+            0x1700, 0x170c, 0x170e, 0x1711, 0x1720, 0x1731, 0x1735, 0x1736,
+            0x1740, 0x1751, 0x1760, 0x176c, 0x176e, 0x1770, 0x1780, 0x17b3,
+            0x17d4, 0x17dc, 0x17e0, 0x17e9, 0x1800, 0x1805, 0x1807, 0x180a,
+            0x1810, 0x1819, 0x1820, 0x1877, 0x1880, 0x1884, 0x1887, 0x18a8,
+            0x1e00, 0x1e99, 0x1ea0, 0x1ef9, 0x1f00, 0x1f15, 0x1f18, 0x1f1d,
+            0x1f20, 0x1f45, 0x1f48, 0x1f4d, 0x1f50, 0x1f57, 0x1f59, 0x1f59,
+            0x1f5b, 0x1f5b, 0x1f5d, 0x1f5d, 0x1f5f, 0x1f70, 0x1f72, 0x1f72,
+            0x1f74, 0x1f74, 0x1f76, 0x1f76, 0x1f78, 0x1f78, 0x1f7a, 0x1f7a,
+            0x1f7c, 0x1f7c, 0x1fb0, 0x1fb1, 0x1fb6, 0x1fb6, 0x1fb8, 0x1fba,
+            0x1fc6, 0x1fc6, 0x1fc8, 0x1fc8, 0x1fca, 0x1fca, 0x1fd0, 0x1fd2,
+            0x1fd6, 0x1fda, 0x1fe0, 0x1fe2, 0x1fe4, 0x1fea, 0x1fec, 0x1fec,
+            0x1ff6, 0x1ff6, 0x1ff8, 0x1ff8, 0x1ffa, 0x1ffa, 0x2010, 0x2010,
+            0x2012, 0x2016, 0x2018, 0x2023, 0x2027, 0x2027, 0x2030, 0x2032,
+            0x2035, 0x2035, 0x2038, 0x203b, 0x203d, 0x203d, 0x203f, 0x2046,
+            0x204a, 0x2052, 0x20a0, 0x20a7, 0x20a9, 0x20b1, 0x2104, 0x2104,
+            0x2108, 0x2108, 0x2114, 0x2114, 0x2117, 0x2118, 0x211e, 0x211f,
+            0x2123, 0x2123, 0x2125, 0x2127, 0x2129, 0x212b, 0x212e, 0x212e,
+            0x213a, 0x213a, 0x2141, 0x2144, 0x214a, 0x214b, 0x2180, 0x2182,
+            0x2190, 0x222b, 0x222e, 0x222e, 0x2231, 0x2328, 0x232b, 0x23ce,
+            0x2400, 0x2426, 0x2440, 0x244a, 0x24eb, 0x24fe, 0x2500, 0x2613,
+            0x2616, 0x2617, 0x2619, 0x267d, 0x2680, 0x2689, 0x2701, 0x2704,
+            0x2706, 0x2709, 0x270c, 0x2727, 0x2729, 0x274b, 0x274d, 0x274d,
+            0x274f, 0x2752, 0x2756, 0x2756, 0x2758, 0x275e, 0x2761, 0x2794,
+            0x2798, 0x27af, 0x27b1, 0x27be, 0x27d0, 0x27eb, 0x27f0, 0x2a0b,
+            0x2a0d, 0x2a73, 0x2a77, 0x2adb, 0x2add, 0x2aff, 0x2e80, 0x2e99,
+            0x2e9b, 0x2e9e, 0x2ea0, 0x2ef2, 0x3001, 0x3001, 0x3003, 0x3029,
+            0x3030, 0x3035, 0x3037, 0x3037, 0x303b, 0x303f, 0x3041, 0x3096,
+            0x309d, 0x309e, 0x30a0, 0x30fe, 0x3105, 0x312c, 0x3190, 0x3191,
+            0x31a0, 0x31b7, 0x31f0, 0x31ff, 0x327f, 0x327f, 0x3400, 0x4db5,
+            0x4e00, 0x9fa5, 0xa000, 0xa48c, 0xa490, 0xa4c6, 0xac00, 0xd7a3,
+            0xfa0e, 0xfa0f, 0xfa11, 0xfa11, 0xfa13, 0xfa14, 0xfa1f, 0xfa1f,
+            0xfa21, 0xfa21, 0xfa23, 0xfa24, 0xfa27, 0xfa29, 0xfd3e, 0xfd3f,
+            0xfe45, 0xfe46, 0xfe73, 0xfe73, 0x10300, 0x1031e, 0x10320, 0x10323,
+            0x10330, 0x1034a, 0x10400, 0x10425, 0x10428, 0x1044d, 0x1d000, 0x1d0f5,
+            0x1d100, 0x1d126, 0x1d12a, 0x1d15d, 0x1d16a, 0x1d16c, 0x1d183, 0x1d184,
+            0x1d18c, 0x1d1a9, 0x1d1ae, 0x1d1ba, 0x1d1c1, 0x1d1dd, 0x20000, 0x2a6d6,
+    };
+
+    /*
+     * Table B.2 maps a code point to its case folding, or when normalizing
+     * that would give something folding changes again, to the folding of its
+     * normalized folding. Mapping every code point that way and then
+     * normalizing gives the same result. Unassigned code points are left
+     * alone.
+     */
+    @GwtIncompatible
+    private static String mapNormalized(final String label) {
+        final StringBuilder mapped = new StringBuilder(label.length());
+        for (int i = 0; i < label.length(); ) {
+            final int c = label.codePointAt(i);
+            i += Character.charCount(c);
+            if (isMappedToNothing(c)) {
+                continue;
+            }
+            if (isChangedSinceUnicode32(c)) {
+                throw cannotPrepare(label);
+            }
+            if (isUnassigned(c)) {
+                mapped.appendCodePoint(c);
+            } else {
+                final String folded = fold(String.valueOf(Character.toChars(c)));
+                mapped.append(fold(Normalizer.normalize(folded, Normalizer.Form.NFKC)));
+            }
+        }
+        return normalize(mapped.toString());
+    }
+
+    /*
+     * Normalizes to NFKC, leaving unassigned code points alone. Unicode 3.2
+     * gives them no mapping and a combining class of zero, so the text
+     * between them is normalized on its own.
+     */
+    @GwtIncompatible
+    private static String normalize(final String text) {
+        final StringBuilder normalized = new StringBuilder(text.length());
+        int start = 0;
+        for (int i = 0; i < text.length(); ) {
+            final int c = text.codePointAt(i);
+            final int next = i + Character.charCount(c);
+            if (isUnassigned(c)) {
+                normalized.append(Normalizer.normalize(text.substring(start, i), Normalizer.Form.NFKC))
+                        .appendCodePoint(c);
+                start = next;
+            }
+            i = next;
+        }
+        return normalized.append(Normalizer.normalize(text.substring(start), Normalizer.Form.NFKC))
+                .toString();
+    }
+
+    /*
+     * Upper then lower casing a code point gives its full case folding except
+     * for the dotless i, which folds to itself.
+     */
+    @GwtIncompatible
+    private static String fold(final String text) {
+        final StringBuilder folded = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); ) {
+            final int c = text.codePointAt(i);
+            i += Character.charCount(c);
+            if (0x131 == c) {
+                folded.appendCodePoint(c);
+            } else {
+                folded.append(String.valueOf(Character.toChars(c))
+                        .toUpperCase(Locale.ROOT)
+                        .toLowerCase(Locale.ROOT));
+            }
+        }
+        return folded.toString();
+    }
+
+    /*
+     * Code points whose case or compatibility mapping in the Unicode of the
+     * JDK differs from Unicode 3.2 as used by nameprep.
+     */
+    @GwtIncompatible
+    private static boolean isChangedSinceUnicode32(final int c) {
+        return 0x4c0 == c
+                || (c >= 0x10a0 && c <= 0x10c5)
+                || (c >= 0x13a0 && c <= 0x13f4)
+                || 0x2132 == c
+                || 0x2183 == c
+                || 0x2f868 == c
+                || 0x2f874 == c
+                || 0x2f91f == c
+                || 0x2f95f == c
+                || 0x2f9bf == c;
+    }
+
+    /*
+     * The non ASCII code points of the RFC 3454 tables C.1.2 to C.9 as
+     * inclusive start and end pairs, sorted and merged. The non characters
+     * at the end of each plane are checked separately.
+     */
+    private final static int[] PROHIBITED = {
+            0x80, 0xa0,
+            0x340, 0x341,
+            0x6dd, 0x6dd,
+            0x70f, 0x70f,
+            0x1680, 0x1680,
+            0x180e, 0x180e,
+            0x2000, 0x200f,
+            0x2028, 0x202f,
+            0x205f, 0x2063,
+            0x206a, 0x206f,
+            0x2ff0, 0x2ffb,
+            0x3000, 0x3000,
+            0xd800, 0xf8ff,
+            0xfdd0, 0xfdef,
+            0xfeff, 0xfeff,
+            0xfff9, 0xffff,
+            0x1d173, 0x1d17a,
+            0xe0001, 0xe0001,
+            0xe0020, 0xe007f,
+            0xf0000, 0x10ffff,
+    };
+
+    /*
+     * Non ASCII spaces and controls, private use, surrogates, non characters
+     * and the remaining prohibited code points. ASCII is left to the STD3
+     * rules.
+     */
+    private static boolean isProhibited(final int c) {
+        if (c < 0x80) {
+            return false;
+        }
+        return (c & 0xfffe) == 0xfffe || isInRanges(c, PROHIBITED);
+    }
+
+    /*
+     * The code points unassigned in Unicode 3.2, table A.1 of RFC 3454, as
+     * inclusive start and end pairs.
+     */
+    private final static int[] UNASSIGNED = {
+            0x221, 0x221, 0x234, 0x24f, 0x2ae, 0x2af, 0x2ef, 0x2ff,
+            0x350, 0x35f, 0x370, 0x373, 0x376, 0x379, 0x37b, 0x37d,
+            0x37f, 0x383, 0x38b, 0x38b, 0x38d, 0x38d, 0x3a2, 0x3a2,
+            0x3cf, 0x3cf, 0x3f7, 0x3ff, 0x487, 0x487, 0x4cf, 0x4cf,
+            0x4f6, 0x4f7, 0x4fa, 0x4ff, 0x510, 0x530, 0x557, 0x558,
+            0x560, 0x560, 0x588, 0x588, 0x58b, 0x590, 0x5a2, 0x5a2,
+            0x5ba, 0x5ba, 0x5c5, 0x5cf, 0x5eb, 0x5ef, 0x5f5, 0x60b,
+            0x60d, 0x61a, 0x61c, 0x61e, 0x620, 0x620, 0x63b, 0x63f,
+            0x656, 0x65f, 0x6ee, 0x6ef, 0x6ff, 0x6ff, 0x70e, 0x70e,
+            0x72d, 0x72f, 0x74b, 0x77f, 0x7b2, 0x900, 0x904, 0x904,
+            0x93a, 0x93b, 0x94e, 0x94f, 0x955, 0x957, 0x971, 0x980,
+            0x984, 0x984, 0x98d, 0x98e, 0x991, 0x992, 0x9a9, 0x9a9,
+            0x9b1, 0x9b1, 0x9b3, 0x9b5, 0x9ba, 0x9bb, 0x9bd, 0x9bd,
+            0x9c5, 0x9c6, 0x9c9, 0x9ca, 0x9ce, 0x9d6, 0x9d8, 0x9db,
+            0x9de, 0x9de, 0x9e4, 0x9e5, 0x9fb, 0xa01, 0xa03, 0xa04,
+            0xa0b, 0xa0e, 0xa11, 0xa12, 0xa29, 0xa29, 0xa31, 0xa31,
+            0xa34, 0xa34, 0xa37, 0xa37, 0xa3a, 0xa3b, 0xa3d, 0xa3d,
+            0xa43, 0xa46, 0xa49, 0xa4a, 0xa4e, 0xa58, 0xa5d, 0xa5d,
+            0xa5f, 0xa65, 0xa75, 0xa80, 0xa84, 0xa84, 0xa8c, 0xa8c,
+            0xa8e, 0xa8e, 0xa92, 0xa92, 0xaa9, 0xaa9, 0xab1, 0xab1,
+            0xab4, 0xab4, 0xaba, 0xabb, 0xac6, 0xac6, 0xaca, 0xaca,
+            0xace, 0xacf, 0xad1, 0xadf, 0xae1, 0xae5, 0xaf0, 0xb00,
+            0xb04, 0xb04, 0xb0d, 0xb0e, 0xb11, 0xb12, 0xb29, 0xb29,
+            0xb31, 0xb31, 0xb34, 0xb35, 0xb3a, 0xb3b, 0xb44, 0xb46,
+            0xb49, 0xb4a, 0xb4e, 0xb55, 0xb58, 0xb5b, 0xb5e, 0xb5e,
+            0xb62, 0xb65, 0xb71, 0xb81, 0xb84, 0xb84, 0xb8b, 0xb8d,
+            0xb91, 0xb91, 0xb96, 0xb98, 0xb9b, 0xb9b, 0xb9d, 0xb9d,
+            0xba0, 0xba2, 0xba5, 0xba7, 0xbab, 0xbad, 0xbb6, 0xbb6,
+            0xbba, 0xbbd, 0xbc3, 0xbc5, 0xbc9, 0xbc9, 0xbce, 0xbd6,
+            0xbd8, 0xbe6, 0xbf3, 0xc00, 0xc04, 0xc04, 0xc0d, 0xc0d,
+            0xc11, 0xc11, 0xc29, 0xc29, 0xc34, 0xc34, 0xc3a, 0xc3d,
+            0xc45, 0xc45, 0xc49, 0xc49, 0xc4e, 0xc54, 0xc57, 0xc5f,
+            0xc62, 0xc65, 0xc70, 0xc81, 0xc84, 0xc84, 0xc8d, 0xc8d,
+            0xc91, 0xc91, 0xca9, 0xca9, 0xcb4, 0xcb4, 0xcba, 0xcbd,
+            0xcc5, 0xcc5, 0xcc9, 0xcc9, 0xcce, 0xcd4, 0xcd7, 0xcdd,
+            0xcdf, 0xcdf, 0xce2, 0xce5, 0xcf0, 0xd01, 0xd04, 0xd04,
+            0xd0d, 0xd0d, 0xd11, 0xd11, 0xd29, 0xd29, 0xd3a, 0xd3d,
+            0xd44, 0xd45, 0xd49, 0xd49, 0xd4e, 0xd56, 0xd58, 0xd5f,
+            0xd62, 0xd65, 0xd70, 0xd81, 0xd84, 0xd84, 0xd97, 0xd99,
+            0xdb2, 0xdb2, 0xdbc, 0xdbc, 0xdbe, 0xdbf, 0xdc7, 0xdc9,
+            0xdcb, 0xdce, 0xdd5, 0xdd5, 0xdd7, 0xdd7, 0xde0, 0xdf1,
+            0xdf5, 0xe00, 0xe3b, 0xe3e, 0xe5c, 0xe80, 0xe83, 0xe83,
+            0xe85, 0xe86, 0xe89, 0xe89, 0xe8b, 0xe8c, 0xe8e, 0xe93,
+            0xe98, 0xe98, 0xea0, 0xea0, 0xea4, 0xea4, 0xea6, 0xea6,
+            0xea8, 0xea9, 0xeac, 0xeac, 0xeba, 0xeba, 0xebe, 0xebf,
+            0xec5, 0xec5, 0xec7, 0xec7, 0xece, 0xecf, 0xeda, 0xedb,
+            0xede, 0xeff, 0xf48, 0xf48, 0xf6b, 0xf70, 0xf8c, 0xf8f,
+            0xf98, 0xf98, 0xfbd, 0xfbd, 0xfcd, 0xfce, 0xfd0, 0xfff,
+            0x1022, 0x1022, 0x1028, 0x1028, 0x102b, 0x102b, 0x1033, 0x1035,
+            0x103a, 0x103f, 0x105a, 0x109f, 0x10c6, 0x10cf, 0x10f9, 0x10fa,
+            0x10fc, 0x10ff, 0x115a, 0x115e, 0x11a3, 0x11a7, 0x11fa, 0x11ff,
+            0x1207, 0x1207, 0x1247, 0x1247, 0x1249, 0x1249, 0x124e, 0x124f,
+            0x1257, 0x1257, 0x1259, 0x1259, 0x125e, 0x125f, 0x1287, 0x1287,
+            0x1289, 0x1289, 0x128e, 0x128f, 0x12af, 0x12af, 0x12b1, 0x12b1,
+            0x12b6, 0x12b7, 0x12bf, 0x12bf, 0x12c1, 0x12c1, 0x12c6, 0x12c7,
+            0x12cf, 0x12cf, 0x12d7, 0x12d7, 0x12ef, 0x12ef, 0x130f, 0x130f,
+            0x1311, 0x1311, 0x1316, 0x1317, 0x131f, 0x131f, 0x1347, 0x1347,
+            0x135b, 0x1360, 0x137d, 0x139f, 0x13f5, 0x1400, 0x1677, 0x167f,
+            0x169d, 0x169f, 0x16f1, 0x16ff, 0x170d, 0x170d, 0x1715, 0x171f,
+            0x1737, 0x173f, 0x1754, 0x175f, 0x176d, 0x176d, 0x1771, 0x1771,
+            0x1774, 0x177f, 0x17dd, 0x17df, 0x17ea, 0x17ff, 0x180f, 0x180f,
+            0x181a, 0x181f, 0x1878, 0x187f, 0x18aa, 0x1dff, 0x1e9c, 0x1e9f,
+            0x1efa, 0x1eff, 0x1f16, 0x1f17, 0x1f1e, 0x1f1f, 0x1f46, 0x1f47,
+            0x1f4e, 0x1f4f, 0x1f58, 0x1f58, 0x1f5a, 0x1f5a, 0x1f5c, 0x1f5c,
+            0x1f5e, 0x1f5e, 0x1f7e, 0x1f7f, 0x1fb5, 0x1fb5, 0x1fc5, 0x1fc5,
+            0x1fd4, 0x1fd5, 0x1fdc, 0x1fdc, 0x1ff0, 0x1ff1, 0x1ff5, 0x1ff5,
+            0x1fff, 0x1fff, 0x2053, 0x2056, 0x2058, 0x205e, 0x2064, 0x2069,
+            0x2072, 0x2073, 0x208f, 0x209f, 0x20b2, 0x20cf, 0x20eb, 0x20ff,
+            0x213b, 0x213c, 0x214c, 0x2152, 0x2184, 0x218f, 0x23cf, 0x23ff,
+            0x2427, 0x243f, 0x244b, 0x245f, 0x24ff, 0x24ff, 0x2614, 0x2615,
+            0x2618, 0x2618, 0x267e, 0x267f, 0x268a, 0x2700, 0x2705, 0x2705,
+            0x270a, 0x270b, 0x2728, 0x2728, 0x274c, 0x274c, 0x274e, 0x274e,
+            0x2753, 0x2755, 0x2757, 0x2757, 0x275f, 0x2760, 0x2795, 0x2797,
+            0x27b0, 0x27b0, 0x27bf, 0x27cf, 0x27ec, 0x27ef, 0x2b00, 0x2e7f,
+            0x2e9a, 0x2e9a, 0x2ef4, 0x2eff, 0x2fd6, 0x2fef, 0x2ffc, 0x2fff,
+            0x3040, 0x3040, 0x3097, 0x3098, 0x3100, 0x3104, 0x312d, 0x3130,
+            0x318f, 0x318f, 0x31b8, 0x31ef, 0x321d, 0x321f, 0x3244, 0x3250,
+            0x327c, 0x327e, 0x32cc, 0x32cf, 0x32ff, 0x32ff, 0x3377, 0x337a,
+            0x33de, 0x33df, 0x33ff, 0x33ff, 0x4db6, 0x4dff, 0x9fa6, 0x9fff,
+            0xa48d, 0xa48f, 0xa4c7, 0xabff, 0xd7a4, 0xd7ff, 0xfa2e, 0xfa2f,
+            0xfa6b, 0xfaff, 0xfb07, 0xfb12, 0xfb18, 0xfb1c, 0xfb37, 0xfb37,
+            0xfb3d, 0xfb3d, 0xfb3f, 0xfb3f, 0xfb42, 0xfb42, 0xfb45, 0xfb45,
+            0xfbb2, 0xfbd2, 0xfd40, 0xfd4f, 0xfd90, 0xfd91, 0xfdc8, 0xfdcf,
+            0xfdfd, 0xfdff, 0xfe10, 0xfe1f, 0xfe24, 0xfe2f, 0xfe47, 0xfe48,
+            0xfe53, 0xfe53, 0xfe67, 0xfe67, 0xfe6c, 0xfe6f, 0xfe75, 0xfe75,
+            0xfefd, 0xfefe, 0xff00, 0xff00, 0xffbf, 0xffc1, 0xffc8, 0xffc9,
+            0xffd0, 0xffd1, 0xffd8, 0xffd9, 0xffdd, 0xffdf, 0xffe7, 0xffe7,
+            0xffef, 0xfff8, 0x10000, 0x102ff, 0x1031f, 0x1031f, 0x10324, 0x1032f,
+            0x1034b, 0x103ff, 0x10426, 0x10427, 0x1044e, 0x1cfff, 0x1d0f6, 0x1d0ff,
+            0x1d127, 0x1d129, 0x1d1de, 0x1d3ff, 0x1d455, 0x1d455, 0x1d49d, 0x1d49d,
+            0x1d4a0, 0x1d4a1, 0x1d4a3, 0x1d4a4, 0x1d4a7, 0x1d4a8, 0x1d4ad, 0x1d4ad,
+            0x1d4ba, 0x1d4ba, 0x1d4bc, 0x1d4bc, 0x1d4c1, 0x1d4c1, 0x1d4c4, 0x1d4c4,
+            0x1d506, 0x1d506, 0x1d50b, 0x1d50c, 0x1d515, 0x1d515, 0x1d51d, 0x1d51d,
+            0x1d53a, 0x1d53a, 0x1d53f, 0x1d53f, 0x1d545, 0x1d545, 0x1d547, 0x1d549,
+            0x1d551, 0x1d551, 0x1d6a4, 0x1d6a7, 0x1d7ca, 0x1d7cd, 0x1d800, 0x1fffd,
+            0x2a6d7, 0x2f7ff, 0x2fa1e, 0x2fffd, 0x30000, 0x3fffd, 0x40000, 0x4fffd,
+            0x50000, 0x5fffd, 0x60000, 0x6fffd, 0x70000, 0x7fffd, 0x80000, 0x8fffd,
+            0x90000, 0x9fffd, 0xa0000, 0xafffd, 0xb0000, 0xbfffd, 0xc0000, 0xcfffd,
+            0xd0000, 0xdfffd, 0xe0000, 0xe0000, 0xe0002, 0xe001f, 0xe0080, 0xefffd,
+    };
+
+    private static boolean isUnassigned(final int c) {
+        return isInRanges(c, UNASSIGNED);
+    }
+
+    /*
+     * Binary searches sorted inclusive start and end pairs.
+     */
+    private static boolean isInRanges(final int c, final int[] ranges) {
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (c < ranges[mid * 2]) {
+                high = mid - 1;
+            } else if (c > ranges[mid * 2 + 1]) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMappedToNothing(final int c) {
+        return 0xad == c || 0x34f == c || 0x1806 == c
+                || (c >= 0x180b && c <= 0x180d)
+                || (c >= 0x200b && c <= 0x200d)
+                || 0x2060 == c
+                || (c >= 0xfe00 && c <= 0xfe0f)
+                || 0xfeff == c;
+    }
+
+    private static boolean isNonLDH(final char c) {
+        return c <= 0x2c || 0x2e == c || 0x2f == c
+                || (c >= 0x3a && c <= 0x40)
+                || (c >= 0x5b && c <= 0x60)
+                || (c >= 0x7b && c <= 0x7f);
+    }
+
+    private static boolean isRootLabel(final String input) {
+        return input.length() == 1 && isDot(input.charAt(0));
+    }
+
+    private static int nextDot(final String input, final int start) {
+        int i = start;
+        while (i < input.length() && !isDot(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /*
+     * Full stop, ideographic full stop, fullwidth full stop and halfwidth
+     * ideographic full stop all separate labels.
+     */
+    private static boolean isDot(final char c) {
+        return '.' == c || '\u3002' == c || '\uff0e' == c || '\uff61' == c;
+    }
+
+    private static boolean isAllASCII(final String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) > 0x7f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWithACEPrefix(final String label) {
+        return label.regionMatches(true, 0, ACE_PREFIX, 0, ACE_PREFIX.length());
+    }
+
+    private static String toLowerCaseASCII(final String input) {
+        final char[] chars = input.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            final char c = chars[i];
+            if (c >= 'A' && c <= 'Z') {
+                chars[i] = (char) (c + ('a' - 'A'));
+            }
+        }
+        return new String(chars);
+    }
+
+    private final static Entry[] ENTRIES = new Entry[CACHE_SIZE];
+
+    private static int next;
+
+    /**
+     * A name, the flag it was converted with and its ASCII form, immutable so a racing reader never sees half an entry.
+     */
+    private static final class Entry {
+
+        Entry(final String input, final int flag, final String ascii) {
+            this.input = input;
+            this.flag = flag;
+            this.ascii = ascii;
+        }
+
+        final String input;
+
+        final int flag;
+
+        final String ascii;
+    }
+
+    /**
+     * Prevents this class from being instantiated.
+     */
+    private IDN() {
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes percent escapes like {@link URLDecoder} but never fails, recovering from bad input the way browsers do.
+ * A {@code %} that is not followed by two hex digits is kept literally, and bytes that are not valid in the charset
+ * become U+FFFD. Each call is a single pass that throws nothing, which suits scraped or otherwise untrusted query
+ * strings.
+ */
+public final class LenientURLDecoder {
+
+    /**
+     * Decodes a {@code x-www-form-urlencoded} string, where {@code '+'} is a space.
+     *
+     * @param s
+     *            the encoded string.
+     * @param charset
+     *            the charset of the escaped bytes.
+     * @return the decoded string.
+     */
+    public static String decode(final String s, final Charset charset) {
+        if (charset == null) {
+            throw new NullPointerException("Charset"); //$NON-NLS-1$
+        }
+        return decode(s, charset, true);
+    }
+
+    /**
+     * Decodes a URI component such as a path segment, where {@code '+'} is kept and escapes are UTF-8.
+     *
+     * @param s
+     *            the encoded component.
+     * @return the decoded component.
+     */
+    public static String decodeComponent(final String s) {
+        return decode(s, StandardCharsets.UTF_8, false);
+    }
+
+    private static String decode(final String s,
+                                 final Charset charset,
+                                 final boolean plusIsSpace) {
+        final int length = s.length();
+        if (s.indexOf('%') == -1 && (!plusIsSpace || s.indexOf('+') == -1)) {
+            return s;
+        }
+
+        // each %XX decodes to at most one char, so the input length is enough
+        final ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            final char[] chars = scratch.chars(length);
+            final byte[] bytes = scratch.bytes(length / 3);
+            final ByteRunDecoder decoder = ByteRunDecoder.with(charset);
+
+            int charCount = 0;
+            int byteCount = 0;
+
+            for (int i = 0; i < length; i++) {
+                final char c = s.charAt(i);
+                if ('%' == c && i + 2 < length) {
+                    final int hi = hexValue(s.charAt(i + 1));
+                    final int lo = hexValue(s.charAt(i + 2));
+                    if (hi >= 0 && lo >= 0) {
+                        bytes[byteCount++] = (byte) ((hi << 4) + lo);
+                        i += 2;
+                        continue;
+                    }
+                }
+
+                if (byteCount > 0) {
+                    charCount = decoder.decode(bytes, byteCount, chars, charCount);
+                    byteCount = 0;
+                }
+                chars[charCount++] = plusIsSpace && '+' == c ?
+                        ' ' :
+                        c;
+            }
+            if (byteCount > 0) {
+                charCount = decoder.decode(bytes, byteCount, chars, charCount);
+            }
+
+            return new String(chars, 0, charCount);
+        } finally {
+            scratch.release();
+        }
+    }
+
+    /**
+     * Only ASCII hex digits count, unlike {@link Character#digit(char, int)} which also accepts fullwidth digits.
+     */
+    private static int hexValue(final char c) {
+        final int value;
+        if (c >= '0' && c <= '9') {
+            value = c - '0';
+        } else if (c >= 'A' && c <= 'F') {
+            value = c - 'A' + 10;
+        } else if (c >= 'a' && c <= 'f') {
+            value = c - 'a' + 10;
+        } else {
+            value = -1;
+        }
+        return value;
+    }
+
+    /**
+     * Stop creation
+     */
+    private LenientURLDecoder() {
+        throw new UnsupportedOperationException();
+    }
+}
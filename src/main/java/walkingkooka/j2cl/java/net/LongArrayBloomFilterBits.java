@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * {@link BloomFilterBits} in a plain long array, enough when there is only one thread as under J2CL.
+ */
+final class LongArrayBloomFilterBits implements BloomFilterBits {
+
+    LongArrayBloomFilterBits(final int length) {
+        this.words = new long[length];
+    }
+
+    @Override
+    public boolean set(final long bit) {
+        final int index = (int) (bit >>> 6);
+        final long mask = 1L << bit;
+        final long word = this.words[index];
+        this.words[index] = word | mask;
+        return 0 == (word & mask);
+    }
+
+    @Override
+    public boolean get(final long bit) {
+        return 0 != (this.words[(int) (bit >>> 6)] & (1L << bit));
+    }
+
+    @Override
+    public int length() {
+        return this.words.length;
+    }
+
+    @Override
+    public long word(final int index) {
+        return this.words[index];
+    }
+
+    @Override
+    public void setWord(final int index,
+                        final long word) {
+        this.words[index] = word;
+    }
+
+    private final long[] words;
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * The result of routing a path with a {@link PathRouter}. Captured parameters are held as the index of their segment
+ * and are only copied or decoded when read.
+ */
+public final class PathMatch<T> {
+
+    PathMatch(final String template,
+              final T target,
+              final String[] names,
+              final int[] indexes,
+              final int wildcard,
+              final PathSegments segments) {
+        this.template = template;
+        this.target = target;
+        this.names = names;
+        this.indexes = indexes;
+        this.wildcard = wildcard;
+        this.segments = segments;
+    }
+
+    /**
+     * The template that matched.
+     */
+    public String template() {
+        return this.template;
+    }
+
+    /**
+     * The target added with the template.
+     */
+    public T target() {
+        return this.target;
+    }
+
+    /**
+     * Returns the decoded value of the named parameter, or null if the template has no such parameter.
+     */
+    public String parameter(final String name) {
+        final int index = this.indexOf(name);
+        return -1 == index ?
+                null :
+                this.segments.segment(index);
+    }
+
+    /**
+     * Returns the named parameter as it appears in the path, or null if the template has no such parameter.
+     */
+    public String rawParameter(final String name) {
+        final int index = this.indexOf(name);
+        return -1 == index ?
+                null :
+                this.segments.rawSegment(index);
+    }
+
+    private int indexOf(final String name) {
+        if (null == name) {
+            throw new NullPointerException("name"); //$NON-NLS-1$
+        }
+
+        final String[] names = this.names;
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return this.indexes[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the part of the raw path matched by a trailing {@code *}, without its leading {@code '/'}, or null when
+     * the template has no wildcard.
+     */
+    public String remainder() {
+        final int wildcard = this.wildcard;
+        return -1 == wildcard ?
+                null :
+                this.segments.toString().substring(this.segments.rawStart(wildcard));
+    }
+
+    /**
+     * The segments of the path that was routed.
+     */
+    public PathSegments segments() {
+        return this.segments;
+    }
+
+    @Override
+    public String toString() {
+        return this.template + " " + this.segments; //$NON-NLS-1$
+    }
+
+    private final String template;
+
+    private final T target;
+
+    private final String[] names;
+
+    private final int[] indexes;
+
+    private final int wildcard;
+
+    private final PathSegments segments;
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * Routes raw paths to targets using templates such as {@code /v1/accounts/{id}/orders/*}. Templates are compiled into
+ * a tree with one level for each segment, where the literal children of a node are found by hashing the raw segment
+ * in place, so routing a path costs one lookup for each of its segments however many templates were added.
+ * <p>
+ * Each template segment is one of:
+ * <ul>
+ * <li>a literal, which must equal the raw path segment, so escapes must be written as the path would have them</li>
+ * <li>{@code {name}}, which captures any non-empty segment</li>
+ * <li>{@code *}, only as the last segment, which matches every remaining segment, of which there must be at least
+ * one</li>
+ * </ul>
+ * A literal is preferred to a parameter which is preferred to a wildcard, trying the next when the rest of the path
+ * does not match. Matrix parameters are ignored when routing but are available from {@link PathMatch#segments()}.
+ * Nothing is decoded while routing, captured parameters are decoded when read from the returned {@link PathMatch}.
+ * <p>
+ * Templates may not be added while other threads are routing.
+ */
+public final class PathRouter<T> {
+
+    /**
+     * Creates a router without any templates.
+     */
+    public PathRouter() {
+        super();
+    }
+
+    /**
+     * Adds a template and the target it routes to.
+     *
+     * @throws IllegalArgumentException if the template is invalid or was already added.
+     */
+    public PathRouter<T> add(final String template,
+                             final T target) {
+        if (null == template) {
+            throw new NullPointerException("template"); //$NON-NLS-1$
+        }
+        if (null == target) {
+            throw new NullPointerException("target"); //$NON-NLS-1$
+        }
+
+        if (template.indexOf(';') != -1) {
+            throw invalidTemplate("Matrix parameters", template); //$NON-NLS-1$
+        }
+
+        final PathSegments segments = PathSegments.parse(template);
+        final int count = segments.size();
+        final String[] names = new String[count];
+        final int[] indexes = new int[count];
+        int parameters = 0;
+        int wildcard = -1;
+        Node<T> node = this.root;
+
+        for (int i = 0; i < count; i++) {
+            final String segment = segments.rawSegment(i);
+            if ("*".equals(segment)) { //$NON-NLS-1$
+                if (i != count - 1) {
+                    throw invalidTemplate("Wildcard not last", template); //$NON-NLS-1$
+                }
+                wildcard = i;
+            } else if (segment.startsWith("{") && segment.endsWith("}")) { //$NON-NLS-1$ //$NON-NLS-2$
+                final String name = segment.substring(1, segment.length() - 1);
+                if (name.isEmpty() || name.indexOf('{') != -1 || name.indexOf('}') != -1) {
+                    throw invalidTemplate("Invalid parameter", template); //$NON-NLS-1$
+                }
+                for (int j = 0; j < parameters; j++) {
+                    if (names[j].equals(name)) {
+                        throw invalidTemplate("Duplicate parameter " + name, template); //$NON-NLS-1$
+                    }
+                }
+                names[parameters] = name;
+                indexes[parameters] = i;
+                parameters++;
+
+                if (null == node.parameter) {
+                    node.parameter = new Node<>();
+                }
+                node = node.parameter;
+            } else {
+                if (segment.indexOf('{') != -1 || segment.indexOf('}') != -1) {
+                    throw invalidTemplate("Invalid parameter", template); //$NON-NLS-1$
+                }
+                node = node.literal(segment);
+            }
+        }
+
+        final Route<T> route = new Route<>(template,
+                target,
+                copy(names, parameters),
+                copy(indexes, parameters),
+                wildcard);
+        if (-1 != wildcard) {
+            if (null != node.wildcard) {
+                throw invalidTemplate("Duplicate", template); //$NON-NLS-1$
+            }
+            node.wildcard = route;
+        } else {
+            if (null != node.route) {
+                throw invalidTemplate("Duplicate", template); //$NON-NLS-1$
+            }
+            node.route = route;
+        }
+        return this;
+    }
+
+    private static IllegalArgumentException invalidTemplate(final String message,
+                                                            final String template) {
+        return new IllegalArgumentException(message + " in template " + template); //$NON-NLS-1$
+    }
+
+    private static String[] copy(final String[] array,
+                                 final int length) {
+        final String[] copy = new String[length];
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+
+    private static int[] copy(final int[] array,
+                              final int length) {
+        final int[] copy = new int[length];
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+
+    /**
+     * Routes the raw path of the given {@link URI}, returning null when no template matches.
+     */
+    public PathMatch<T> route(final URI uri) {
+        return this.route(uri.getRawPath());
+    }
+
+    /**
+     * Routes the given raw path, which may be null, returning null when no template matches.
+     */
+    public PathMatch<T> route(final String rawPath) {
+        final PathSegments segments = PathSegments.parse(rawPath);
+        final Route<T> route = this.root.match(segments, segments.toString(), 0);
+        return null == route ?
+                null :
+                new PathMatch<>(route.template,
+                        route.target,
+                        route.names,
+                        route.indexes,
+                        route.wildcard,
+                        segments);
+    }
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * A template that was added.
+     */
+    private static final class Route<T> {
+
+        Route(final String template,
+              final T target,
+              final String[] names,
+              final int[] indexes,
+              final int wildcard) {
+            this.template = template;
+            this.target = target;
+            this.names = names;
+            this.indexes = indexes;
+            this.wildcard = wildcard;
+        }
+
+        final String template;
+
+        final T target;
+
+        /**
+         * The parameter names and the index of the segment each captures, which is the same for every path as each
+         * template segment before a wildcard matches one path segment.
+         */
+        final String[] names;
+
+        final int[] indexes;
+
+        /**
+         * The index of the first segment matched by the wildcard or -1.
+         */
+        final int wildcard;
+    }
+
+    /**
+     * One level of the tree, holding its literal children in an open addressing table keyed by raw segment.
+     */
+    private static final class Node<T> {
+
+        Route<T> match(final PathSegments segments,
+                       final String path,
+                       final int index) {
+            if (index == segments.size()) {
+                return this.route;
+            }
+
+            final int start = segments.rawStart(index);
+            final int end = segments.rawEnd(index);
+
+            final Node<T> literal = this.find(path, start, end);
+            if (null != literal) {
+                final Route<T> route = literal.match(segments, path, index + 1);
+                if (null != route) {
+                    return route;
+                }
+            }
+
+            final Node<T> parameter = this.parameter;
+            if (null != parameter && end > start) {
+                final Route<T> route = parameter.match(segments, path, index + 1);
+                if (null != route) {
+                    return route;
+                }
+            }
+
+            return this.wildcard;
+        }
+
+        /**
+         * Returns the literal child for the raw segment between start and end without copying it, or null.
+         */
+        private Node<T> find(final String path,
+                             final int start,
+                             final int end) {
+            final String[] keys = this.keys;
+            if (null == keys) {
+                return null;
+            }
+
+            final int length = end - start;
+            final int mask = keys.length - 1;
+            for (int i = hash(path, start, end) & mask; ; i = (i + 1) & mask) {
+                final String key = keys[i];
+                if (null == key) {
+                    return null;
+                }
+                if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+                    return this.children[i];
+                }
+            }
+        }
+
+        /**
+         * Returns the literal child for the given segment, adding it if necessary.
+         */
+        Node<T> literal(final String segment) {
+            Node<T> child = this.find(segment, 0, segment.length());
+            if (null == child) {
+                if (null == this.keys || (this.size + 1) * 4 > this.keys.length * 3) {
+                    this.resize();
+                }
+                child = new Node<>();
+                this.put(segment, child);
+                this.size++;
+            }
+            return child;
+        }
+
+        private void resize() {
+            final String[] keys = this.keys;
+            final Node<T>[] children = this.children;
+
+            this.keys = new String[null == keys ? 4 : keys.length * 2];
+            this.children = newChildren(this.keys.length);
+
+            if (null != keys) {
+                for (int i = 0; i < keys.length; i++) {
+                    if (null != keys[i]) {
+                        this.put(keys[i], children[i]);
+                    }
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newChildren(final int length) {
+            return (Node<T>[]) new Node<?>[length];
+        }
+
+        private void put(final String key,
+                         final Node<T> child) {
+            final String[] keys = this.keys;
+            final int mask = keys.length - 1;
+            int i = hash(key, 0, key.length()) & mask;
+            while (null != keys[i]) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            this.children[i] = child;
+        }
+
+        private static int hash(final String path,
+                                final int start,
+                                final int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+            return hash ^ (hash >>> 16);
+        }
+
+        private String[] keys;
+
+        private Node<T>[] children;
+
+        private int size;
+
+        Node<T> parameter;
+
+        Route<T> route;
+
+        Route<T> wildcard;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A read only view of the segments in a raw path such as {@code /a/b;v=1/c}. Parsing records where each segment and
+ * its matrix parameters start and end in one pass over the path, and nothing is copied or decoded until asked for.
+ * Each segment is decoded on its own, so an escaped {@code %2F} stays within its segment rather than splitting it.
+ * <p>
+ * A leading {@code '/'} does not start an empty segment, while any other {@code '/'} does, so {@code /a//b/} has the
+ * four segments {@code a}, an empty segment, {@code b} and a trailing empty segment. Everything after the first
+ * {@code ';'} of a segment holds its {@code ;}-separated matrix parameters, which are not part of the segment.
+ * Dot segments are not removed, {@link URI#normalize()} the URI first when that matters.
+ */
+public final class PathSegments implements Iterable<String> {
+
+    /**
+     * Returns the segments in the raw path of the given {@link URI}, which is empty for an opaque URI.
+     */
+    public static PathSegments with(final URI uri) {
+        return parse(uri.getRawPath());
+    }
+
+    /**
+     * Returns the segments in the path of the given {@link URL}.
+     */
+    public static PathSegments with(final URL url) {
+        return parse(url.getPath());
+    }
+
+    /**
+     * Returns the segments in the given raw path, which may be null. The path is not checked, so a bad escape is only
+     * reported when its segment or matrix parameter is decoded.
+     */
+    public static PathSegments parse(final String rawPath) {
+        if (null == rawPath || rawPath.isEmpty()) {
+            return new PathSegments("", new int[0], 0); //$NON-NLS-1$
+        }
+
+        final int length = rawPath.length();
+        final int first = '/' == rawPath.charAt(0) ? 1 : 0;
+
+        int segments = 1;
+        for (int i = rawPath.indexOf('/', first); i != -1; i = rawPath.indexOf('/', i + 1)) {
+            segments++;
+        }
+
+        // start, ';' or end when there are no matrix parameters, end for each segment
+        final int[] bounds = new int[segments * 3];
+        int count = 0;
+        int start = first;
+        int semicolon = -1;
+
+        for (int i = first; i <= length; i++) {
+            final char c = i < length ?
+                    rawPath.charAt(i) :
+                    '/';
+            if ('/' == c) {
+                bounds[count * 3] = start;
+                bounds[count * 3 + 1] = -1 == semicolon ? i : semicolon;
+                bounds[count * 3 + 2] = i;
+                count++;
+
+                start = i + 1;
+                semicolon = -1;
+            } else if (';' == c && -1 == semicolon) {
+                semicolon = i;
+            }
+        }
+
+        return new PathSegments(rawPath, bounds, count);
+    }
+
+    private PathSegments(final String path,
+                         final int[] bounds,
+                         final int count) {
+        this.path = path;
+        this.bounds = bounds;
+        this.count = count;
+    }
+
+    /**
+     * The number of segments.
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Returns the decoded segment at index without its matrix parameters.
+     */
+    public String segment(final int index) {
+        return decode(this.rawSegment(index));
+    }
+
+    /**
+     * Returns the segment at index without its matrix parameters as it appears in the path.
+     */
+    public String rawSegment(final int index) {
+        final int i = this.checkIndex(index);
+        return this.path.substring(this.bounds[i], this.bounds[i + 1]);
+    }
+
+    /**
+     * Returns true if the decoded segment at index equals the given text. A segment without escapes is compared in
+     * place without being copied.
+     */
+    public boolean segmentEquals(final int index,
+                                 final String segment) {
+        if (null == segment) {
+            throw new NullPointerException("segment"); //$NON-NLS-1$
+        }
+
+        final int i = this.checkIndex(index);
+        final String path = this.path;
+        final int start = this.bounds[i];
+        final int end = this.bounds[i + 1];
+        final int rawLength = end - start;
+        final int length = segment.length();
+
+        // an escape decodes to at least one char
+        return path.lastIndexOf('%', end - 1) >= start ?
+                rawLength >= length && segment.equals(this.segment(index)) :
+                rawLength == length && path.regionMatches(start, segment, 0, length);
+    }
+
+    /**
+     * Returns the matrix parameters of the segment at index as they appear in the path, without the leading
+     * {@code ';'}, or an empty string when there are none.
+     */
+    public String rawMatrixParameters(final int index) {
+        final int i = this.checkIndex(index);
+        final int semicolon = this.bounds[i + 1];
+        final int end = this.bounds[i + 2];
+        return semicolon == end ?
+                "" : //$NON-NLS-1$
+                this.path.substring(semicolon + 1, end);
+    }
+
+    /**
+     * Returns the decoded value of the first matrix parameter of the segment at index with the given decoded name, or
+     * null if there is none. A parameter without {@code '='} has an empty value.
+     */
+    public String matrixParameter(final int index,
+                                  final String name) {
+        if (null == name) {
+            throw new NullPointerException("name"); //$NON-NLS-1$
+        }
+
+        final int i = this.checkIndex(index);
+        final String path = this.path;
+        final int end = this.bounds[i + 2];
+        final int nameLength = name.length();
+
+        int start = this.bounds[i + 1] + 1;
+        while (start < end) {
+            int parameterEnd = path.indexOf(';', start);
+            if (-1 == parameterEnd || parameterEnd > end) {
+                parameterEnd = end;
+            }
+            int equals = path.indexOf('=', start);
+            if (-1 == equals || equals > parameterEnd) {
+                equals = parameterEnd;
+            }
+
+            if (equals > start) {
+                final int rawLength = equals - start;
+                final boolean escaped = path.lastIndexOf('%', equals - 1) >= start;
+                if (escaped ?
+                        rawLength >= nameLength && name.equals(decode(path.substring(start, equals))) :
+                        rawLength == nameLength && path.regionMatches(start, name, 0, nameLength)) {
+                    return equals == parameterEnd ?
+                            "" : //$NON-NLS-1$
+                            decode(path.substring(equals + 1, parameterEnd));
+                }
+            }
+            start = parameterEnd + 1;
+        }
+
+        return null;
+    }
+
+    /**
+     * The offset of the first char of the segment at index, which has not been checked.
+     */
+    int rawStart(final int index) {
+        return this.bounds[index * 3];
+    }
+
+    /**
+     * The offset after the last char of the segment at index without its matrix parameters, which has not been
+     * checked.
+     */
+    int rawEnd(final int index) {
+        return this.bounds[index * 3 + 1];
+    }
+
+    private static String decode(final String raw) {
+        if (raw.indexOf('%') == -1) {
+            return raw;
+        }
+        try {
+            return URIEncoderDecoder.decode(raw);
+        } catch (final UnsupportedEncodingException e) {
+            throw new RuntimeException(e.toString());
+        }
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.count); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return index * 3;
+    }
+
+    // Iterable.........................................................................................................
+
+    /**
+     * Returns the segments in path order, each decoded as it is reached.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+
+            @Override
+            public boolean hasNext() {
+                return this.next < PathSegments.this.count;
+            }
+
+            @Override
+            public String next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return PathSegments.this.segment(this.next++);
+            }
+
+            private int next;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return this.path;
+    }
+
+    private final String path;
+
+    /**
+     * Three ints for each segment, its start, the {@code ';'} or end when there are no matrix parameters and its end.
+     */
+    private final int[] bounds;
+
+    private final int count;
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * The Punycode bootstring encoding of RFC 3492, used by {@link IDN} to convert labels that are not all ASCII.
+ * Both directions work on code points, so characters outside the BMP are a single code point and not a surrogate pair.
+ */
+final class Punycode {
+
+    private final static int BASE = 36;
+
+    private final static int TMIN = 1;
+
+    private final static int TMAX = 26;
+
+    private final static int SKEW = 38;
+
+    private final static int DAMP = 700;
+
+    private final static int INITIAL_BIAS = 72;
+
+    private final static int INITIAL_N = 0x80;
+
+    private final static char DELIMITER = '-';
+
+    /**
+     * Encodes the given label, copying ASCII characters in their original case.
+     *
+     * @throws IllegalArgumentException if the label is too long to encode.
+     */
+    static String encode(final String input) {
+        final int length = input.length();
+        final StringBuilder output = new StringBuilder(length + 8);
+
+        int basicCount = 0;
+        int total = 0;
+        for (int i = 0; i < length; ) {
+            final int c = input.codePointAt(i);
+            i += Character.charCount(c);
+            total++;
+            if (c < INITIAL_N) {
+                output.append((char) c);
+                basicCount++;
+            }
+        }
+        if (basicCount > 0) {
+            output.append(DELIMITER);
+        }
+
+        int n = INITIAL_N;
+        int delta = 0;
+        int bias = INITIAL_BIAS;
+        int handled = basicCount;
+
+        while (handled < total) {
+            // the smallest code point not yet handled
+            int m = Integer.MAX_VALUE;
+            for (int i = 0; i < length; ) {
+                final int c = input.codePointAt(i);
+                i += Character.charCount(c);
+                if (c >= n && c < m) {
+                    m = c;
+                }
+            }
+
+            if (m - n > (Integer.MAX_VALUE - delta) / (handled + 1)) {
+                throw overflow();
+            }
+            delta += (m - n) * (handled + 1);
+            n = m;
+
+            for (int i = 0; i < length; ) {
+                final int c = input.codePointAt(i);
+                i += Character.charCount(c);
+                if (c < n) {
+                    delta++;
+                    if (0 == delta) {
+                        throw overflow();
+                    }
+                }
+                if (c == n) {
+                    int q = delta;
+                    for (int k = BASE; ; k += BASE) {
+                        final int t = threshold(k, bias);
+                        if (q < t) {
+                            break;
+                        }
+                        output.append(digit(t + (q - t) % (BASE - t)));
+                        q = (q - t) / (BASE - t);
+                    }
+                    output.append(digit(q));
+                    bias = adapt(delta, handled + 1, handled == basicCount);
+                    delta = 0;
+                    handled++;
+                }
+            }
+            delta++;
+            n++;
+        }
+
+        return output.toString();
+    }
+
+    /**
+     * Decodes the given Punycode, keeping the case of the ASCII characters.
+     *
+     * @throws IllegalArgumentException if the input is not valid Punycode.
+     */
+    static String decode(final String input) {
+        final int length = input.length();
+        // every decoded code point consumes at least one input char
+        final int[] output = new int[length];
+        int count = 0;
+
+        int delimiter = input.lastIndexOf(DELIMITER);
+        if (delimiter < 0) {
+            delimiter = 0;
+        }
+        for (int j = 0; j < delimiter; j++) {
+            final char c = input.charAt(j);
+            if (c >= INITIAL_N) {
+                throw invalid(input);
+            }
+            output[count++] = c;
+        }
+
+        int n = INITIAL_N;
+        int i = 0;
+        int bias = INITIAL_BIAS;
+
+        for (int in = delimiter > 0 ? delimiter + 1 : 0; in < length; ) {
+            final int oldi = i;
+            int w = 1;
+            for (int k = BASE; ; k += BASE) {
+                if (in >= length) {
+                    throw invalid(input);
+                }
+                final int digit = digitValue(input.charAt(in++));
+                if (digit >= BASE || digit > (Integer.MAX_VALUE - i) / w) {
+                    throw invalid(input);
+                }
+                i += digit * w;
+                final int t = threshold(k, bias);
+                if (digit < t) {
+                    break;
+                }
+                if (w > Integer.MAX_VALUE / (BASE - t)) {
+                    throw invalid(input);
+                }
+                w *= BASE - t;
+            }
+
+            bias = adapt(i - oldi, count + 1, 0 == oldi);
+            if (i / (count + 1) > Integer.MAX_VALUE - n) {
+                throw invalid(input);
+            }
+            n += i / (count + 1);
+            i %= count + 1;
+            if (n > Character.MAX_CODE_POINT) {
+                throw invalid(input);
+            }
+
+            System.arraycopy(output, i, output, i + 1, count - i);
+            output[i++] = n;
+            count++;
+        }
+
+        final StringBuilder decoded = new StringBuilder(count);
+        for (int j = 0; j < count; j++) {
+            decoded.appendCodePoint(output[j]);
+        }
+        return decoded.toString();
+    }
+
+    private static int threshold(final int k, final int bias) {
+        return k <= bias ?
+                TMIN :
+                k >= bias + TMAX ?
+                        TMAX :
+                        k - bias;
+    }
+
+    private static int adapt(final int delta, final int numPoints, final boolean first) {
+        int d = first ? delta / DAMP : delta / 2;
+        d += d / numPoints;
+
+        int k = 0;
+        while (d > ((BASE - TMIN) * TMAX) / 2) {
+            d /= BASE - TMIN;
+            k += BASE;
+        }
+        return k + (BASE - TMIN + 1) * d / (d + SKEW);
+    }
+
+    private static char digit(final int d) {
+        return (char) (d < 26 ? 'a' + d : '0' + d - 26);
+    }
+
+    private static int digitValue(final char c) {
+        final int value;
+        if (c >= '0' && c <= '9') {
+            value = c - '0' + 26;
+        } else if (c >= 'A' && c <= 'Z') {
+            value = c - 'A';
+        } else if (c >= 'a' && c <= 'z') {
+            value = c - 'a';
+        } else {
+            value = BASE;
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException overflow() {
+        return new IllegalArgumentException("Punycode overflow"); //$NON-NLS-1$
+    }
+
+    private static IllegalArgumentException invalid(final String input) {
+        return new IllegalArgumentException("Invalid Punycode \"" + input + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Stop creation
+     */
+    private Punycode() {
+        throw new UnsupportedOperationException();
+    }
+}
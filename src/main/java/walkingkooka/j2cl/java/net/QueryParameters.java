@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A read only view of the parameters in a raw query such as {@code a=1&b=2&a=3}. Parsing records where each name and
+ * value starts and ends in one pass over the query, and nothing is copied or decoded until asked for. Names are
+ * compared against the raw text when they contain no {@code %} or {@code '+'}, and values are decoded with
+ * {@link URLDecoder#decode(String, Charset)} only when they are read, so reading a few parameters from a long query
+ * costs little.
+ * <p>
+ * A parameter without {@code '='} has an empty value, only the first {@code '='} separates the name from the value
+ * and empty parameters are skipped. A name holding an invalid escape matches no name, and fails only when it is read.
+ */
+public final class QueryParameters implements Iterable<Map.Entry<String, String>> {
+
+    /**
+     * Returns the parameters in the raw query of the given {@link URI}, decoding them as UTF-8.
+     */
+    public static QueryParameters with(final URI uri) {
+        return parse(uri.getRawQuery(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the parameters in the query of the given {@link URL}, decoding them as UTF-8.
+     */
+    public static QueryParameters with(final URL url) {
+        return parse(url.getQuery(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the parameters in the given raw query, which may be null. The query is not checked, so a bad escape is
+     * only reported when its name or value is decoded.
+     */
+    public static QueryParameters parse(final String rawQuery,
+                                        final Charset charset) {
+        if (null == charset) {
+            throw new NullPointerException("Charset"); //$NON-NLS-1$
+        }
+        if (null == rawQuery || rawQuery.isEmpty()) {
+            return new QueryParameters("", new int[0], 0, charset); //$NON-NLS-1$
+        }
+
+        int parameters = 1;
+        for (int i = rawQuery.indexOf('&'); i != -1; i = rawQuery.indexOf('&', i + 1)) {
+            parameters++;
+        }
+
+        // start, separator or end when there is no '=', end for each parameter
+        final int[] bounds = new int[parameters * 3];
+        final int length = rawQuery.length();
+        int count = 0;
+        int start = 0;
+        int equals = -1;
+
+        for (int i = 0; i <= length; i++) {
+            final char c = i < length ?
+                    rawQuery.charAt(i) :
+                    '&';
+            if ('&' == c) {
+                if (i > start) {
+                    bounds[count * 3] = start;
+                    bounds[count * 3 + 1] = -1 == equals ? i : equals;
+                    bounds[count * 3 + 2] = i;
+                    count++;
+                }
+                start = i + 1;
+                equals = -1;
+            } else if ('=' == c && -1 == equals) {
+                equals = i;
+            }
+        }
+
+        return new QueryParameters(rawQuery, bounds, count, charset);
+    }
+
+    private QueryParameters(final String query,
+                            final int[] bounds,
+                            final int count,
+                            final Charset charset) {
+        this.query = query;
+        this.bounds = bounds;
+        this.count = count;
+        this.charset = charset;
+    }
+
+    /**
+     * The number of parameters, counting each repeat of a name.
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Returns the decoded name of the parameter at index.
+     */
+    public String name(final int index) {
+        return this.decode(this.rawName(index));
+    }
+
+    /**
+     * Returns the decoded value of the parameter at index, which is empty when it has no {@code '='}.
+     */
+    public String value(final int index) {
+        return this.decode(this.rawValue(index));
+    }
+
+    /**
+     * Returns the name of the parameter at index as it appears in the query.
+     */
+    public String rawName(final int index) {
+        final int i = this.checkIndex(index);
+        return this.query.substring(this.bounds[i], this.bounds[i + 1]);
+    }
+
+    /**
+     * Returns the value of the parameter at index as it appears in the query.
+     */
+    public String rawValue(final int index) {
+        final int i = this.checkIndex(index);
+        final int separator = this.bounds[i + 1];
+        final int end = this.bounds[i + 2];
+        return separator == end ?
+                "" : //$NON-NLS-1$
+                this.query.substring(separator + 1, end);
+    }
+
+    /**
+     * Returns true if a parameter has the given decoded name.
+     */
+    public boolean contains(final String name) {
+        return -1 != this.indexOf(name, 0);
+    }
+
+    /**
+     * Returns the decoded value of the first parameter with the given decoded name, or null if there is none.
+     */
+    public String first(final String name) {
+        final int index = this.indexOf(name, 0);
+        return -1 == index ?
+                null :
+                this.value(index);
+    }
+
+    /**
+     * Returns the decoded values of every parameter with the given decoded name in query order.
+     */
+    public List<String> all(final String name) {
+        List<String> values = Collections.emptyList();
+
+        for (int i = this.indexOf(name, 0); -1 != i; i = this.indexOf(name, i + 1)) {
+            if (values.isEmpty()) {
+                values = new ArrayList<>(2);
+            }
+            values.add(this.value(i));
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns the index of the first parameter from start with the given decoded name, or -1.
+     */
+    private int indexOf(final String name,
+                        final int start) {
+        if (null == name) {
+            throw new NullPointerException("name"); //$NON-NLS-1$
+        }
+
+        final String query = this.query;
+        final int[] bounds = this.bounds;
+        final int nameLength = name.length();
+
+        for (int index = start; index < this.count; index++) {
+            final int nameStart = bounds[index * 3];
+            final int nameEnd = bounds[index * 3 + 1];
+            final int rawLength = nameEnd - nameStart;
+
+            if (isEscaped(query, nameStart, nameEnd)) {
+                // an escape decodes to at least one char
+                if (rawLength >= nameLength && name.equals(this.nameOrNull(index))) {
+                    return index;
+                }
+            } else {
+                if (rawLength == nameLength && query.regionMatches(nameStart, name, 0, nameLength)) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the decoded name of the parameter at index, or null if it holds an invalid escape and so matches no name.
+     */
+    private String nameOrNull(final int index) {
+        try {
+            return this.name(index);
+        } catch (final IllegalArgumentException invalid) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if the raw text between start and end would change when decoded.
+     */
+    private static boolean isEscaped(final String query,
+                                     final int start,
+                                     final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = query.charAt(i);
+            if ('%' == c || '+' == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String decode(final String raw) {
+        return raw.isEmpty() ?
+                raw :
+                URLDecoder.decode(raw, this.charset);
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.count); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return index * 3;
+    }
+
+    // Iterable.........................................................................................................
+
+    /**
+     * Returns the parameters in query order, each decoded when its key or value is first read.
+     */
+    @Override
+    public Iterator<Map.Entry<String, String>> iterator() {
+        return new Iterator<Map.Entry<String, String>>() {
+
+            @Override
+            public boolean hasNext() {
+                return this.next < QueryParameters.this.count;
+            }
+
+            @Override
+            public Map.Entry<String, String> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new Parameter(this.next++);
+            }
+
+            private int next;
+        };
+    }
+
+    /**
+     * A {@link Map.Entry} that decodes its name and value on demand.
+     */
+    private final class Parameter implements Map.Entry<String, String> {
+
+        Parameter(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return QueryParameters.this.name(this.index);
+        }
+
+        @Override
+        public String getValue() {
+            return QueryParameters.this.value(this.index);
+        }
+
+        @Override
+        public String setValue(final String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other ||
+                    other instanceof Map.Entry &&
+                            this.equals0((Map.Entry<?, ?>) other);
+        }
+
+        private boolean equals0(final Map.Entry<?, ?> other) {
+            return this.getKey().equals(other.getKey()) &&
+                    this.getValue().equals(other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.getKey().hashCode() ^ this.getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return this.getKey() + "=" + this.getValue(); //$NON-NLS-1$
+        }
+
+        private final int index;
+    }
+
+    @Override
+    public String toString() {
+        return this.query;
+    }
+
+    private final String query;
+
+    /**
+     * Three ints for each parameter, the start of the name, the {@code '='} or end when there is none and the end.
+     */
+    private final int[] bounds;
+
+    private final int count;
+
+    private final Charset charset;
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+/**
+ * Scratch space reused by the encoders and decoders instead of allocating fresh arrays sized to each input.
+ * A buffer is taken with {@link #acquire()} and must be given back with {@link #release()} once the result has been
+ * copied out. Arrays larger than {@link #MAX_RETAINED_LENGTH} are dropped on release so a giant input does not pin
+ * memory.
+ */
+final class ScratchBuffer {
+
+    /**
+     * The largest array or builder capacity kept between uses.
+     */
+    final static int MAX_RETAINED_LENGTH = 8 * 1024;
+
+    /**
+     * Gives out the buffers, chosen once when this class is initialized.
+     */
+    private final static ScratchBufferProvider PROVIDER = provider(null);
+
+    /**
+     * A single buffer shared by all callers, enough when there is only one thread as under J2CL. The J2CL build strips
+     * {@link #provider(String)} so the null argument above resolves to this method.
+     */
+    private static ScratchBufferProvider provider(final Object j2cl) {
+        return new SharedScratchBufferProvider();
+    }
+
+    /**
+     * On the JVM each thread gets its own buffer. The null argument resolves to this method as String is more
+     * specific than Object.
+     */
+    @GwtIncompatible
+    private static ScratchBufferProvider provider(final String jvm) {
+        return new ThreadLocalScratchBufferProvider();
+    }
+
+    /**
+     * Takes a buffer from the provider.
+     */
+    static ScratchBuffer acquire() {
+        return PROVIDER.acquire();
+    }
+
+    ScratchBuffer() {
+        super();
+    }
+
+    /**
+     * Returns a char array with at least the given length, its content is undefined.
+     */
+    char[] chars(final int length) {
+        char[] chars = this.chars;
+        if (null == chars || chars.length < length) {
+            chars = new char[length];
+            this.chars = chars;
+        }
+        return chars;
+    }
+
+    private char[] chars;
+
+    /**
+     * Returns a byte array with at least the given length, its content is undefined.
+     */
+    byte[] bytes(final int length) {
+        byte[] bytes = this.bytes;
+        if (null == bytes || bytes.length < length) {
+            bytes = new byte[length];
+            this.bytes = bytes;
+        }
+        return bytes;
+    }
+
+    private byte[] bytes;
+
+    /**
+     * Returns an empty {@link StringBuilder}.
+     */
+    StringBuilder builder() {
+        StringBuilder builder = this.builder;
+        if (null == builder) {
+            builder = new StringBuilder();
+            this.builder = builder;
+        } else {
+            builder.setLength(0);
+        }
+        return builder;
+    }
+
+    private StringBuilder builder;
+
+    /**
+     * Drops any oversized arrays and gives this buffer back to the provider.
+     */
+    void release() {
+        if (null != this.chars && this.chars.length > MAX_RETAINED_LENGTH) {
+            this.chars = null;
+        }
+        if (null != this.bytes && this.bytes.length > MAX_RETAINED_LENGTH) {
+            this.bytes = null;
+        }
+        if (null != this.builder && this.builder.capacity() > MAX_RETAINED_LENGTH) {
+            this.builder = null;
+        }
+        PROVIDER.release(this);
+    }
+}
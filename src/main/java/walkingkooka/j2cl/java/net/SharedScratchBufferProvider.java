@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * Keeps at most one idle {@link ScratchBuffer}. A nested {@link #acquire()} while the buffer is taken gets a new
+ * buffer, and only one of them is kept when both are released.
+ */
+final class SharedScratchBufferProvider implements ScratchBufferProvider {
+
+    SharedScratchBufferProvider() {
+        super();
+    }
+
+    @Override
+    public ScratchBuffer acquire() {
+        ScratchBuffer buffer = this.idle;
+        if (null != buffer) {
+            this.idle = null;
+        } else {
+            buffer = new ScratchBuffer();
+        }
+        return buffer;
+    }
+
+    @Override
+    public void release(final ScratchBuffer buffer) {
+        this.idle = buffer;
+    }
+
+    private ScratchBuffer idle;
+}
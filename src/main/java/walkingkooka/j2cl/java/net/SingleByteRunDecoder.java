@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * A {@link ByteRunDecoder} for charsets where every byte is one char, which is a lookup in a 256 entry table.
+ */
+final class SingleByteRunDecoder implements ByteRunDecoder {
+
+    final static SingleByteRunDecoder ISO_8859_1 = new SingleByteRunDecoder(latin1());
+
+    final static SingleByteRunDecoder US_ASCII = new SingleByteRunDecoder(usAscii());
+
+    final static SingleByteRunDecoder WINDOWS_1252 = new SingleByteRunDecoder(windows1252());
+
+    private static char[] latin1() {
+        final char[] table = new char[256];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (char) i;
+        }
+        return table;
+    }
+
+    private static char[] usAscii() {
+        final char[] table = latin1();
+        for (int i = 0x80; i < table.length; i++) {
+            table[i] = REPLACEMENT;
+        }
+        return table;
+    }
+
+    /**
+     * Only 0x80 to 0x9f differ from ISO-8859-1, with the five undefined bytes mapped to the replacement char.
+     */
+    private static char[] windows1252() {
+        final char[] table = latin1();
+        "\u20ac\ufffd\u201a\u0192\u201e\u2026\u2020\u2021\u02c6\u2030\u0160\u2039\u0152\ufffd\u017d\ufffd" //$NON-NLS-1$
+                .getChars(0, 16, table, 0x80);
+        "\ufffd\u2018\u2019\u201c\u201d\u2022\u2013\u2014\u02dc\u2122\u0161\u203a\u0153\ufffd\u017e\u0178" //$NON-NLS-1$
+                .getChars(0, 16, table, 0x90);
+        return table;
+    }
+
+    private SingleByteRunDecoder(final char[] table) {
+        this.table = table;
+    }
+
+    @Override
+    public int decode(final byte[] bytes,
+                      final int length,
+                      final char[] chars,
+                      final int offset) {
+        final char[] table = this.table;
+        int o = offset;
+        for (int i = 0; i < length; i++) {
+            chars[o++] = table[bytes[i] & 0xff];
+        }
+        return o;
+    }
+
+    private final char[] table;
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+/**
+ * Controls whether {@link URISyntaxException} captures a stack trace. Parsing untrusted input fails often, and
+ * filling in the stack trace is most of the cost of each failure. Stack traces are captured by default.
+ * <p>
+ * This package is shaded as java.net, so the switch is never part of the emulated API. On the JVM it is turned on by
+ * starting with the system property {@link #PROPERTY} set to {@code true}, which is read once when this class is
+ * loaded. Under J2CL stack traces are always captured.
+ */
+final class StacklessExceptions {
+
+    /**
+     * The system property that turns stackless exceptions on.
+     */
+    final static String PROPERTY = "walkingkooka.j2cl.java.net.StacklessExceptions"; //$NON-NLS-1$
+
+    /**
+     * Returns true if new {@link URISyntaxException} are created without a stack trace.
+     */
+    static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * When true new {@link URISyntaxException} are created without a stack trace.
+     */
+    static void setEnabled(final boolean enabled) {
+        StacklessExceptions.enabled = enabled;
+    }
+
+    private static volatile boolean enabled = enabled(null);
+
+    /**
+     * J2CL has no system properties. The J2CL build strips {@link #enabled(String)} so the null argument above
+     * resolves to this method.
+     */
+    private static boolean enabled(final Object j2cl) {
+        return false;
+    }
+
+    /**
+     * On the JVM the switch starts as the value of {@link #PROPERTY}. The null argument resolves to this method as
+     * String is more specific than Object.
+     */
+    @GwtIncompatible
+    static boolean enabled(final String jvm) {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    /**
+     * Stop creation
+     */
+    private StacklessExceptions() {
+        throw new UnsupportedOperationException();
+    }
+}
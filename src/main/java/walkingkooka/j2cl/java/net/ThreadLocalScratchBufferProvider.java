@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+/**
+ * Gives each thread its own {@link SharedScratchBufferProvider}.
+ */
+@GwtIncompatible
+final class ThreadLocalScratchBufferProvider implements ScratchBufferProvider {
+
+    ThreadLocalScratchBufferProvider() {
+        super();
+    }
+
+    @Override
+    public ScratchBuffer acquire() {
+        return this.providers.get().acquire();
+    }
+
+    @Override
+    public void release(final ScratchBuffer buffer) {
+        this.providers.get().release(buffer);
+    }
+
+    private final ThreadLocal<SharedScratchBufferProvider> providers = ThreadLocal.withInitial(SharedScratchBufferProvider::new);
+}
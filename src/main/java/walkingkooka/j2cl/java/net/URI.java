@@ -17,6 +17,13 @@
 
 package walkingkooka.j2cl.java.net;
 
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.io.UnsupportedEncodingException;
 import java.util.StringTokenizer;
@@ -38,6 +45,15 @@ public final class URI implements Comparable<URI>, Serializable {
     
     static final String allLegal = unreserved + reserved;
 
+    @GwtIncompatible
+    private static final long serialVersionUID = -6052424284110960213L;
+
+    /*
+     * No fields are written by default, writeObject writes the URI instead.
+     */
+    @GwtIncompatible
+    private static final ObjectStreamField[] serialPersistentFields = {};
+
     private String string;
 
     private transient String scheme;
@@ -64,8 +80,20 @@ public final class URI implements Comparable<URI>, Serializable {
 
     private transient boolean serverAuthority = false;
 
+    /*
+     * true when the path is known to contain no "." or ".." segments, no empty
+     * segments and no ':' in the first segment of a relative path, which means
+     * normalize(String) would return it unchanged.
+     */
+    private transient boolean pathNormalized;
+
     private transient int hash = -1;
 
+    /*
+     * toString() with non US-ASCII characters escaped, computed on first use.
+     */
+    private transient String asciiString;
+
     private URI() {
     }
 
@@ -153,6 +181,7 @@ public final class URI implements Comparable<URI>, Serializable {
         if (scheme == null && userinfo == null && host == null && path == null
                 && query == null && fragment == null) {
             this.path = ""; //$NON-NLS-1$
+            this.pathNormalized = true;
             return;
         }
 
@@ -420,6 +449,7 @@ public final class URI implements Comparable<URI>, Serializable {
                 } else { // no authority specified
                     path = temp;
                 }
+                pathNormalized = isNormalized(path);
 
                 int pathIndex = 0;
                 if (index2 > -1) {
@@ -890,17 +920,13 @@ public final class URI implements Comparable<URI>, Serializable {
      * component s @return java.lang.String the converted string
      */
     private String quoteComponent(String component, String legalset) {
-        try {
-            /*
-             * Use a different encoder than URLEncoder since: 1. chars like "/",
-             * "#", "@" etc needs to be preserved instead of being encoded, 2.
-             * UTF-8 char set needs to be used for encoding instead of default
-             * platform one
-             */
-            return URIEncoderDecoder.quoteIllegal(component, legalset);
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException(e.toString());
-        }
+        /*
+         * Use a different encoder than URLEncoder since: 1. chars like "/",
+         * "#", "@" etc needs to be preserved instead of being encoded, 2.
+         * UTF-8 char set needs to be used for encoding instead of default
+         * platform one
+         */
+        return URIEncoderDecoder.quoteIllegal(component, legalset);
     }
 
     /**
@@ -1054,6 +1080,7 @@ public final class URI implements Comparable<URI>, Serializable {
         clone.schemespecificpart = schemespecificpart;
         clone.userinfo = userinfo;
         clone.serverAuthority = serverAuthority;
+        clone.pathNormalized = pathNormalized;
         return clone;
     }
 
@@ -1074,6 +1101,7 @@ public final class URI implements Comparable<URI>, Serializable {
             index += 3;
             previndex = index;
         }
+        result.append(s.substring(previndex));
         return result.toString();
     }
 
@@ -1369,10 +1397,49 @@ public final class URI implements Comparable<URI>, Serializable {
         return opaque;
     }
 
+    /*
+     * Scans the path once for anything normalize(String) would change: "." or
+     * ".." segments, empty segments and a ':' in the first segment of a
+     * relative path. Returning false only means normalize(String) must run.
+     */
+    private static boolean isNormalized(String path) {
+        int length = path.length();
+        int segmentStart = 0;
+        boolean slash = false;
+        for (int i = 0; i < length; i++) {
+            char c = path.charAt(i);
+            if (c == '/') {
+                if (!isNormalizedSegment(path, segmentStart, i)) {
+                    return false;
+                }
+                // only a leading '/' may be followed by an empty segment
+                if (i == segmentStart && i != 0) {
+                    return false;
+                }
+                segmentStart = i + 1;
+                slash = true;
+            } else if (c == ':' && !slash) {
+                return false;
+            }
+        }
+        return isNormalizedSegment(path, segmentStart, length);
+    }
+
+    private static boolean isNormalizedSegment(String path, int start, int end) {
+        switch (end - start) {
+            case 1:
+                return path.charAt(start) != '.';
+            case 2:
+                return path.charAt(start) != '.' || path.charAt(start + 1) != '.';
+            default:
+                return true;
+        }
+    }
+
     /*
      * normalize path, and return the resulting string
      */
-    private String normalize(String path) {
+    private static String normalize(String path) {
         // count the number of '/'s, to determine number of segments
         int index = -1;
         int pathlen = path.length();
@@ -1425,7 +1492,16 @@ public final class URI implements Comparable<URI>, Serializable {
         }
 
         // put the path back together
-        StringBuilder newpath = new StringBuilder();
+        ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            return join(path, seglist, include, scratch.builder());
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private static String join(String path, String[] seglist,
+            boolean[] include, StringBuilder newpath) {
         if (path.startsWith("/")) { //$NON-NLS-1$
             newpath.append('/');
         }
@@ -1445,17 +1521,21 @@ public final class URI implements Comparable<URI>, Serializable {
             newpath.deleteCharAt(newpath.length() - 1);
         }
 
-        String result = newpath.toString();
-
         // check for a ':' in the first segment if one exists,
         // prepend "./" to normalize
-        index = result.indexOf(':');
-        index2 = result.indexOf('/');
+        int index = newpath.indexOf(":"); //$NON-NLS-1$
+        int index2 = newpath.indexOf("/"); //$NON-NLS-1$
         if (index != -1 && (index < index2 || index2 == -1)) {
             newpath.insert(0, "./"); //$NON-NLS-1$
-            result = newpath.toString();
         }
-        return result;
+        return newpath.toString();
+    }
+
+    /*
+     * normalize a raw path, returning it unchanged when already normalized
+     */
+    static String normalizePath(String path) {
+        return isNormalized(path) ? path : normalize(path);
     }
 
     /**
@@ -1465,7 +1545,7 @@ public final class URI implements Comparable<URI>, Serializable {
      *         path.
      */
     public URI normalize() {
-        if (opaque) {
+        if (opaque || pathNormalized) {
             return this;
         }
         String normalizedPath = normalize(path);
@@ -1477,6 +1557,7 @@ public final class URI implements Comparable<URI>, Serializable {
         // since the path of the normalized URI is different from this URI.
         URI result = duplicate();
         result.path = normalizedPath;
+        result.pathNormalized = isNormalized(normalizedPath);
         result.setSchemeSpecificPart();
         return result;
     }
@@ -1522,8 +1603,9 @@ public final class URI implements Comparable<URI>, Serializable {
         }
 
         // normalize both paths
-        String thisPath = normalize(path);
-        String relativePath = normalize(relative.path);
+        String thisPath = pathNormalized ? path : normalize(path);
+        String relativePath = relative.pathNormalized ? relative.path
+                : normalize(relative.path);
 
         /*
          * if the paths aren't equal, then we need to determine if this URI's
@@ -1549,6 +1631,79 @@ public final class URI implements Comparable<URI>, Serializable {
         result.query = relative.query;
         // the result URI is the remainder of the relative URI's path
         result.path = relativePath.substring(thisPath.length());
+        result.pathNormalized = isNormalized(result.path);
+        result.setSchemeSpecificPart();
+        return result;
+    }
+
+    /*
+     * Creates an empty URI for reparse(String).
+     */
+    static URI scratch() {
+        return new URI();
+    }
+
+    /*
+     * Clears this URI and parses uri into it. Only used on a URI from
+     * scratch() that never escapes, so URIColumns can read the components of
+     * many strings without creating a URI for each.
+     */
+    void reparse(String uri) throws URISyntaxException {
+        string = null;
+        scheme = null;
+        schemespecificpart = null;
+        authority = null;
+        userinfo = null;
+        host = null;
+        port = -1;
+        path = null;
+        query = null;
+        fragment = null;
+        opaque = false;
+        absolute = false;
+        serverAuthority = false;
+        pathNormalized = false;
+        hash = -1;
+        asciiString = null;
+        new Helper().parseURI(uri, false);
+    }
+
+    /*
+     * Creates a URI from the raw components of a URI that was parsed before,
+     * without parsing or validating them again. The path is null for an
+     * opaque URI and the host null unless the authority is server based.
+     */
+    static URI components(String string, String scheme,
+            String schemeSpecificPart, String authority, String userinfo,
+            String host, int port, String path, String query,
+            String fragment) {
+        URI result = new URI();
+        result.string = string;
+        result.scheme = scheme;
+        result.schemespecificpart = schemeSpecificPart;
+        result.authority = authority;
+        result.userinfo = userinfo;
+        result.host = host;
+        result.port = port;
+        result.path = path;
+        result.query = query;
+        result.fragment = fragment;
+        result.absolute = scheme != null;
+        result.opaque = path == null;
+        result.serverAuthority = host != null;
+        result.pathNormalized = path != null && isNormalized(path);
+        return result;
+    }
+
+    /*
+     * Creates a relative reference from already validated raw components.
+     */
+    static URI relativeReference(String path, String query, String fragment) {
+        URI result = new URI();
+        result.path = path;
+        result.pathNormalized = isNormalized(path);
+        result.query = query;
+        result.fragment = fragment;
         result.setSchemeSpecificPart();
         return result;
     }
@@ -1597,11 +1752,19 @@ public final class URI implements Comparable<URI>, Serializable {
             result.query = relative.query;
             if (relative.path.startsWith("/")) { //$NON-NLS-1$
                 result.path = relative.path;
+                result.pathNormalized = relative.pathNormalized;
             } else {
                 // resolve a relative reference
                 int endindex = path.lastIndexOf('/') + 1;
-                result.path = normalize(path.substring(0, endindex)
-                        + relative.path);
+                String merged = path.substring(0, endindex) + relative.path;
+                // the directory of a normalized path followed by a normalized
+                // relative path needs no further work
+                if (pathNormalized && relative.pathNormalized) {
+                    result.path = merged;
+                } else {
+                    result.path = normalize(merged);
+                    result.pathNormalized = isNormalized(result.path);
+                }
             }
             // re-calculate the scheme specific part since
             // query and path of the resolved URI is different from this URI.
@@ -1656,17 +1819,13 @@ public final class URI implements Comparable<URI>, Serializable {
      * component s @return java.lang.String the converted string
      */
     private String encodeOthers(String s) {
-        try {
-            /*
-             * Use a different encoder than URLEncoder since: 1. chars like "/",
-             * "#", "@" etc needs to be preserved instead of being encoded, 2.
-             * UTF-8 char set needs to be used for encoding instead of default
-             * platform one 3. Only other chars need to be converted
-             */
-            return URIEncoderDecoder.encodeOthers(s);
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException(e.toString());
-        }
+        /*
+         * Use a different encoder than URLEncoder since: 1. chars like "/",
+         * "#", "@" etc needs to be preserved instead of being encoded, 2.
+         * UTF-8 char set needs to be used for encoding instead of default
+         * platform one 3. Only other chars need to be converted
+         */
+        return URIEncoderDecoder.encodeOthers(s);
     }
 
     private String decode(String s) {
@@ -1688,7 +1847,11 @@ public final class URI implements Comparable<URI>, Serializable {
      * @return the US-ASCII string representation of this URI.
      */
     public String toASCIIString() {
-        return encodeOthers(toString());
+        if (asciiString == null) {
+            // encodeOthers returns the same instance when everything is US-ASCII
+            asciiString = encodeOthers(toString());
+        }
+        return asciiString;
     }
 
     /**
@@ -1794,23 +1957,103 @@ public final class URI implements Comparable<URI>, Serializable {
             //        + toString());
             throw new IllegalArgumentException("URI is not absolute" + ": " + toString());
         }
-        return new URL(toString());
+        return URL.fromURI(this);
     }
 
-//    private void readObject(ObjectInputStream in) throws IOException,
-//            ClassNotFoundException {
-//        in.defaultReadObject();
-//        try {
-//            new Helper().parseURI(string, false);
-//        } catch (URISyntaxException e) {
-//            throw new IOException(e.toString());
-//        }
-//    }
-//
-//    private void writeObject(ObjectOutputStream out) throws IOException,
-//            ClassNotFoundException {
-//        // call toString() to ensure the value of string field is calculated
-//        toString();
-//        out.defaultWriteObject();
-//    }
+    /*
+     * Creates a URI from the components of the given URL, which have already
+     * been split by URLStreamHandler.parseURL. Only the character rules of each
+     * URI component are checked, followed by the authority parse. Any URL that
+     * would not produce the same components when its external form is parsed,
+     * or which is invalid, falls back to parsing the external form, which also
+     * produces the expected URISyntaxException.
+     */
+    static URI fromURL(URL url) throws URISyntaxException {
+        String protocol = url.getProtocol();
+        String authority = url.getAuthority();
+        String path = url.getPath();
+        String query = url.getQuery();
+        String ref = url.getRef();
+
+        if (protocol == null || protocol.length() == 0 || authority == null
+                || authority.length() == 0 || path == null
+                || (path.length() > 0 && path.charAt(0) != '/')) {
+            return new URI(url.toExternalForm());
+        }
+
+        char ch = protocol.charAt(0);
+        if (!((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z'))) {
+            return new URI(url.toExternalForm());
+        }
+
+        URI result = new URI();
+        try {
+            // the legal sets exclude '/', '?' and '#' where they would move the
+            // component boundaries
+            URIEncoderDecoder.validateSimple(protocol, "+-."); //$NON-NLS-1$
+            URIEncoderDecoder.validate(authority, "@[]" + someLegal); //$NON-NLS-1$
+            URIEncoderDecoder.validate(path, "/@" + someLegal); //$NON-NLS-1$
+            if (query != null) {
+                URIEncoderDecoder.validate(query, queryLegal);
+            }
+            if (ref != null) {
+                URIEncoderDecoder.validate(ref, allLegal);
+            }
+
+            result.scheme = protocol;
+            result.absolute = true;
+            result.opaque = false;
+            result.authority = authority;
+            result.path = path;
+            result.pathNormalized = isNormalized(path);
+            result.query = query;
+            result.fragment = ref;
+            result.new Helper().parseAuthority(false);
+        } catch (URISyntaxException e) {
+            return new URI(url.toExternalForm());
+        }
+        // also clears string, which toString() rebuilds identical to the
+        // external form of the URL.
+        result.setSchemeSpecificPart();
+        return result;
+    }
+
+    /*
+     * Writes the compact form of URIBinary rather than the string field, so
+     * reading it again needs no parsing.
+     */
+    @GwtIncompatible
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        URIBinary.write(this, out);
+    }
+
+    @GwtIncompatible
+    private void readObject(ObjectInputStream in) throws IOException,
+            ClassNotFoundException {
+        in.defaultReadObject();
+        // the stream may not be trusted, so like the JDK the text is parsed again
+        URI uri;
+        try {
+            uri = new URI(URIBinary.readURI(in).string);
+        } catch (URISyntaxException e) {
+            throw new InvalidObjectException(e.getMessage());
+        }
+        string = uri.string;
+        scheme = uri.scheme;
+        schemespecificpart = uri.schemespecificpart;
+        authority = uri.authority;
+        userinfo = uri.userinfo;
+        host = uri.host;
+        port = uri.port;
+        path = uri.path;
+        query = uri.query;
+        fragment = uri.fragment;
+        opaque = uri.opaque;
+        absolute = uri.absolute;
+        serverAuthority = uri.serverAuthority;
+        pathNormalized = uri.pathNormalized;
+        hash = -1;
+        asciiString = null;
+    }
 }
@@ -0,0 +1,673 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A compact versioned binary form of {@link URI} and {@link URL}, starting with a version byte and a byte of bits
+ * marking the components present. Common schemes are written as a single code, and text as a varint count of UTF-8
+ * bytes followed by those bytes.
+ * <p>
+ * A URI is written as its text after the scheme followed by varint lengths of its components, so reading it cuts the
+ * components from that text without parsing it again. A URL is written as its components. When read the components
+ * are checked to be where parsing would find them, so tampered bytes never give a host, user info or port that
+ * disagrees with the authority or text. The characters of each component are not validated, so {@link URI} parses its
+ * text again when read from a serialization stream.
+ */
+public final class URIBinary {
+
+    final static int VERSION = 1;
+
+    // URI component bits
+    final static int AUTHORITY = 1;
+    final static int USER_INFO = 2;
+    final static int HOST = 4;
+    final static int PORT = 8;
+    final static int QUERY = 16;
+    final static int FRAGMENT = 32;
+    final static int OPAQUE = 64;
+
+    /**
+     * The components of the URI could not be found in its text, which is parsed when read.
+     */
+    final static int PARSE = 128;
+
+    // URL component bits
+    final static int URL_HOST = 1;
+    final static int URL_PORT = 2;
+    final static int URL_AUTHORITY = 4;
+    final static int URL_DERIVED_AUTHORITY = 8;
+    final static int URL_USER_INFO = 16;
+    final static int URL_PATH = 32;
+    final static int URL_QUERY = 64;
+    final static int URL_REF = 128;
+
+    /**
+     * Schemes written as their index plus one. Zero marks a missing scheme and one more than the number of schemes a
+     * scheme written as text. Schemes may be added at the end but never removed or moved.
+     */
+    final static String[] SCHEMES = {
+            "http", //$NON-NLS-1$
+            "https", //$NON-NLS-1$
+            "ftp", //$NON-NLS-1$
+            "file", //$NON-NLS-1$
+            "mailto", //$NON-NLS-1$
+            "urn", //$NON-NLS-1$
+            "ws", //$NON-NLS-1$
+            "wss", //$NON-NLS-1$
+            "jar", //$NON-NLS-1$
+            "data", //$NON-NLS-1$
+            "tel", //$NON-NLS-1$
+            "news" //$NON-NLS-1$
+    };
+
+    /**
+     * Returns the binary form of the given URI.
+     */
+    public static byte[] encode(final URI uri) {
+        if (null == uri) {
+            throw new NullPointerException("uri"); //$NON-NLS-1$
+        }
+        final String text = uri.toString();
+        final int[] layout = new int[URILayout.COUNT];
+
+        int flags;
+        if (URILayout.fill(uri, text, layout)) {
+            flags = flag(layout[URILayout.AUTHORITY], AUTHORITY) |
+                    flag(layout[URILayout.USER_INFO], USER_INFO) |
+                    flag(layout[URILayout.HOST], HOST) |
+                    flag(layout[URILayout.PORT], PORT) |
+                    flag(layout[URILayout.QUERY], QUERY) |
+                    flag(layout[URILayout.FRAGMENT], FRAGMENT);
+            if (-1 == layout[URILayout.PATH_START]) {
+                flags |= OPAQUE;
+            }
+        } else {
+            flags = PARSE;
+        }
+
+        final String scheme = 0 == (flags & PARSE) ?
+                uri.getScheme() :
+                null;
+        final byte[] schemeBytes = null != scheme && -1 == schemeCode(scheme) ?
+                scheme.getBytes(StandardCharsets.UTF_8) :
+                null;
+        final byte[] textBytes = (null != scheme ? text.substring(scheme.length() + 1) : text)
+                .getBytes(StandardCharsets.UTF_8);
+
+        final ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            final Encoder encoder = new Encoder(
+                    scratch.bytes(2 + 5 + (null != schemeBytes ? 5 + schemeBytes.length : 0) + 5 + textBytes.length + 5 * URILayout.COUNT)
+            );
+            encoder.write(VERSION);
+            encoder.write(flags);
+            encoder.scheme(scheme, schemeBytes);
+            encoder.bytes(textBytes);
+
+            if (0 == (flags & PARSE)) {
+                encoder.optional(layout[URILayout.AUTHORITY]);
+                encoder.optional(layout[URILayout.USER_INFO]);
+                encoder.optional(layout[URILayout.HOST]);
+                encoder.optional(layout[URILayout.PORT]);
+                if (0 == (flags & OPAQUE)) {
+                    encoder.varint(layout[URILayout.PATH]);
+                }
+                encoder.optional(layout[URILayout.QUERY]);
+                encoder.optional(layout[URILayout.FRAGMENT]);
+            }
+            return encoder.toByteArray();
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private static int flag(final int value,
+                            final int flag) {
+        return -1 != value ?
+                flag :
+                0;
+    }
+
+    /**
+     * Reads a URI written by {@link #encode(URI)}.
+     *
+     * @throws IllegalArgumentException if the bytes do not hold a URI.
+     */
+    public static URI decodeURI(final byte[] bytes) {
+        final Decoder decoder = new Decoder(bytes);
+        try {
+            final URI uri = decoder.uri();
+            decoder.end();
+            return uri;
+        } catch (final IndexOutOfBoundsException cause) {
+            throw new IllegalArgumentException("Invalid URI encoding"); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Returns the binary form of the given URL.
+     */
+    public static byte[] encode(final URL url) {
+        if (null == url) {
+            throw new NullPointerException("url"); //$NON-NLS-1$
+        }
+        final String protocol = url.getProtocol();
+        final String host = url.getHost();
+        final int port = url.getPort();
+        final String userInfo = url.getUserInfo();
+        final String path = url.getPath();
+        final String query = url.getQuery();
+        final String ref = url.getRef();
+
+        String authority = url.getAuthority();
+        int flags = 0;
+        if (null != host) {
+            flags |= URL_HOST;
+        }
+        if (-1 != port) {
+            flags |= URL_PORT;
+        }
+        if (null != authority) {
+            if (null != host && authority.equals(derivedAuthority(userInfo, host, port))) {
+                flags |= URL_DERIVED_AUTHORITY;
+                authority = null;
+            } else {
+                flags |= URL_AUTHORITY;
+            }
+        }
+        if (null != userInfo) {
+            flags |= URL_USER_INFO;
+        }
+        if (null != path) {
+            flags |= URL_PATH;
+        }
+        if (null != query) {
+            flags |= URL_QUERY;
+        }
+        if (null != ref) {
+            flags |= URL_REF;
+        }
+
+        final byte[] protocolBytes = -1 == schemeCode(protocol) ?
+                protocol.getBytes(StandardCharsets.UTF_8) :
+                null;
+        final byte[][] components = {
+                utf8(host),
+                utf8(authority),
+                utf8(userInfo),
+                utf8(path),
+                utf8(query),
+                utf8(ref)
+        };
+        int length = 2 + 5 + (null != protocolBytes ? 5 + protocolBytes.length : 0) + 5;
+        for (final byte[] component : components) {
+            if (null != component) {
+                length += 5 + component.length;
+            }
+        }
+
+        final ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            final Encoder encoder = new Encoder(scratch.bytes(length));
+            encoder.write(VERSION);
+            encoder.write(flags);
+            encoder.scheme(protocol, protocolBytes);
+            if (-1 != port) {
+                encoder.varint(port);
+            }
+            for (final byte[] component : components) {
+                if (null != component) {
+                    encoder.bytes(component);
+                }
+            }
+            return encoder.toByteArray();
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private static String derivedAuthority(final String userInfo,
+                                           final String host,
+                                           final int port) {
+        final StringBuilder b = new StringBuilder();
+        if (null != userInfo) {
+            b.append(userInfo).append('@');
+        }
+        b.append(host);
+        if (-1 != port) {
+            b.append(':').append(port);
+        }
+        return b.toString();
+    }
+
+    /*
+     * Tests if the components of a URL read from untrusted bytes agree with
+     * each other as parsing its text would find them: the user info, host
+     * and port are cut from the authority, and no component holds the
+     * delimiter that ends it.
+     */
+    private static boolean isURL(final String protocol,
+                                 final String host,
+                                 final int port,
+                                 final String authority,
+                                 final String userInfo,
+                                 final String path,
+                                 final String query) {
+        if (protocol.isEmpty() ||
+                -1 != indexOf(protocol, ":/?#") || //$NON-NLS-1$
+                null != path && -1 != indexOf(path, "#") || //$NON-NLS-1$
+                null != query && -1 != indexOf(query, "#")) { //$NON-NLS-1$
+            return false;
+        }
+        if (null == authority) {
+            return (null == host || host.isEmpty()) && null == userInfo && -1 == port;
+        }
+        if (-1 != indexOf(authority, "/?#")) { //$NON-NLS-1$
+            return false;
+        }
+        if (null == host) {
+            return null == userInfo && -1 == port;
+        }
+
+        // the user info ends at the last at sign
+        int hostStart = 0;
+        if (null != userInfo) {
+            hostStart = userInfo.length() + 1;
+            if (hostStart > authority.length() ||
+                    !authority.startsWith(userInfo) ||
+                    '@' != authority.charAt(hostStart - 1)) {
+                return false;
+            }
+        }
+        final int hostEnd = hostStart + host.length();
+        if (!authority.startsWith(host, hostStart) ||
+                -1 != indexOf(host, "@") || //$NON-NLS-1$
+                (host.startsWith("[") ? //$NON-NLS-1$
+                        !host.endsWith("]") || indexOf(host, "]") != host.length() - 1 : //$NON-NLS-1$ //$NON-NLS-2$
+                        -1 != indexOf(host, ":]"))) { //$NON-NLS-1$
+            return false;
+        }
+        return hostEnd == authority.length() ?
+                -1 == port :
+                ':' == authority.charAt(hostEnd) && isURLPort(authority.substring(hostEnd + 1), port);
+    }
+
+    /*
+     * URL parses its port like Integer.parseInt, sign included.
+     */
+    private static boolean isURLPort(final String text,
+                                     final int port) {
+        if (text.isEmpty()) {
+            return -1 == port;
+        }
+        try {
+            return Integer.parseInt(text) == port;
+        } catch (final NumberFormatException invalid) {
+            return false;
+        }
+    }
+
+    private static int indexOf(final String text,
+                               final String chars) {
+        return URILayout.indexOf(text, chars, 0, text.length());
+    }
+
+    private static byte[] utf8(final String text) {
+        return null != text ?
+                text.getBytes(StandardCharsets.UTF_8) :
+                null;
+    }
+
+    /**
+     * Reads a URL written by {@link #encode(URL)}.
+     *
+     * @throws IllegalArgumentException if the bytes do not hold a URL.
+     */
+    public static URL decodeURL(final byte[] bytes) {
+        final Decoder decoder = new Decoder(bytes);
+        try {
+            final URL url = decoder.url();
+            decoder.end();
+            return url;
+        } catch (final IndexOutOfBoundsException cause) {
+            throw new IllegalArgumentException("Invalid URL encoding"); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Writes the binary form of the given URI preceded by its length.
+     */
+    @GwtIncompatible
+    public static void write(final URI uri,
+                             final DataOutput output) throws IOException {
+        writeBytes(encode(uri), output);
+    }
+
+    /**
+     * Reads a URI written by {@link #write(URI, DataOutput)}.
+     *
+     * @throws IOException if the input fails or does not hold a URI.
+     */
+    @GwtIncompatible
+    public static URI readURI(final DataInput input) throws IOException {
+        try {
+            return decodeURI(readBytes(input));
+        } catch (final IllegalArgumentException cause) {
+            throw new IOException(cause.getMessage());
+        }
+    }
+
+    /**
+     * Writes the binary form of the given URL preceded by its length.
+     */
+    @GwtIncompatible
+    public static void write(final URL url,
+                             final DataOutput output) throws IOException {
+        writeBytes(encode(url), output);
+    }
+
+    /**
+     * Reads a URL written by {@link #write(URL, DataOutput)}.
+     *
+     * @throws IOException if the input fails or does not hold a URL.
+     */
+    @GwtIncompatible
+    public static URL readURL(final DataInput input) throws IOException {
+        try {
+            return decodeURL(readBytes(input));
+        } catch (final IllegalArgumentException cause) {
+            throw new IOException(cause.getMessage());
+        }
+    }
+
+    @GwtIncompatible
+    private static void writeBytes(final byte[] bytes,
+                                   final DataOutput output) throws IOException {
+        int length = bytes.length;
+        while (length > 0x7f) {
+            output.writeByte(0x80 | (length & 0x7f));
+            length >>>= 7;
+        }
+        output.writeByte(length);
+        output.write(bytes);
+    }
+
+    @GwtIncompatible
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        int length = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift > 28) {
+                throw new IOException("Invalid length"); //$NON-NLS-1$
+            }
+            b = input.readByte();
+            length |= (b & 0x7f) << shift;
+            shift += 7;
+        } while (b < 0);
+        if (length < 0) {
+            throw new IOException("Invalid length " + length); //$NON-NLS-1$
+        }
+        final byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    static int schemeCode(final String scheme) {
+        final String[] schemes = SCHEMES;
+        for (int i = 0; i < schemes.length; i++) {
+            if (schemes[i].equals(scheme)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Writes into an array sized for the largest possible result.
+     */
+    final static class Encoder {
+
+        Encoder(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        void write(final int b) {
+            this.bytes[this.length++] = (byte) b;
+        }
+
+        void varint(int value) {
+            while (value > 0x7f) {
+                this.write(0x80 | (value & 0x7f));
+                value >>>= 7;
+            }
+            this.write(value);
+        }
+
+        void optional(final int value) {
+            if (-1 != value) {
+                this.varint(value);
+            }
+        }
+
+        void bytes(final byte[] bytes) {
+            this.varint(bytes.length);
+            System.arraycopy(bytes, 0, this.bytes, this.length, bytes.length);
+            this.length += bytes.length;
+        }
+
+        void scheme(final String scheme,
+                    final byte[] literal) {
+            if (null == scheme) {
+                this.varint(0);
+            } else if (null == literal) {
+                this.varint(schemeCode(scheme) + 1);
+            } else {
+                this.varint(SCHEMES.length + 1);
+                this.bytes(literal);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(this.bytes, this.length);
+        }
+
+        private final byte[] bytes;
+
+        private int length;
+    }
+
+    /**
+     * Reads the components written by an {@link Encoder}.
+     */
+    final static class Decoder {
+
+        Decoder(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        URI uri() {
+            this.version();
+            final int flags = this.read();
+            final String scheme = this.scheme();
+            final String rest = this.string();
+            final String text = null != scheme ?
+                    scheme + ':' + rest :
+                    rest;
+            if (0 != (flags & PARSE)) {
+                try {
+                    return new URI(text);
+                } catch (final URISyntaxException cause) {
+                    throw new IllegalArgumentException("Invalid URI encoding " + cause.getMessage()); //$NON-NLS-1$
+                }
+            }
+
+            final int[] layout = new int[URILayout.COUNT];
+            layout[URILayout.SCHEME] = null != scheme ? scheme.length() : -1;
+            layout[URILayout.AUTHORITY] = this.optional(flags, AUTHORITY);
+            layout[URILayout.USER_INFO] = this.optional(flags, USER_INFO);
+            layout[URILayout.HOST] = this.optional(flags, HOST);
+            layout[URILayout.PORT] = this.optional(flags, PORT);
+            final int path = 0 == (flags & OPAQUE) ?
+                    this.varint() :
+                    -1;
+            final int query = this.optional(flags, QUERY);
+            final int fragment = this.optional(flags, FRAGMENT);
+            layout[URILayout.PATH] = path;
+            layout[URILayout.QUERY] = query;
+            layout[URILayout.FRAGMENT] = fragment;
+
+            final int sspStart = layout[URILayout.SCHEME] + 1;
+            final int sspEnd = text.length() - (fragment + 1);
+            final int pathStart = -1 != path ?
+                    sspEnd - (query + 1) - path :
+                    -1;
+            if (sspEnd < sspStart || -1 != path && pathStart < sspStart ||
+                    layout[URILayout.AUTHORITY] > sspEnd - sspStart ||
+                    layout[URILayout.USER_INFO] + layout[URILayout.HOST] > layout[URILayout.AUTHORITY]) {
+                throw new IllegalArgumentException("Invalid URI encoding"); //$NON-NLS-1$
+            }
+            layout[URILayout.PATH_START] = pathStart;
+            if (!URILayout.isValid(text, layout)) {
+                throw new IllegalArgumentException("Invalid URI encoding"); //$NON-NLS-1$
+            }
+            return URILayout.uri(text, layout);
+        }
+
+        URL url() {
+            this.version();
+            final int flags = this.read();
+            final String protocol = this.scheme();
+            if (null == protocol) {
+                throw new IllegalArgumentException("Invalid URL encoding"); //$NON-NLS-1$
+            }
+            final int port = 0 != (flags & URL_PORT) ?
+                    this.varint() :
+                    -1;
+            final String host = this.optionalString(flags, URL_HOST);
+            String authority = this.optionalString(flags, URL_AUTHORITY);
+            final String userInfo = this.optionalString(flags, URL_USER_INFO);
+            final String path = this.optionalString(flags, URL_PATH);
+            final String query = this.optionalString(flags, URL_QUERY);
+            final String ref = this.optionalString(flags, URL_REF);
+
+            if (0 != (flags & URL_DERIVED_AUTHORITY)) {
+                if (null == host) {
+                    throw new IllegalArgumentException("Invalid URL encoding"); //$NON-NLS-1$
+                }
+                authority = derivedAuthority(userInfo, host, port);
+            }
+            if (!isURL(protocol, host, port, authority, userInfo, path, query)) {
+                throw new IllegalArgumentException("Invalid URL encoding"); //$NON-NLS-1$
+            }
+            return URL.components(protocol, host, port, authority, userInfo, path, query, ref);
+        }
+
+        private void version() {
+            final int version = this.read();
+            if (VERSION != version) {
+                throw new IllegalArgumentException("Unsupported version " + version); //$NON-NLS-1$
+            }
+        }
+
+        private String scheme() {
+            final int code = this.varint();
+            if (0 == code) {
+                return null;
+            }
+            if (code <= SCHEMES.length) {
+                return SCHEMES[code - 1];
+            }
+            if (SCHEMES.length + 1 == code) {
+                return this.string();
+            }
+            throw new IllegalArgumentException("Invalid scheme code " + code); //$NON-NLS-1$
+        }
+
+        private int optional(final int flags,
+                             final int flag) {
+            return 0 != (flags & flag) ?
+                    this.varint() :
+                    -1;
+        }
+
+        private String optionalString(final int flags,
+                                      final int flag) {
+            return 0 != (flags & flag) ?
+                    this.string() :
+                    null;
+        }
+
+        private String string() {
+            final int length = this.varint();
+            if (length > this.bytes.length - this.position) {
+                throw new IllegalArgumentException("Invalid length " + length); //$NON-NLS-1$
+            }
+            final String string = new String(this.bytes, this.position, length, StandardCharsets.UTF_8);
+            this.position += length;
+            return string;
+        }
+
+        private int varint() {
+            int value = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (shift > 28) {
+                    throw new IllegalArgumentException("Invalid varint"); //$NON-NLS-1$
+                }
+                b = this.bytes[this.position++];
+                value |= (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+            if (value < 0) {
+                throw new IllegalArgumentException("Invalid varint"); //$NON-NLS-1$
+            }
+            return value;
+        }
+
+        private int read() {
+            return this.bytes[this.position++] & 0xff;
+        }
+
+        void end() {
+            if (this.position != this.bytes.length) {
+                throw new IllegalArgumentException("Extra bytes after " + this.position); //$NON-NLS-1$
+            }
+        }
+
+        private final byte[] bytes;
+
+        private int position;
+    }
+
+    /**
+     * Stop creation
+     */
+    private URIBinary() {
+        throw new UnsupportedOperationException();
+    }
+}
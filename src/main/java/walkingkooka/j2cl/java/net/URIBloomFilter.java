@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * A Bloom filter of URIs keyed by {@link URIFingerprint#fingerprint(URI)}, so URIs that are
+ * {@link URI#equals(Object) equal} always set and test the same bits. Its bits are packed into longs and each of the
+ * {@link #hashCount()} bits of a URI are picked by double hashing its fingerprint, so testing or adding a URI
+ * allocates nothing once the fingerprint is known.
+ * <p>
+ * On the JVM any number of threads may add and test at once without locking, each bit being set by a compare and set
+ * of its long, and the bits may be saved with {@link #writeTo(OutputStream)} and loaded again with
+ * {@link #readFrom(InputStream)}.
+ */
+public final class URIBloomFilter {
+
+    /**
+     * Creates the bits of a new filter, chosen once when this class is initialized.
+     */
+    private final static IntFunction<BloomFilterBits> BITS_FACTORY = bitsFactory(null);
+
+    /**
+     * Plain longs are enough when there is only one thread as under J2CL. The J2CL build strips
+     * {@link #bitsFactory(String)} so the null argument above resolves to this method.
+     */
+    private static IntFunction<BloomFilterBits> bitsFactory(final Object j2cl) {
+        return LongArrayBloomFilterBits::new;
+    }
+
+    /**
+     * On the JVM the bits may be set by many threads. The null argument resolves to this method as String is more
+     * specific than Object.
+     */
+    @GwtIncompatible
+    private static IntFunction<BloomFilterBits> bitsFactory(final String jvm) {
+        return AtomicLongArrayBloomFilterBits::new;
+    }
+
+    /**
+     * The most longs a filter may have.
+     */
+    final static int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * The most hashes {@link #with(long, double)} picks, about log2 of 1 / false positive rate, which is 1074 for
+     * {@link Double#MIN_VALUE}.
+     */
+    final static int MAX_HASH_COUNT = 1074;
+
+    /**
+     * The number of longs {@link #readFrom(InputStream)} reads before allocating more.
+     */
+    final static int READ_CHUNK = 8 * 1024;
+
+    /**
+     * Creates an empty filter sized so that after the expected number of URIs are added, a URI that was not added
+     * is reported as present with about the given probability.
+     *
+     * @throws IllegalArgumentException if expectedInsertions is not positive, the rate is not between 0 and 1 or the
+     *                                  filter would need more than {@link Integer#MAX_VALUE} longs.
+     */
+    public static URIBloomFilter with(final long expectedInsertions,
+                                      final double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions " + expectedInsertions + " <= 0"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate " + falsePositiveRate + " not between 0 and 1"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        // m = -n ln p / (ln 2)^2 and k = m / n ln 2
+        final double log2 = Math.log(2);
+        final double bits = Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (log2 * log2));
+        final double length = Math.ceil(bits / 64);
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Filter too large for " + expectedInsertions + " insertions at " + falsePositiveRate); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        final int hashCount = (int) Math.max(1, Math.round(bits / expectedInsertions * log2));
+
+        return new URIBloomFilter(URIBloomFilter.BITS_FACTORY.apply((int) length), hashCount);
+    }
+
+    private URIBloomFilter(final BloomFilterBits bits,
+                           final int hashCount) {
+        this.bits = bits;
+        this.bitCount = (long) bits.length() << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Adds the given {@link URI}, returning true if any of its bits were clear, which means it was certainly not
+     * present.
+     */
+    public boolean add(final URI uri) {
+        return this.add(URIFingerprint.fingerprint(uri));
+    }
+
+    /**
+     * Adds a URI given its {@link URIFingerprint#fingerprint(URI)}, returning true if any of its bits were clear.
+     */
+    public boolean add(final long fingerprint) {
+        final BloomFilterBits bits = this.bits;
+        final long bitCount = this.bitCount;
+        final long step = step(fingerprint);
+        long hash = fingerprint;
+        boolean added = false;
+
+        for (int i = 0; i < this.hashCount; i++) {
+            added |= bits.set((hash & Long.MAX_VALUE) % bitCount);
+            hash += step;
+        }
+        return added;
+    }
+
+    /**
+     * Returns false if the given {@link URI} was certainly never added, or true if it probably was.
+     */
+    public boolean mightContain(final URI uri) {
+        return this.mightContain(URIFingerprint.fingerprint(uri));
+    }
+
+    /**
+     * Returns false if the URI with the given {@link URIFingerprint#fingerprint(URI)} was certainly never added.
+     */
+    public boolean mightContain(final long fingerprint) {
+        final BloomFilterBits bits = this.bits;
+        final long bitCount = this.bitCount;
+        final long step = step(fingerprint);
+        long hash = fingerprint;
+
+        for (int i = 0; i < this.hashCount; i++) {
+            if (!bits.get((hash & Long.MAX_VALUE) % bitCount)) {
+                return false;
+            }
+            hash += step;
+        }
+        return true;
+    }
+
+    /**
+     * The second hash of double hashing, mixed from the fingerprint with the murmur3 finalizer and odd so every step
+     * is distinct.
+     */
+    private static long step(final long fingerprint) {
+        long step = fingerprint;
+        step ^= step >>> 33;
+        step *= 0xFF51AFD7ED558CCDL;
+        step ^= step >>> 33;
+        step *= 0xC4CEB9FE1A85EC53L;
+        step ^= step >>> 33;
+        return step | 1;
+    }
+
+    /**
+     * The number of bits, a multiple of 64.
+     */
+    public long bitCount() {
+        return this.bitCount;
+    }
+
+    /**
+     * The number of bits set or tested for each URI.
+     */
+    public int hashCount() {
+        return this.hashCount;
+    }
+
+    // serialization....................................................................................................
+
+    /**
+     * Identifies saved filters.
+     */
+    private final static int MAGIC = 0x55424631; // UBF1
+
+    /**
+     * Writes the hash count and bits. Bits set by other threads while writing may or may not be included. The stream
+     * is not closed.
+     */
+    @GwtIncompatible
+    public void writeTo(final OutputStream output) throws IOException {
+        final DataOutputStream data = new DataOutputStream(output);
+        final BloomFilterBits bits = this.bits;
+        final int length = bits.length();
+
+        data.writeInt(MAGIC);
+        data.writeInt(this.hashCount);
+        data.writeInt(length);
+        for (int i = 0; i < length; i++) {
+            data.writeLong(bits.word(i));
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a filter written by {@link #writeTo(OutputStream)}. The stream is not closed.
+     *
+     * @throws IOException if the stream does not hold a filter or ends early.
+     */
+    @GwtIncompatible
+    public static URIBloomFilter readFrom(final InputStream input) throws IOException {
+        final DataInputStream data = new DataInputStream(input);
+        if (MAGIC != data.readInt()) {
+            throw new IOException("Not a URIBloomFilter"); //$NON-NLS-1$
+        }
+        final int hashCount = data.readInt();
+        final int length = data.readInt();
+        if (hashCount < 1 || hashCount > MAX_HASH_COUNT || length < 1 || length > MAX_LENGTH) {
+            throw new IOException("Invalid URIBloomFilter header"); //$NON-NLS-1$
+        }
+
+        // read in chunks first, so a stream that ends early fails before bits for its claimed length are allocated
+        final List<long[]> chunks = new ArrayList<>();
+        int remaining = length;
+        while (remaining > 0) {
+            final long[] chunk = new long[Math.min(READ_CHUNK, remaining)];
+            for (int i = 0; i < chunk.length; i++) {
+                chunk[i] = data.readLong();
+            }
+            chunks.add(chunk);
+            remaining -= chunk.length;
+        }
+
+        final BloomFilterBits bits = URIBloomFilter.BITS_FACTORY.apply(length);
+        int index = 0;
+        for (final long[] chunk : chunks) {
+            for (final long word : chunk) {
+                bits.setWord(index++, word);
+            }
+        }
+        return new URIBloomFilter(bits, hashCount);
+    }
+
+    @Override
+    public String toString() {
+        return this.bitCount + " bits, " + this.hashCount + " hashes"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private final BloomFilterBits bits;
+
+    private final long bitCount;
+
+    private final int hashCount;
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An append only store of many hierarchical {@link URI URIs}, split into columns held in primitive arrays rather than
+ * as objects. Schemes and hosts are replaced by ids into dictionaries of their distinct values, each path is front
+ * coded against the path of the row before it and user info, query and fragment are packed into char columns. A port
+ * written with leading zeros, such as {@code 080}, keeps its text in a map by row so the authority is rebuilt exactly.
+ * <p>
+ * Rows are read through a {@link URIColumnsCursor}, a reusable view that is moved from row to row and offers the same
+ * getters as {@link URI}. {@link #append(String)} parses into a single reused URI, so no URI is kept or created for
+ * each row. Opaque URIs and URIs with a registry based authority are not supported.
+ */
+public final class URIColumns {
+
+    /**
+     * The number of rows in each run of front coded paths. The first path of a run is stored whole.
+     */
+    final static int PATH_RUN = 16;
+
+    final static byte AUTHORITY = 1;
+    final static byte USER_INFO = 2;
+    final static byte EMPTY_PORT = 4;
+    final static byte QUERY = 8;
+    final static byte FRAGMENT = 16;
+    final static byte RAW_PORT = 32;
+
+    /**
+     * Creates an empty store.
+     */
+    public URIColumns() {
+        super();
+    }
+
+    /**
+     * Appends the components of the given URI as a new row, returning the index of that row.
+     */
+    public int append(final URI uri) {
+        if (null == uri) {
+            throw new NullPointerException("uri"); //$NON-NLS-1$
+        }
+        return this.appendComponents(uri);
+    }
+
+    /**
+     * Parses text and appends its components as a new row, returning the index of that row.
+     */
+    public int append(final String uri) throws URISyntaxException {
+        if (null == uri) {
+            throw new NullPointerException("uri"); //$NON-NLS-1$
+        }
+        URI scratch = this.scratch;
+        if (null == scratch) {
+            scratch = URI.scratch();
+            this.scratch = scratch;
+        }
+        scratch.reparse(uri);
+        return this.appendComponents(scratch);
+    }
+
+    private int appendComponents(final URI uri) {
+        if (uri.isOpaque()) {
+            throw new IllegalArgumentException("Opaque URI " + uri); //$NON-NLS-1$
+        }
+
+        final String authority = uri.getRawAuthority();
+        final String host = uri.getHost();
+        final String userInfo = uri.getRawUserInfo();
+        final int port = uri.getPort();
+
+        int flags = 0;
+        String rawPort = null;
+        if (null != authority) {
+            if (null == host) {
+                throw new IllegalArgumentException("Registry based authority " + uri); //$NON-NLS-1$
+            }
+            int length = host.length();
+            if (null != userInfo) {
+                length += userInfo.length() + 1;
+            }
+            if (-1 != port) {
+                final String portText = authority.substring(Math.min(length + 1, authority.length()));
+                if (!portText.equals(Integer.toString(port))) {
+                    flags |= RAW_PORT;
+                    rawPort = portText;
+                }
+                length += portText.length() + 1;
+            } else if (authority.endsWith(":")) { //$NON-NLS-1$
+                flags |= EMPTY_PORT;
+                length++;
+            }
+            if (length != authority.length()) {
+                throw new IllegalArgumentException("Unexpected authority " + uri); //$NON-NLS-1$
+            }
+            flags |= AUTHORITY;
+        } else if (uri.getRawSchemeSpecificPart().startsWith("//")) { //$NON-NLS-1$
+            flags |= AUTHORITY;
+        }
+
+        final String query = uri.getRawQuery();
+        final String fragment = uri.getRawFragment();
+        if (null != userInfo) {
+            flags |= USER_INFO;
+        }
+        if (null != query) {
+            flags |= QUERY;
+        }
+        if (null != fragment) {
+            flags |= FRAGMENT;
+        }
+
+        final int row = this.size;
+        if (row == this.ports.length) {
+            final int capacity = row * 2;
+            this.schemeIds = Arrays.copyOf(this.schemeIds, capacity);
+            this.hostIds = Arrays.copyOf(this.hostIds, capacity);
+            this.ports = Arrays.copyOf(this.ports, capacity);
+            this.flags = Arrays.copyOf(this.flags, capacity);
+            this.pathPrefixes = Arrays.copyOf(this.pathPrefixes, capacity);
+        }
+
+        this.schemeIds[row] = (short) this.schemes.id(uri.getScheme());
+        this.hostIds[row] = this.hosts.id(host);
+        this.ports[row] = port;
+        this.flags[row] = (byte) flags;
+        if (null != rawPort) {
+            this.rawPorts.put(row, rawPort);
+        }
+
+        final String path = uri.getRawPath();
+        final int prefix = 0 == row % PATH_RUN ?
+                0 :
+                this.commonPrefix(path);
+        this.pathPrefixes[row] = prefix;
+        this.pathSuffixes.append(path, prefix, path.length());
+        this.previousPath = path;
+
+        appendText(this.userInfos, userInfo);
+        appendText(this.queries, query);
+        appendText(this.fragments, fragment);
+
+        this.size = row + 1;
+        return row;
+    }
+
+    private int commonPrefix(final String path) {
+        final String previous = this.previousPath;
+        final int max = Math.min(previous.length(), path.length());
+        int i = 0;
+        while (i < max && previous.charAt(i) == path.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static void appendText(final CharColumn column,
+                                   final String text) {
+        if (null == text) {
+            column.append("", 0, 0); //$NON-NLS-1$
+        } else {
+            column.append(text, 0, text.length());
+        }
+    }
+
+    /**
+     * The number of rows.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * The number of distinct schemes, counting a missing scheme once if there is one.
+     */
+    public int schemeCount() {
+        return this.schemes.size();
+    }
+
+    /**
+     * The number of distinct hosts, counting a missing host once if there is one.
+     */
+    public int hostCount() {
+        return this.hosts.size();
+    }
+
+    /**
+     * Returns a new cursor before the first row. Cursors stay valid as rows are appended.
+     */
+    public URIColumnsCursor cursor() {
+        return new URIColumnsCursor(this);
+    }
+
+    @Override
+    public String toString() {
+        return this.size + " rows, " + this.schemeCount() + " schemes, " + this.hostCount() + " hosts"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    short[] schemeIds = new short[16];
+    int[] hostIds = new int[16];
+    int[] ports = new int[16];
+    byte[] flags = new byte[16];
+    int[] pathPrefixes = new int[16];
+
+    final CharColumn pathSuffixes = new CharColumn();
+    final CharColumn userInfos = new CharColumn();
+    final CharColumn queries = new CharColumn();
+    final CharColumn fragments = new CharColumn();
+
+    /**
+     * The text of each port that is not the canonical text of its number, by row.
+     */
+    final Map<Integer, String> rawPorts = new HashMap<>();
+
+    final Dictionary schemes = new Dictionary(Short.MAX_VALUE);
+    final Dictionary hosts = new Dictionary(Integer.MAX_VALUE);
+
+    private int size;
+
+    private String previousPath;
+
+    /**
+     * Reused by {@link #append(String)}, created on first use.
+     */
+    private URI scratch;
+
+    /**
+     * Gives each distinct string, including null, a small id.
+     */
+    final static class Dictionary {
+
+        Dictionary(final int max) {
+            this.max = max;
+        }
+
+        int id(final String value) {
+            Integer id = this.ids.get(value);
+            if (null == id) {
+                final int next = this.values.size();
+                if (next == this.max) {
+                    throw new IllegalStateException("Too many distinct values " + next); //$NON-NLS-1$
+                }
+                id = next;
+                this.ids.put(value, id);
+                this.values.add(value);
+            }
+            return id;
+        }
+
+        String value(final int id) {
+            return this.values.get(id);
+        }
+
+        int size() {
+            return this.values.size();
+        }
+
+        private final int max;
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+    }
+}
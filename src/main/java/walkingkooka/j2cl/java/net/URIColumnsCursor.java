@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+
+/**
+ * A reusable view of one row of a {@link URIColumns}, moved with {@link #moveTo(int)}. Scheme, host and port are read
+ * without allocating, and the path is rebuilt into a buffer held by the cursor, cheapest when rows are visited in
+ * order. The String getters create their result each time, while {@link #appendRawPath(StringBuilder)} and
+ * {@link #appendTo(StringBuilder)} copy the components without creating any objects.
+ */
+public final class URIColumnsCursor {
+
+    URIColumnsCursor(final URIColumns columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Moves this cursor to the given row.
+     */
+    public URIColumnsCursor moveTo(final int row) {
+        if (row < 0 || row >= this.columns.size()) {
+            throw new IndexOutOfBoundsException("Row " + row + " not between 0 and " + this.columns.size()); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        this.row = row;
+        return this;
+    }
+
+    /**
+     * The row this cursor is on, or -1 before the first move.
+     */
+    public int row() {
+        return this.row;
+    }
+
+    public String getScheme() {
+        final URIColumns columns = this.columns;
+        return columns.schemes.value(columns.schemeIds[this.checkRow()]);
+    }
+
+    public boolean isAbsolute() {
+        return null != this.getScheme();
+    }
+
+    /**
+     * Always false, as opaque URIs are not stored.
+     */
+    public boolean isOpaque() {
+        return false;
+    }
+
+    public String getRawAuthority() {
+        final int row = this.checkRow();
+        if (!this.has(URIColumns.AUTHORITY) || null == this.getHost()) {
+            return null;
+        }
+        final StringBuilder b = new StringBuilder();
+        this.appendAuthority(row, b);
+        return b.toString();
+    }
+
+    public String getAuthority() {
+        return decode(this.getRawAuthority());
+    }
+
+    public String getRawUserInfo() {
+        return this.text(URIColumns.USER_INFO, this.columns.userInfos);
+    }
+
+    public String getUserInfo() {
+        return decode(this.getRawUserInfo());
+    }
+
+    public String getHost() {
+        final URIColumns columns = this.columns;
+        return columns.hosts.value(columns.hostIds[this.checkRow()]);
+    }
+
+    public int getPort() {
+        return this.columns.ports[this.checkRow()];
+    }
+
+    public String getRawPath() {
+        this.path();
+        return new String(this.path, 0, this.pathLength);
+    }
+
+    public String getPath() {
+        return decode(this.getRawPath());
+    }
+
+    public String getRawQuery() {
+        return this.text(URIColumns.QUERY, this.columns.queries);
+    }
+
+    public String getQuery() {
+        return decode(this.getRawQuery());
+    }
+
+    public String getRawFragment() {
+        return this.text(URIColumns.FRAGMENT, this.columns.fragments);
+    }
+
+    public String getFragment() {
+        return decode(this.getRawFragment());
+    }
+
+    /**
+     * Appends the raw path of the current row.
+     */
+    public StringBuilder appendRawPath(final StringBuilder b) {
+        this.path();
+        return b.append(this.path, 0, this.pathLength);
+    }
+
+    /**
+     * Appends the text of the URI in the current row, the same as {@link URI#toString()} of the URI that was added.
+     */
+    public StringBuilder appendTo(final StringBuilder b) {
+        final int row = this.checkRow();
+
+        final String scheme = this.getScheme();
+        if (null != scheme) {
+            b.append(scheme).append(':');
+        }
+        if (this.has(URIColumns.AUTHORITY)) {
+            b.append("//"); //$NON-NLS-1$
+            this.appendAuthority(row, b);
+        }
+        this.appendRawPath(b);
+        if (this.has(URIColumns.QUERY)) {
+            append(this.columns.queries, row, b.append('?'));
+        }
+        if (this.has(URIColumns.FRAGMENT)) {
+            append(this.columns.fragments, row, b.append('#'));
+        }
+        return b;
+    }
+
+    private void appendAuthority(final int row,
+                                 final StringBuilder b) {
+        final URIColumns columns = this.columns;
+        if (this.has(URIColumns.USER_INFO)) {
+            append(columns.userInfos, row, b).append('@');
+        }
+        final String host = this.getHost();
+        if (null != host) {
+            b.append(host);
+        }
+        final int port = columns.ports[row];
+        if (this.has(URIColumns.RAW_PORT)) {
+            b.append(':').append(columns.rawPorts.get(row));
+        } else if (-1 != port) {
+            b.append(':').append(port);
+        } else if (this.has(URIColumns.EMPTY_PORT)) {
+            b.append(':');
+        }
+    }
+
+    private static StringBuilder append(final CharColumn column,
+                                        final int row,
+                                        final StringBuilder b) {
+        final int start = column.start(row);
+        return b.append(column.chars(), start, column.end(row) - start);
+    }
+
+    /**
+     * Creates a {@link URI} for the current row.
+     */
+    public URI toURI() {
+        return URI.create(this.toString());
+    }
+
+    private boolean has(final byte flag) {
+        return 0 != (this.columns.flags[this.checkRow()] & flag);
+    }
+
+    private String text(final byte flag,
+                        final CharColumn column) {
+        return this.has(flag) ?
+                column.text(this.row) :
+                null;
+    }
+
+    /**
+     * Fills path with the path of the current row, continuing from the path already there when it is of the row
+     * before in the same run of front coded paths.
+     */
+    private void path() {
+        final int row = this.checkRow();
+        final int pathRow = this.pathRow;
+        if (pathRow != row) {
+            final int first = row - row % URIColumns.PATH_RUN;
+            int next = pathRow >= first && pathRow < row ?
+                    pathRow + 1 :
+                    first;
+            while (next <= row) {
+                this.pathStep(next);
+                next++;
+            }
+            this.pathRow = row;
+        }
+    }
+
+    private void pathStep(final int row) {
+        final URIColumns columns = this.columns;
+        final CharColumn suffixes = columns.pathSuffixes;
+        final int prefix = columns.pathPrefixes[row];
+        final int start = suffixes.start(row);
+        final int length = suffixes.end(row) - start;
+
+        final int pathLength = prefix + length;
+        if (pathLength > this.path.length) {
+            this.path = Arrays.copyOf(this.path, Math.max(pathLength, this.path.length * 2));
+        }
+        System.arraycopy(suffixes.chars(), start, this.path, prefix, length);
+        this.pathLength = pathLength;
+    }
+
+    private int checkRow() {
+        final int row = this.row;
+        if (-1 == row) {
+            throw new IllegalStateException("Cursor not moved to a row"); //$NON-NLS-1$
+        }
+        return row;
+    }
+
+    private static String decode(final String s) {
+        if (null == s) {
+            return s;
+        }
+
+        try {
+            return URIEncoderDecoder.decode(s);
+        } catch (final UnsupportedEncodingException e) {
+            throw new RuntimeException(e.toString());
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (-1 == this.row) {
+            return ""; //$NON-NLS-1$
+        }
+        final ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            return this.appendTo(scratch.builder()).toString();
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private final URIColumns columns;
+
+    private int row = -1;
+
+    /**
+     * The path of {@link #pathRow}, valid up to {@link #pathLength}.
+     */
+    private char[] path = new char[64];
+
+    private int pathLength;
+
+    private int pathRow = -1;
+}
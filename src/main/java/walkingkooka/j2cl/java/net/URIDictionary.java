@@ -0,0 +1,299 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A read only dictionary of {@link URI URIs} held in a file written by a {@link URIDictionaryBuilder} and read in
+ * place through {@link FileChannel#map(FileChannel.MapMode, long, long) memory mapping}, so opening one costs only
+ * the mapping. Each URI has an id, its position in the order it was added.
+ * <p>
+ * The file starts with a header of {@link #HEADER_LENGTH} bytes, followed by the URIs as the UTF-8 bytes of their
+ * text front coded in blocks of {@link #BLOCK_SIZE}, each with the positions of its components, then the offset of
+ * each block and last a hash index of {@link URIFingerprint fingerprints} and ids using linear probing. URIs are
+ * created from the stored component positions without being parsed again. Numbers are big endian.
+ */
+@GwtIncompatible
+public final class URIDictionary {
+
+    final static int MAGIC = 0x55444931; // UDI1
+
+    final static int VERSION = 1;
+
+    final static int HEADER_LENGTH = 64;
+
+    /**
+     * The number of URIs in each front coded block.
+     */
+    final static int BLOCK_SIZE = 16;
+
+    /**
+     * Each hash slot holds a fingerprint and an id plus one, with zero marking an empty slot.
+     */
+    final static int SLOT_LENGTH = 8 + 4;
+
+    /**
+     * Files are mapped in chunks, as a single mapping is limited to 2GB.
+     */
+    private final static int CHUNK_BITS = 30;
+
+    private final static long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+
+    /**
+     * Returns a builder that writes a dictionary file.
+     */
+    public static URIDictionaryBuilder builder() {
+        return new URIDictionaryBuilder();
+    }
+
+    /**
+     * Maps the given dictionary file. The file must not change while the dictionary is in use.
+     *
+     * @throws IOException if the file cannot be mapped or does not hold a dictionary.
+     */
+    public static URIDictionary open(final Path file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long length = channel.size();
+            if (length < HEADER_LENGTH) {
+                throw new IOException("Not a URIDictionary " + file); //$NON-NLS-1$
+            }
+
+            final ByteBuffer[] chunks = new ByteBuffer[(int) ((length + CHUNK_MASK) >>> CHUNK_BITS)];
+            for (int i = 0; i < chunks.length; i++) {
+                final long start = (long) i << CHUNK_BITS;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_MASK + 1, length - start));
+            }
+            return new URIDictionary(chunks, length, file);
+        }
+    }
+
+    private URIDictionary(final ByteBuffer[] chunks,
+                          final long length,
+                          final Path file) throws IOException {
+        this.chunks = chunks;
+
+        if (MAGIC != this.getInt(0)) {
+            throw new IOException("Not a URIDictionary " + file); //$NON-NLS-1$
+        }
+        if (VERSION != this.getInt(4)) {
+            throw new IOException("Unsupported URIDictionary version " + this.getInt(4) + " " + file); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        this.size = this.getInt(8);
+        this.hashCapacity = this.getInt(12);
+        this.blockCount = this.getInt(16);
+        this.dataOffset = this.getLong(24);
+        this.blocksOffset = this.getLong(32);
+        this.hashOffset = this.getLong(40);
+
+        if (this.size < 0 ||
+                this.blockCount != (this.size + BLOCK_SIZE - 1) / BLOCK_SIZE ||
+                Integer.bitCount(this.hashCapacity) != 1 ||
+                this.hashCapacity <= this.size ||
+                this.dataOffset != HEADER_LENGTH ||
+                this.blocksOffset < this.dataOffset ||
+                this.hashOffset != this.blocksOffset + 8L * this.blockCount ||
+                this.getLong(48) != length ||
+                length != this.hashOffset + (long) SLOT_LENGTH * this.hashCapacity) {
+            throw new IOException("Invalid URIDictionary header " + file); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * The number of URIs.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the id of the URI {@link URI#equals(Object) equal} to the given URI, or -1 if there is none.
+     */
+    public int id(final URI uri) {
+        if (null == uri) {
+            throw new NullPointerException("uri"); //$NON-NLS-1$
+        }
+        final long fingerprint = URIFingerprint.fingerprint(uri);
+        final int mask = this.hashCapacity - 1;
+        Reader reader = null;
+
+        // the header guarantees an empty slot, but a damaged table is probed at most once around
+        int slot = slot(fingerprint, mask);
+        for (int probe = 0; probe < this.hashCapacity; probe++, slot = (slot + 1) & mask) {
+            final long position = this.hashOffset + (long) SLOT_LENGTH * slot;
+            final int id = this.getInt(position + 8) - 1;
+            if (-1 == id) {
+                return -1;
+            }
+            if (fingerprint == this.getLong(position)) {
+                if (null == reader) {
+                    reader = new Reader(this);
+                }
+                if (uri.equals(reader.seek(id).uri())) {
+                    return id;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Tests if a URI {@link URI#equals(Object) equal} to the given URI is present.
+     */
+    public boolean contains(final URI uri) {
+        return -1 != this.id(uri);
+    }
+
+    /**
+     * Returns the URI with the given id.
+     */
+    public URI uri(final int id) {
+        if (id < 0 || id >= this.size) {
+            throw new IndexOutOfBoundsException("Id " + id + " not between 0 and " + this.size); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return new Reader(this).seek(id).uri();
+    }
+
+    static int slot(final long fingerprint,
+                    final int mask) {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+
+    byte get(final long position) {
+        return this.chunks[(int) (position >>> CHUNK_BITS)].get((int) (position & CHUNK_MASK));
+    }
+
+    int getInt(final long position) {
+        return (this.get(position) & 0xff) << 24 |
+                (this.get(position + 1) & 0xff) << 16 |
+                (this.get(position + 2) & 0xff) << 8 |
+                (this.get(position + 3) & 0xff);
+    }
+
+    long getLong(final long position) {
+        return (long) this.getInt(position) << 32 |
+                (this.getInt(position + 4) & 0xffffffffL);
+    }
+
+    @Override
+    public String toString() {
+        return this.size + " URIs"; //$NON-NLS-1$
+    }
+
+    private final ByteBuffer[] chunks;
+
+    private final int size;
+
+    private final int hashCapacity;
+
+    private final int blockCount;
+
+    private final long dataOffset;
+
+    private final long blocksOffset;
+
+    private final long hashOffset;
+
+    /**
+     * Reads entries for a single lookup, holding the bytes and layout of the current entry.
+     */
+    final static class Reader {
+
+        Reader(final URIDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        /**
+         * Reads the entry with the given id, starting from the head of its block.
+         */
+        Reader seek(final int id) {
+            final URIDictionary dictionary = this.dictionary;
+            final int block = id / BLOCK_SIZE;
+            this.position = dictionary.dataOffset + dictionary.getLong(dictionary.blocksOffset + 8L * block);
+            this.read(0);
+            for (int i = id % BLOCK_SIZE; i > 0; i--) {
+                this.read(this.readVarint());
+            }
+            return this;
+        }
+
+        private void read(final int shared) {
+            final int length = this.readVarint();
+            final int total = shared + length;
+            if (total > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(total, this.bytes.length * 2));
+            }
+            final URIDictionary dictionary = this.dictionary;
+            final byte[] bytes = this.bytes;
+            long position = this.position;
+            for (int i = shared; i < total; i++) {
+                bytes[i] = dictionary.get(position++);
+            }
+            this.position = position;
+            this.length = total;
+
+            this.layout = 0 != this.readVarint();
+            if (this.layout) {
+                final int[] values = this.values;
+                for (int i = 0; i < URILayout.COUNT; i++) {
+                    values[i] = this.readVarint() - 1;
+                }
+            }
+        }
+
+        private int readVarint() {
+            final URIDictionary dictionary = this.dictionary;
+            int value = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = dictionary.get(this.position++);
+                value |= (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+
+        URI uri() {
+            final String text = new String(this.bytes, 0, this.length, StandardCharsets.UTF_8);
+            return this.layout ?
+                    URILayout.uri(text, this.values) :
+                    URI.create(text);
+        }
+
+        private final URIDictionary dictionary;
+
+        private long position;
+
+        private byte[] bytes = new byte[128];
+
+        private int length;
+
+        private boolean layout;
+
+        private final int[] values = new int[URILayout.COUNT];
+    }
+}
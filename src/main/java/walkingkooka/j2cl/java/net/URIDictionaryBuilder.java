@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Collects {@link URI URIs} and writes them as a {@link URIDictionary} file. The front coded entries are kept in
+ * memory in slabs until written, and a {@link URIMap} from URI to id finds duplicates. A builder is not thread safe.
+ */
+@GwtIncompatible
+public final class URIDictionaryBuilder {
+
+    private final static int SLAB_SIZE = 1 << 20;
+
+    URIDictionaryBuilder() {
+        super();
+        this.slab = new byte[SLAB_SIZE];
+        this.slabs.add(this.slab);
+    }
+
+    /**
+     * Adds the given URI, returning its id, which is that of an equal URI added before if there is one.
+     *
+     * @throws IllegalArgumentException if the URI holds an unpaired surrogate.
+     */
+    public int add(final URI uri) {
+        if (null == uri) {
+            throw new NullPointerException("uri"); //$NON-NLS-1$
+        }
+        final String text = uri.toString();
+        if (CanonicalURIBytes.hasUnpairedSurrogate(text)) {
+            throw CanonicalURIBytes.unpairedSurrogate(uri);
+        }
+        final Integer existing = this.ids.get(uri);
+        if (null != existing) {
+            return existing;
+        }
+
+        final int id = this.size;
+        if (Integer.MAX_VALUE - 1 == id) {
+            throw new IllegalStateException("Dictionary full"); //$NON-NLS-1$
+        }
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        if (0 == id % URIDictionary.BLOCK_SIZE) {
+            final int block = id / URIDictionary.BLOCK_SIZE;
+            if (block == this.blocks.length) {
+                this.blocks = Arrays.copyOf(this.blocks, block * 2);
+            }
+            this.blocks[block] = this.length;
+            this.writeBytes(bytes, 0);
+        } else {
+            final byte[] previous = this.previous;
+            final int max = Math.min(previous.length, bytes.length);
+            int shared = 0;
+            while (shared < max && previous[shared] == bytes[shared]) {
+                shared++;
+            }
+            this.writeVarint(shared);
+            this.writeBytes(bytes, shared);
+        }
+
+        final int[] layout = this.layout;
+        if (URILayout.fill(uri, text, layout)) {
+            this.writeVarint(1);
+            for (final int value : layout) {
+                this.writeVarint(value + 1);
+            }
+        } else {
+            this.writeVarint(0);
+        }
+
+        if (id == this.fingerprints.length) {
+            this.fingerprints = Arrays.copyOf(this.fingerprints, id * 2);
+        }
+        this.fingerprints[id] = URIFingerprint.fingerprint(uri);
+        this.ids.put(uri, id);
+        this.previous = bytes;
+        this.size = id + 1;
+        return id;
+    }
+
+    /**
+     * Adds every URI from the given {@link Iterator}.
+     */
+    public URIDictionaryBuilder addAll(final Iterator<? extends URI> uris) {
+        while (uris.hasNext()) {
+            this.add(uris.next());
+        }
+        return this;
+    }
+
+    /**
+     * The number of distinct URIs added.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void writeBytes(final byte[] bytes,
+                            final int from) {
+        this.writeVarint(bytes.length - from);
+        for (int i = from; i < bytes.length; i++) {
+            this.write(bytes[i]);
+        }
+    }
+
+    private void writeVarint(int value) {
+        while (value > 0x7f) {
+            this.write(0x80 | (value & 0x7f));
+            value >>>= 7;
+        }
+        this.write(value);
+    }
+
+    private void write(final int b) {
+        if (this.offset == this.slab.length) {
+            this.slab = new byte[SLAB_SIZE];
+            this.slabs.add(this.slab);
+            this.offset = 0;
+        }
+        this.slab[this.offset++] = (byte) b;
+        this.length++;
+    }
+
+    /**
+     * Writes a dictionary of the URIs added so far to the given file, replacing any file already there.
+     */
+    public void writeTo(final Path file) throws IOException {
+        final int size = this.size;
+        final int blockCount = (size + URIDictionary.BLOCK_SIZE - 1) / URIDictionary.BLOCK_SIZE;
+
+        // keep the hash index at most two thirds full
+        int capacity = 2;
+        while (capacity < size + (size >> 1) + 1) {
+            capacity <<= 1;
+        }
+        final long[] fingerprints = new long[capacity];
+        final int[] ids = new int[capacity];
+        final int mask = capacity - 1;
+        for (int id = 0; id < size; id++) {
+            final long fingerprint = this.fingerprints[id];
+            int slot = URIDictionary.slot(fingerprint, mask);
+            while (0 != ids[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            fingerprints[slot] = fingerprint;
+            ids[slot] = id + 1;
+        }
+
+        final long dataOffset = URIDictionary.HEADER_LENGTH;
+        final long blocksOffset = dataOffset + this.length;
+        final long hashOffset = blocksOffset + 8L * blockCount;
+        final long length = hashOffset + (long) URIDictionary.SLOT_LENGTH * capacity;
+
+        try (final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024))) {
+            data.writeInt(URIDictionary.MAGIC);
+            data.writeInt(URIDictionary.VERSION);
+            data.writeInt(size);
+            data.writeInt(capacity);
+            data.writeInt(blockCount);
+            data.writeInt(0);
+            data.writeLong(dataOffset);
+            data.writeLong(blocksOffset);
+            data.writeLong(hashOffset);
+            data.writeLong(length);
+            data.write(new byte[URIDictionary.HEADER_LENGTH - 56]);
+
+            final int last = this.slabs.size() - 1;
+            for (int i = 0; i <= last; i++) {
+                data.write(this.slabs.get(i), 0, i == last ? this.offset : SLAB_SIZE);
+            }
+            for (int i = 0; i < blockCount; i++) {
+                data.writeLong(this.blocks[i]);
+            }
+            for (int i = 0; i < capacity; i++) {
+                data.writeLong(fingerprints[i]);
+                data.writeInt(ids[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.size + " URIs"; //$NON-NLS-1$
+    }
+
+    private final URIMap<Integer> ids = new URIMap<>();
+
+    private final List<byte[]> slabs = new ArrayList<>();
+
+    private byte[] slab;
+
+    private int offset;
+
+    /**
+     * The number of bytes of entries written to the slabs.
+     */
+    private long length;
+
+    /**
+     * The offset of each block head within the entries.
+     */
+    private long[] blocks = new long[16];
+
+    private long[] fingerprints = new long[16];
+
+    private int size;
+
+    private byte[] previous;
+
+    private final int[] layout = new int[URILayout.COUNT];
+}
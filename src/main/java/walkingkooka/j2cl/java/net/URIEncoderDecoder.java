@@ -17,7 +17,6 @@
 
 package walkingkooka.j2cl.java.net;
 
-import java.io.ByteArrayOutputStream;
 import java.io.UnsupportedEncodingException;
 
 /**
@@ -119,28 +118,43 @@ class URIEncoderDecoder {
      *            string s
      * @return java.lang.String the converted string
      */
-    static String quoteIllegal(String s, String legal)
-            throws UnsupportedEncodingException {
-        StringBuilder buf = new StringBuilder();
-        for (int i = 0; i < s.length(); i++) {
-            char ch = s.charAt(i);
-            if ((ch >= 'a' && ch <= 'z')
-                    || (ch >= 'A' && ch <= 'Z')
-                    || (ch >= '0' && ch <= '9')
-                    || legal.indexOf(ch) > -1
-                    || (ch > 127 && !/*Character.*/isSpaceChar(ch) && !/*Character
-                            .*/isISOControl(ch))) {
-                buf.append(ch);
-            } else {
-                byte[] bytes = new String(new char[] { ch }).getBytes(encoding);
-                for (int j = 0; j < bytes.length; j++) {
-                    buf.append('%');
-                    buf.append(digits.charAt((bytes[j] & 0xf0) >> 4));
-                    buf.append(digits.charAt(bytes[j] & 0xf));
+    static String quoteIllegal(String s, String legal) {
+        int length = s.length();
+        int i = 0;
+        while (i < length && isLegal(s.charAt(i), legal)) {
+            i++;
+        }
+        if (i == length) {
+            return s;
+        }
+
+        ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            StringBuilder buf = scratch.builder();
+            buf.append(s, 0, i);
+            while (i < length) {
+                int start = i;
+                while (i < length && isLegal(s.charAt(i), legal)) {
+                    i++;
+                }
+                buf.append(s, start, i);
+                if (i < length) {
+                    i = appendEscaped(s, i, buf);
                 }
             }
+            return buf.toString();
+        } finally {
+            scratch.release();
         }
-        return buf.toString();
+    }
+
+    private static boolean isLegal(char ch, String legal) {
+        return (ch >= 'a' && ch <= 'z')
+                || (ch >= 'A' && ch <= 'Z')
+                || (ch >= '0' && ch <= '9')
+                || legal.indexOf(ch) > -1
+                || (ch > 127 && !/*Character.*/isSpaceChar(ch) && !/*Character
+                        .*/isISOControl(ch));
     }
 
     /**
@@ -156,22 +170,73 @@ class URIEncoderDecoder {
      *            java.lang.String the string to be converted
      * @return java.lang.String the converted string
      */
-    static String encodeOthers(String s) throws UnsupportedEncodingException {
-        StringBuilder buf = new StringBuilder();
-        for (int i = 0; i < s.length(); i++) {
-            char ch = s.charAt(i);
-            if (ch <= 127) {
-                buf.append(ch);
-            } else {
-                byte[] bytes = new String(new char[] { ch }).getBytes(encoding);
-                for (int j = 0; j < bytes.length; j++) {
-                    buf.append('%');
-                    buf.append(digits.charAt((bytes[j] & 0xf0) >> 4));
-                    buf.append(digits.charAt(bytes[j] & 0xf));
+    static String encodeOthers(String s) {
+        int length = s.length();
+        int i = 0;
+        while (i < length && s.charAt(i) <= 127) {
+            i++;
+        }
+        if (i == length) {
+            return s;
+        }
+
+        ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            StringBuilder buf = scratch.builder();
+            buf.append(s, 0, i);
+            while (i < length) {
+                int start = i;
+                while (i < length && s.charAt(i) <= 127) {
+                    i++;
+                }
+                buf.append(s, start, i);
+                if (i < length) {
+                    i = appendEscaped(s, i, buf);
                 }
             }
+            return buf.toString();
+        } finally {
+            scratch.release();
+        }
+    }
+
+    /*
+     * Appends the UTF-8 bytes of the code point at index as %XX escapes and
+     * returns the index after it. A surrogate pair is one code point, and an
+     * unpaired surrogate becomes '?' like String.getBytes does.
+     */
+    static int appendEscaped(String s, int index, StringBuilder buf) {
+        char ch = s.charAt(index++);
+        int codePoint = ch;
+        if (Character.isHighSurrogate(ch) && index < s.length()
+                && Character.isLowSurrogate(s.charAt(index))) {
+            codePoint = Character.toCodePoint(ch, s.charAt(index++));
+        } else if (Character.isSurrogate(ch)) {
+            codePoint = '?';
+        }
+
+        if (codePoint < 0x80) {
+            appendHex(codePoint, buf);
+        } else if (codePoint < 0x800) {
+            appendHex(0xc0 | (codePoint >> 6), buf);
+            appendHex(0x80 | (codePoint & 0x3f), buf);
+        } else if (codePoint < 0x10000) {
+            appendHex(0xe0 | (codePoint >> 12), buf);
+            appendHex(0x80 | ((codePoint >> 6) & 0x3f), buf);
+            appendHex(0x80 | (codePoint & 0x3f), buf);
+        } else {
+            appendHex(0xf0 | (codePoint >> 18), buf);
+            appendHex(0x80 | ((codePoint >> 12) & 0x3f), buf);
+            appendHex(0x80 | ((codePoint >> 6) & 0x3f), buf);
+            appendHex(0x80 | (codePoint & 0x3f), buf);
         }
-        return buf.toString();
+        return index;
+    }
+
+    private static void appendHex(int b, StringBuilder buf) {
+        buf.append('%');
+        buf.append(digits.charAt((b & 0xf0) >> 4));
+        buf.append(digits.charAt(b & 0xf));
     }
 
     /**
@@ -192,12 +257,22 @@ class URIEncoderDecoder {
      */
     static String decode(String s) throws UnsupportedEncodingException {
 
-        StringBuilder result = new StringBuilder();
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // each %XX decodes to at most one char, so the input length is enough
+        ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            return decode(s, scratch.chars(s.length()), scratch.bytes(s.length() / 3));
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private static String decode(String s, char[] result, byte[] out)
+            throws UnsupportedEncodingException {
+        int resultLength = 0;
         for (int i = 0; i < s.length();) {
             char c = s.charAt(i);
             if (c == '%') {
-                out.reset();
+                int outLength = 0;
                 do {
                     if (i + 2 >= s.length()) {
 //                        luni.80=Incomplete % sequence at\: {0}
@@ -214,16 +289,18 @@ class URIEncoderDecoder {
                         //        String.valueOf(i)));
                         throw new IllegalArgumentException("Invalid % sequence " + s.substring(i, i + 3) + " at: " + i);
                     }
-                    out.write((byte) ((d1 << 4) + d2));
+                    out[outLength++] = (byte) ((d1 << 4) + d2);
                     i += 3;
                 } while (i < s.length() && s.charAt(i) == '%');
-                result.append(out.toString(encoding));
+                String decoded = new String(out, 0, outLength, encoding);
+                decoded.getChars(0, decoded.length(), result, resultLength);
+                resultLength += decoded.length();
                 continue;
             }
-            result.append(c);
+            result[resultLength++] = c;
             i++;
         }
-        return result.toString();
+        return new String(result, 0, resultLength);
     }
 
     // introduce equivalents/inlined for unsupported J2CL Character methods.
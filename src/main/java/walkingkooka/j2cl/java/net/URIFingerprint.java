@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * Stable 64 bit fingerprints of a {@link URI}, for sharding and dedupe across processes and over time.
+ * <p>
+ * A fingerprint is the 64 bit xxHash, with a seed of zero, of the UTF-8 bytes of the same canonical form that
+ * {@link URI#hashCode()} uses: the scheme and host in lower case, each char on its own, and the hex digits of every
+ * {@code %XX} escape in lower case. URIs that are {@link URI#equals(Object) equal} therefore always have the same
+ * fingerprint, and any other xxHash64 implementation given that canonical form gives the same value. The bytes are
+ * fed straight from the components of the URI so the canonical form is never built, and only 64 bit integer
+ * arithmetic is used so J2CL gives the same values as the JVM. An unpaired surrogate is hashed as {@code '?'} like
+ * {@link String#getBytes(java.nio.charset.Charset)} does.
+ * <p>
+ * This canonical form and hash are part of the contract of this class and will not change.
+ */
+public final class URIFingerprint {
+
+    /**
+     * Returns the fingerprint of the given {@link URI}.
+     */
+    public static long fingerprint(final URI uri) {
+        final Hasher hasher = new Hasher();
+        hasher.uri(uri);
+        return hasher.finish();
+    }
+
+    /**
+     * Returns the fingerprint of the host of the given {@link URI} in lower case, for partitioning by host. A URI
+     * with a registry based authority uses its authority with the escape rules of {@link #fingerprint(URI)} and any
+     * other URI without a host gives the fingerprint of an empty string.
+     */
+    public static long hostFingerprint(final URI uri) {
+        final Hasher hasher = new Hasher();
+        hasher.host(uri);
+        return hasher.finish();
+    }
+
+    /**
+     * Returns the xxHash64 of the UTF-8 bytes of the given text.
+     */
+    static long xxHash64(final String text) {
+        final Hasher hasher = new Hasher();
+        hasher.text(text, false, false);
+        return hasher.finish();
+    }
+
+    /**
+     * xxHash64 fed with UTF-8 bytes as they are produced, holding the current 32 byte stripe in four longs.
+     */
+    static final class Hasher extends CanonicalURIBytes {
+
+        private final static long PRIME1 = 0x9E3779B185EBCA87L;
+        private final static long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+        private final static long PRIME3 = 0x165667B19E3779F9L;
+        private final static long PRIME4 = 0x85EBCA77C2B2AE63L;
+        private final static long PRIME5 = 0x27D4EB2F165667C5L;
+
+        @Override
+        void add(final int b) {
+            this.word |= (long) (b & 0xff) << (this.wordBytes << 3);
+            this.wordBytes++;
+            this.length++;
+
+            if (8 == this.wordBytes) {
+                final long word = this.word;
+                this.word = 0;
+                this.wordBytes = 0;
+
+                switch (this.words) {
+                    case 0:
+                        this.word0 = word;
+                        this.words = 1;
+                        break;
+                    case 1:
+                        this.word1 = word;
+                        this.words = 2;
+                        break;
+                    case 2:
+                        this.word2 = word;
+                        this.words = 3;
+                        break;
+                    default:
+                        this.stripe(word);
+                        this.words = 0;
+                        break;
+                }
+            }
+        }
+
+        private void stripe(final long word3) {
+            if (!this.striped) {
+                this.v1 = PRIME1 + PRIME2;
+                this.v2 = PRIME2;
+                this.v3 = 0;
+                this.v4 = -PRIME1;
+                this.striped = true;
+            }
+            this.v1 = round(this.v1, this.word0);
+            this.v2 = round(this.v2, this.word1);
+            this.v3 = round(this.v3, this.word2);
+            this.v4 = round(this.v4, word3);
+        }
+
+        /**
+         * The number of bytes hashed so far.
+         */
+        long length() {
+            return this.length;
+        }
+
+        long finish() {
+            long hash;
+            if (this.striped) {
+                final long v1 = this.v1;
+                final long v2 = this.v2;
+                final long v3 = this.v3;
+                final long v4 = this.v4;
+                hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+                hash = merge(hash, v1);
+                hash = merge(hash, v2);
+                hash = merge(hash, v3);
+                hash = merge(hash, v4);
+            } else {
+                hash = PRIME5;
+            }
+            hash += this.length;
+
+            final int words = this.words;
+            if (words > 0) {
+                hash = word(hash, this.word0);
+            }
+            if (words > 1) {
+                hash = word(hash, this.word1);
+            }
+            if (words > 2) {
+                hash = word(hash, this.word2);
+            }
+
+            long word = this.word;
+            int wordBytes = this.wordBytes;
+            if (wordBytes >= 4) {
+                hash ^= (word & 0xffffffffL) * PRIME1;
+                hash = Long.rotateLeft(hash, 23) * PRIME2 + PRIME3;
+                word >>>= 32;
+                wordBytes -= 4;
+            }
+            while (wordBytes > 0) {
+                hash ^= (word & 0xff) * PRIME5;
+                hash = Long.rotateLeft(hash, 11) * PRIME1;
+                word >>>= 8;
+                wordBytes--;
+            }
+
+            hash ^= hash >>> 33;
+            hash *= PRIME2;
+            hash ^= hash >>> 29;
+            hash *= PRIME3;
+            hash ^= hash >>> 32;
+            return hash;
+        }
+
+        private static long round(final long accumulator,
+                                  final long input) {
+            return Long.rotateLeft(accumulator + input * PRIME2, 31) * PRIME1;
+        }
+
+        private static long merge(final long hash,
+                                  final long accumulator) {
+            return (hash ^ round(0, accumulator)) * PRIME1 + PRIME4;
+        }
+
+        private static long word(final long hash,
+                                 final long word) {
+            return Long.rotateLeft(hash ^ round(0, word), 27) * PRIME1 + PRIME4;
+        }
+
+        private long v1;
+        private long v2;
+        private long v3;
+        private long v4;
+
+        /**
+         * True once the first 32 byte stripe has been hashed.
+         */
+        private boolean striped;
+
+        /**
+         * The complete words of the current stripe.
+         */
+        private long word0;
+        private long word1;
+        private long word2;
+        private int words;
+
+        /**
+         * The bytes of the next word, least significant first.
+         */
+        private long word;
+        private int wordBytes;
+
+        private long length;
+    }
+
+    /**
+     * Stop creation
+     */
+    private URIFingerprint() {
+        throw new UnsupportedOperationException();
+    }
+}
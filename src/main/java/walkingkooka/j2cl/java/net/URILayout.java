@@ -0,0 +1,324 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * Records where each raw component of a {@link URI} sits within its {@link URI#toString()}, so the URI can be created
+ * again from that text by cutting out its components rather than parsing it. A layout is an int[] of {@link #COUNT}
+ * values, each a length or -1 for a missing component, with the scheme specific part and fragment found from the
+ * others.
+ */
+final class URILayout {
+
+    final static int SCHEME = 0;
+    final static int AUTHORITY = 1;
+    final static int USER_INFO = 2;
+    final static int HOST = 3;
+    final static int PORT = 4;
+    final static int PATH_START = 5;
+    final static int PATH = 6;
+    final static int QUERY = 7;
+    final static int FRAGMENT = 8;
+
+    /**
+     * The number of values in a layout.
+     */
+    final static int COUNT = 9;
+
+    /**
+     * Fills layout with the positions of the components of uri within text, its {@link URI#toString()}. Returns false
+     * if the components are not found where expected, which is possible for a URI created from components by a
+     * constructor, in which case text must be parsed instead.
+     */
+    static boolean fill(final URI uri,
+                        final String text,
+                        final int[] layout) {
+        final String scheme = uri.getScheme();
+        final String fragment = uri.getRawFragment();
+        final int sspStart;
+        if (null != scheme) {
+            if (!text.startsWith(scheme) || text.length() == scheme.length() || ':' != text.charAt(scheme.length())) {
+                return false;
+            }
+            sspStart = scheme.length() + 1;
+        } else {
+            sspStart = 0;
+        }
+        final int sspEnd = text.length() - (null != fragment ? fragment.length() + 1 : 0);
+        if (sspEnd < sspStart ||
+                null != fragment && ('#' != text.charAt(sspEnd) || !text.endsWith(fragment)) ||
+                !text.regionMatches(sspStart, uri.getRawSchemeSpecificPart(), 0, sspEnd - sspStart) ||
+                uri.getRawSchemeSpecificPart().length() != sspEnd - sspStart) {
+            return false;
+        }
+
+        layout[SCHEME] = length(scheme);
+        layout[FRAGMENT] = length(fragment);
+        layout[PORT] = uri.getPort();
+
+        final String path = uri.getRawPath();
+        if (uri.isOpaque()) {
+            layout[AUTHORITY] = -1;
+            layout[USER_INFO] = -1;
+            layout[HOST] = -1;
+            layout[PATH_START] = -1;
+            layout[PATH] = -1;
+            layout[QUERY] = -1;
+            return true;
+        }
+
+        final String query = uri.getRawQuery();
+        final int pathEnd = sspEnd - (null != query ? query.length() + 1 : 0);
+        final int pathStart = pathEnd - path.length();
+        if (pathStart < sspStart ||
+                !text.regionMatches(pathStart, path, 0, path.length()) ||
+                null != query && ('?' != text.charAt(pathEnd) || !text.regionMatches(pathEnd + 1, query, 0, query.length()))) {
+            return false;
+        }
+
+        final String authority = uri.getRawAuthority();
+        final String userInfo = uri.getRawUserInfo();
+        final String host = uri.getHost();
+        if (null != authority) {
+            final int authorityStart = sspStart + 2;
+            if (authorityStart + authority.length() != pathStart ||
+                    !text.regionMatches(sspStart, "//", 0, 2) || //$NON-NLS-1$
+                    !text.regionMatches(authorityStart, authority, 0, authority.length())) {
+                return false;
+            }
+            if (null != host) {
+                final int hostStart = null != userInfo ?
+                        userInfo.length() + 1 :
+                        0;
+                if (null != userInfo && (!authority.startsWith(userInfo) || '@' != authority.charAt(userInfo.length())) ||
+                        !authority.startsWith(host, hostStart)) {
+                    return false;
+                }
+            }
+        }
+
+        layout[AUTHORITY] = length(authority);
+        layout[USER_INFO] = length(userInfo);
+        layout[HOST] = length(host);
+        layout[PATH_START] = pathStart;
+        layout[PATH] = path.length();
+        layout[QUERY] = length(query);
+        return true;
+    }
+
+    private static int length(final String component) {
+        return null != component ?
+                component.length() :
+                -1;
+    }
+
+    /**
+     * Tests if the components of a layout within text are where parsing text would find them, so a layout read from
+     * untrusted bytes never gives a URI whose components disagree with its text. The characters of each component
+     * are not validated.
+     */
+    static boolean isValid(final String text,
+                           final int[] layout) {
+        final int schemeLength = layout[SCHEME];
+        final int sspStart = schemeLength + 1;
+        final int sspEnd = text.length() - (layout[FRAGMENT] + 1);
+
+        // the scheme ends at the first colon, which must come before any other delimiter
+        final int schemeEnd = indexOf(text, ":/?#", 0, text.length()); //$NON-NLS-1$
+        if (-1 != schemeLength ?
+                0 == schemeLength || schemeEnd != schemeLength :
+                -1 != schemeEnd && ':' == text.charAt(schemeEnd)) {
+            return false;
+        }
+        // the fragment starts at the first hash
+        if (-1 != indexOf(text, "#", sspStart, sspEnd)) { //$NON-NLS-1$
+            return false;
+        }
+
+        final boolean slash = sspEnd > sspStart && '/' == text.charAt(sspStart);
+        final int pathStart = layout[PATH_START];
+        if (-1 == pathStart) {
+            return -1 != schemeLength && sspEnd > sspStart && !slash;
+        }
+        if (-1 != schemeLength && !slash) {
+            return false;
+        }
+
+        final int pathEnd = pathStart + layout[PATH];
+        if (-1 != indexOf(text, "?", pathStart, pathEnd) || //$NON-NLS-1$
+                -1 != layout[QUERY] && '?' != text.charAt(pathEnd)) {
+            return false;
+        }
+
+        final boolean authority = text.startsWith("//", sspStart); //$NON-NLS-1$
+        final int authorityLength = layout[AUTHORITY];
+        if (-1 == authorityLength) {
+            return pathStart == (authority ? sspStart + 2 : sspStart);
+        }
+        final int authorityStart = sspStart + 2;
+        final int authorityEnd = authorityStart + authorityLength;
+        if (!authority ||
+                0 == authorityLength ||
+                pathStart != authorityEnd ||
+                pathEnd > pathStart && '/' != text.charAt(pathStart) ||
+                -1 != indexOf(text, "/?", authorityStart, authorityEnd)) { //$NON-NLS-1$
+            return false;
+        }
+
+        final int hostLength = layout[HOST];
+        if (-1 == hostLength) {
+            return -1 == layout[USER_INFO] && -1 == layout[PORT];
+        }
+        int hostStart = authorityStart;
+        final int userInfoLength = layout[USER_INFO];
+        if (-1 != userInfoLength) {
+            hostStart += userInfoLength + 1;
+            if (hostStart > authorityEnd ||
+                    '@' != text.charAt(hostStart - 1) ||
+                    -1 != indexOf(text, "@", authorityStart, hostStart - 1)) { //$NON-NLS-1$
+                return false;
+            }
+        }
+        final int hostEnd = hostStart + hostLength;
+        if (0 == hostLength ||
+                hostEnd > authorityEnd ||
+                -1 != indexOf(text, "@", hostStart, hostEnd)) { //$NON-NLS-1$
+            return false;
+        }
+        // only an IPv6 address in brackets may hold a colon
+        if ('[' == text.charAt(hostStart) ?
+                ']' != text.charAt(hostEnd - 1) || -1 != indexOf(text, "]", hostStart, hostEnd - 1) : //$NON-NLS-1$
+                -1 != indexOf(text, ":[]", hostStart, hostEnd)) { //$NON-NLS-1$
+            return false;
+        }
+        return hostEnd == authorityEnd ?
+                -1 == layout[PORT] :
+                ':' == text.charAt(hostEnd) && isPort(text, hostEnd + 1, authorityEnd, layout[PORT]);
+    }
+
+    /**
+     * Tests if the digits between start and end are the given port, where no digits are no port.
+     */
+    static boolean isPort(final String text,
+                                  final int start,
+                                  final int end,
+                                  final int port) {
+        if (start == end) {
+            return -1 == port;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE) {
+                return false;
+            }
+        }
+        return value == port;
+    }
+
+    /**
+     * Returns the index of the first of the given chars between start and end, or -1.
+     */
+    static int indexOf(final String text,
+                               final String chars,
+                               final int start,
+                               final int end) {
+        for (int i = start; i < end; i++) {
+            if (-1 != chars.indexOf(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Creates the URI for text using the positions of its components in layout.
+     */
+    static URI uri(final String text,
+                   final int[] layout) {
+        final int schemeLength = layout[SCHEME];
+        final int fragmentLength = layout[FRAGMENT];
+
+        final int sspStart = schemeLength + 1;
+        final int sspEnd = text.length() - (fragmentLength + 1);
+
+        final String scheme = -1 != schemeLength ?
+                text.substring(0, schemeLength) :
+                null;
+        final String schemeSpecificPart = text.substring(sspStart, sspEnd);
+        final String fragment = -1 != fragmentLength ?
+                text.substring(sspEnd + 1) :
+                null;
+
+        String authority = null;
+        String userInfo = null;
+        String host = null;
+        String path = null;
+        String query = null;
+
+        final int pathStart = layout[PATH_START];
+        if (-1 != pathStart) {
+            final int authorityLength = layout[AUTHORITY];
+            if (-1 != authorityLength) {
+                final int authorityStart = sspStart + 2;
+                authority = text.substring(authorityStart, authorityStart + authorityLength);
+
+                final int userInfoLength = layout[USER_INFO];
+                int hostStart = authorityStart;
+                if (-1 != userInfoLength) {
+                    userInfo = text.substring(authorityStart, authorityStart + userInfoLength);
+                    hostStart += userInfoLength + 1;
+                }
+                final int hostLength = layout[HOST];
+                if (-1 != hostLength) {
+                    host = text.substring(hostStart, hostStart + hostLength);
+                }
+            }
+
+            final int pathEnd = pathStart + layout[PATH];
+            path = text.substring(pathStart, pathEnd);
+            if (-1 != layout[QUERY]) {
+                query = text.substring(pathEnd + 1, pathEnd + 1 + layout[QUERY]);
+            }
+        }
+
+        return URI.components(
+                text,
+                scheme,
+                schemeSpecificPart,
+                authority,
+                userInfo,
+                host,
+                layout[PORT],
+                path,
+                query,
+                fragment
+        );
+    }
+
+    /**
+     * Stop creation
+     */
+    private URILayout() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@link Map} with {@link URI} keys that keeps each key as the UTF-8 bytes of its canonical form rather than as an
+ * object, in the same way as {@link URISet}. Keys follow {@link URI#equals(Object)} and are created again when
+ * iterating, so they are equal to but not the same as those put. Entries cannot be removed except by
+ * {@link #clear()}, null keys are not allowed but null values are.
+ */
+public final class URIMap<V> extends AbstractMap<URI, V> {
+
+    /**
+     * Creates an empty map.
+     */
+    public URIMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map with room for the given number of entries before it grows.
+     */
+    public URIMap(final int expectedSize) {
+        this.table = new URITable(expectedSize, true);
+    }
+
+    @Override
+    public V put(final URI key,
+                 final V value) {
+        if (null == key) {
+            throw new NullPointerException("key"); //$NON-NLS-1$
+        }
+        final int slot = this.table.add(key);
+        final V previous = this.value(slot);
+        this.table.setValue(slot, value);
+        return previous;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final int slot = this.find(key);
+        return -1 == slot ?
+                null :
+                this.value(slot);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return -1 != this.find(key);
+    }
+
+    private int find(final Object key) {
+        return key instanceof URI ?
+                this.table.find((URI) key) :
+                -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(final int slot) {
+        return (V) this.table.value(slot);
+    }
+
+    @Override
+    public int size() {
+        return this.table.size();
+    }
+
+    @Override
+    public void clear() {
+        this.table.clear();
+    }
+
+    /**
+     * Returns the entries in no particular order, each key parsed from its canonical form as it is reached.
+     * {@link Map.Entry#setValue(Object)} writes through but {@link Iterator#remove()} is not supported.
+     */
+    @Override
+    public Set<Map.Entry<URI, V>> entrySet() {
+        return new AbstractSet<Map.Entry<URI, V>>() {
+
+            @Override
+            public Iterator<Map.Entry<URI, V>> iterator() {
+                return URIMap.this.iterator();
+            }
+
+            @Override
+            public int size() {
+                return URIMap.this.size();
+            }
+        };
+    }
+
+    private Iterator<Map.Entry<URI, V>> iterator() {
+        final URITable table = this.table;
+        return new Iterator<Map.Entry<URI, V>>() {
+
+            @Override
+            public boolean hasNext() {
+                while (this.slot < table.capacity() && !table.isOccupied(this.slot)) {
+                    this.slot++;
+                }
+                return this.slot < table.capacity();
+            }
+
+            @Override
+            public Map.Entry<URI, V> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new Entry(this.slot++);
+            }
+
+            private int slot;
+        };
+    }
+
+    /**
+     * A {@link Map.Entry} with its key parsed when it is created, whose {@link #setValue(Object)} puts to the map.
+     */
+    private final class Entry implements Map.Entry<URI, V> {
+
+        Entry(final int slot) {
+            this.key = URIMap.this.table.uri(slot);
+            this.value = URIMap.this.value(slot);
+        }
+
+        @Override
+        public URI getKey() {
+            return this.key;
+        }
+
+        @Override
+        public V getValue() {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(final V value) {
+            final V previous = this.value;
+            URIMap.this.put(this.key, value);
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other ||
+                    other instanceof Map.Entry &&
+                            this.equals0((Map.Entry<?, ?>) other);
+        }
+
+        private boolean equals0(final Map.Entry<?, ?> other) {
+            return this.key.equals(other.getKey()) &&
+                    Objects.equals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.key.hashCode() ^ Objects.hashCode(this.value);
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value; //$NON-NLS-1$
+        }
+
+        private final URI key;
+
+        private V value;
+    }
+
+    private final URITable table;
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable index of rules keyed by scheme, host and path prefix, answering which rules apply to a {@link URI} or
+ * {@link URL}. Rules are added with a {@link URIPrefixIndexBuilder} and once built the index may be shared by any
+ * number of threads.
+ * <p>
+ * Keys are held in a trie with one level for the scheme, one for each host label from the last to the first, and one
+ * for each raw path segment. The children of every node are packed into shared sorted arrays and found by a binary
+ * search which compares the text of the URI in place, so a lookup allocates nothing but its result and costs one
+ * search for each label and segment.
+ * <p>
+ * Like {@link URI#equals(Object)} the scheme and host ignore case and path segments only ignore the case of the hex
+ * digits in {@code %XX} escapes. A rule host of {@code *.example.com} matches any host ending with
+ * {@code .example.com}, otherwise hosts must be equal. A rule path matches whole segments, so {@code /api} matches
+ * {@code /api} and {@code /api/users} but not {@code /apis}, and matrix parameters in the URI are ignored. Ports,
+ * queries and fragments are not part of rules.
+ * <p>
+ * When several rules match, the one with the most specific host wins, an exact host being more specific than any
+ * wildcard, followed by the one with the most path segments.
+ */
+public final class URIPrefixIndex<T> {
+
+    /**
+     * Returns a builder for a new index.
+     */
+    public static <T> URIPrefixIndexBuilder<T> builder() {
+        return new URIPrefixIndexBuilder<>();
+    }
+
+    /**
+     * The key of the child under the last host label holding the rules for that exact host.
+     */
+    final static String HOST_END = ""; //$NON-NLS-1$
+
+    /**
+     * The key of the child under a host label holding the rules for any host below it.
+     */
+    final static String HOST_WILDCARD = "*"; //$NON-NLS-1$
+
+    URIPrefixIndex(final int[] edges,
+                   final String[] keys,
+                   final int[] targets,
+                   final Object[] values,
+                   final int size) {
+        this.edges = edges;
+        this.keys = keys;
+        this.targets = targets;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * The number of rules.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the value of the most specific rule matching the given {@link URI}, or null when none match.
+     */
+    public T longestPrefix(final URI uri) {
+        return this.match(uri.getScheme(), uri.getHost(), uri.getRawPath(), null);
+    }
+
+    /**
+     * Returns the value of the most specific rule matching the given {@link URL}, or null when none match.
+     */
+    public T longestPrefix(final URL url) {
+        return this.match(url.getProtocol(), url.getHost(), url.getPath(), null);
+    }
+
+    /**
+     * Returns the values of every rule matching the given {@link URI}, least specific first.
+     */
+    public List<T> prefixes(final URI uri) {
+        final List<T> values = new ArrayList<>();
+        this.match(uri.getScheme(), uri.getHost(), uri.getRawPath(), values);
+        return values.isEmpty() ?
+                Collections.<T>emptyList() :
+                values;
+    }
+
+    /**
+     * Returns the values of every rule matching the given {@link URL}, least specific first.
+     */
+    public List<T> prefixes(final URL url) {
+        final List<T> values = new ArrayList<>();
+        this.match(url.getProtocol(), url.getHost(), url.getPath(), values);
+        return values.isEmpty() ?
+                Collections.<T>emptyList() :
+                values;
+    }
+
+    /**
+     * Visits every matching rule from the least specific, adding each value to all when it is not null, and returns
+     * the value of the last.
+     */
+    private T match(final String scheme,
+                    final String host,
+                    final String path,
+                    final List<T> all) {
+        if (null == scheme || null == host || host.isEmpty()) {
+            return null;
+        }
+
+        int node = this.find(0, scheme, 0, scheme.length(), false);
+        if (-1 == node) {
+            return null;
+        }
+
+        PathSegments segments = null;
+        T last = null;
+
+        // host labels from the last
+        int end = host.length();
+        while (-1 != node) {
+            final int dot = host.lastIndexOf('.', end - 1);
+            final int start = dot + 1;
+            if (start == end) {
+                // an empty label
+                break;
+            }
+            node = this.find(node, host, start, end, false);
+            if (-1 == node) {
+                break;
+            }
+
+            if (-1 == dot) {
+                final int exact = this.find(node, HOST_END, 0, 0, false);
+                if (-1 != exact) {
+                    if (null == segments) {
+                        segments = PathSegments.parse(path);
+                    }
+                    last = this.matchPath(exact, segments, all, last);
+                }
+                break;
+            }
+
+            final int wildcard = this.find(node, HOST_WILDCARD, 0, 1, false);
+            if (-1 != wildcard) {
+                if (null == segments) {
+                    segments = PathSegments.parse(path);
+                }
+                last = this.matchPath(wildcard, segments, all, last);
+            }
+            end = dot;
+        }
+
+        return last;
+    }
+
+    private T matchPath(final int start,
+                        final PathSegments segments,
+                        final List<T> all,
+                        final T last) {
+        final String path = segments.toString();
+        final int count = segments.size();
+        T result = last;
+        int node = start;
+
+        for (int i = 0; ; i++) {
+            final T value = this.value(node);
+            if (null != value) {
+                if (null != all) {
+                    all.add(value);
+                }
+                result = value;
+            }
+            if (i == count) {
+                break;
+            }
+            node = this.find(node, path, segments.rawStart(i), segments.rawEnd(i), true);
+            if (-1 == node) {
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T value(final int node) {
+        return (T) this.values[node];
+    }
+
+    /**
+     * Binary searches the children of node for the key equal to the folded text between start and end, returning the
+     * child or -1.
+     */
+    private int find(final int node,
+                     final String text,
+                     final int start,
+                     final int end,
+                     final boolean path) {
+        final String[] keys = this.keys;
+        int low = this.edges[node];
+        int high = this.edges[node + 1] - 1;
+
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int compare = compare(text, start, end, keys[middle], path);
+            if (compare < 0) {
+                high = middle - 1;
+            } else if (compare > 0) {
+                low = middle + 1;
+            } else {
+                return this.targets[middle];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the folded text between start and end with an already folded key, in the order of
+     * {@link String#compareTo(String)}.
+     */
+    private static int compare(final String text,
+                               final int start,
+                               final int end,
+                               final String key,
+                               final boolean path) {
+        final int length = end - start;
+        final int keyLength = key.length();
+        final int min = Math.min(length, keyLength);
+        int hex = 0;
+
+        for (int i = 0; i < min; i++) {
+            final char c = text.charAt(start + i);
+            final char folded;
+            if (path) {
+                if (hex > 0) {
+                    folded = Character.toUpperCase(c);
+                    hex--;
+                } else {
+                    folded = c;
+                    if ('%' == c) {
+                        hex = 2;
+                    }
+                }
+            } else {
+                folded = foldCase(c);
+            }
+
+            final int difference = folded - key.charAt(i);
+            if (0 != difference) {
+                return difference;
+            }
+        }
+        return length - keyLength;
+    }
+
+    /**
+     * Returns a scheme or host label folded the way {@link String#equalsIgnoreCase(String)} compares chars.
+     */
+    static String foldCase(final String text) {
+        final StringBuilder b = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            b.append(foldCase(text.charAt(i)));
+        }
+        return b.toString();
+    }
+
+    private static char foldCase(final char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Returns a raw path segment with the hex digits of every {@code %XX} escape in upper case.
+     */
+    static String foldEscapes(final String segment) {
+        if (segment.indexOf('%') == -1) {
+            return segment;
+        }
+        final StringBuilder b = new StringBuilder(segment.length());
+        int hex = 0;
+        for (int i = 0; i < segment.length(); i++) {
+            final char c = segment.charAt(i);
+            if (hex > 0) {
+                b.append(Character.toUpperCase(c));
+                hex--;
+            } else {
+                b.append(c);
+                if ('%' == c) {
+                    hex = 2;
+                }
+            }
+        }
+        return b.toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.size + " rules"; //$NON-NLS-1$
+    }
+
+    /**
+     * The children of node n are the edges from edges[n] up to but excluding edges[n + 1].
+     */
+    private final int[] edges;
+
+    /**
+     * The key of each edge, sorted within each node.
+     */
+    private final String[] keys;
+
+    /**
+     * The child node of each edge.
+     */
+    private final int[] targets;
+
+    /**
+     * The value of the rule ending at each node or null.
+     */
+    private final Object[] values;
+
+    private final int size;
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects rules for a {@link URIPrefixIndex}. A builder is not thread safe but each index it builds is immutable.
+ */
+public final class URIPrefixIndexBuilder<T> {
+
+    URIPrefixIndexBuilder() {
+        super();
+    }
+
+    /**
+     * Adds a rule for the scheme, host and raw path of the given {@link URI}.
+     */
+    public URIPrefixIndexBuilder<T> add(final URI prefix,
+                                        final T value) {
+        return this.add(prefix.getScheme(), prefix.getHost(), prefix.getRawPath(), value);
+    }
+
+    /**
+     * Adds a rule. The host may start with {@code *.} to match every host below it, and the raw path may be null or
+     * empty to match every path. A trailing {@code '/'} on the path is ignored.
+     *
+     * @throws IllegalArgumentException if the scheme or host is missing or invalid or the rule was already added.
+     */
+    public URIPrefixIndexBuilder<T> add(final String scheme,
+                                        final String host,
+                                        final String rawPath,
+                                        final T value) {
+        if (null == value) {
+            throw new NullPointerException("value"); //$NON-NLS-1$
+        }
+        if (null == scheme || scheme.isEmpty()) {
+            throw new IllegalArgumentException("Missing scheme"); //$NON-NLS-1$
+        }
+        if (null == host || host.isEmpty()) {
+            throw new IllegalArgumentException("Missing host"); //$NON-NLS-1$
+        }
+
+        Node node = this.root.child(URIPrefixIndex.foldCase(scheme));
+
+        final boolean wildcard = host.startsWith("*."); //$NON-NLS-1$
+        final int first = wildcard ? 2 : 0;
+        int end = host.length();
+        while (end > first) {
+            final int dot = host.lastIndexOf('.', end - 1);
+            final int start = Math.max(dot + 1, first);
+            if (start == end || host.substring(start, end).indexOf('*') != -1) {
+                throw new IllegalArgumentException("Invalid host " + host); //$NON-NLS-1$
+            }
+            node = node.child(URIPrefixIndex.foldCase(host.substring(start, end)));
+            end = start - 1;
+        }
+        if (end == first) {
+            // host ended with '.' or was only "*."
+            throw new IllegalArgumentException("Invalid host " + host); //$NON-NLS-1$
+        }
+        node = node.child(wildcard ?
+                URIPrefixIndex.HOST_WILDCARD :
+                URIPrefixIndex.HOST_END);
+
+        final PathSegments segments = PathSegments.parse(rawPath);
+        int count = segments.size();
+        if (count > 0 && segments.rawSegment(count - 1).isEmpty()) {
+            count--;
+        }
+        for (int i = 0; i < count; i++) {
+            node = node.child(URIPrefixIndex.foldEscapes(segments.rawSegment(i)));
+        }
+
+        if (null != node.value) {
+            throw new IllegalArgumentException("Duplicate rule " + scheme + "://" + host + (null == rawPath ? "" : rawPath)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+        node.value = value;
+        this.size++;
+        return this;
+    }
+
+    /**
+     * Packs the rules added so far into a new index, visiting nodes breadth first so the children of every node are
+     * adjacent.
+     */
+    public URIPrefixIndex<T> build() {
+        final List<Node> nodes = new ArrayList<>();
+        nodes.add(this.root);
+        int edgeCount = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            final Map<String, Node> children = nodes.get(i).children;
+            if (null != children) {
+                nodes.addAll(children.values());
+                edgeCount += children.size();
+            }
+        }
+
+        final int nodeCount = nodes.size();
+        final int[] edges = new int[nodeCount + 1];
+        final String[] keys = new String[edgeCount];
+        final int[] targets = new int[edgeCount];
+        final Object[] values = new Object[nodeCount];
+
+        int edge = 0;
+        int next = 1;
+        for (int i = 0; i < nodeCount; i++) {
+            final Node node = nodes.get(i);
+            edges[i] = edge;
+            values[i] = node.value;
+
+            if (null != node.children) {
+                // TreeMap iterates in the String.compareTo order the index searches with
+                for (final String key : node.children.keySet()) {
+                    keys[edge] = key;
+                    targets[edge] = next++;
+                    edge++;
+                }
+            }
+        }
+        edges[nodeCount] = edge;
+
+        return new URIPrefixIndex<>(edges, keys, targets, values, this.size);
+    }
+
+    @Override
+    public String toString() {
+        return this.size + " rules"; //$NON-NLS-1$
+    }
+
+    private final Node root = new Node();
+
+    private int size;
+
+    /**
+     * A node of the trie while it is being built.
+     */
+    private static final class Node {
+
+        Node child(final String key) {
+            if (null == this.children) {
+                this.children = new TreeMap<>();
+            }
+            Node child = this.children.get(key);
+            if (null == child) {
+                child = new Node();
+                this.children.put(key, child);
+            }
+            return child;
+        }
+
+        TreeMap<String, Node> children;
+
+        Object value;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * Relativizes URIs following RFC 3986, producing {@code ../} steps when the
+ * target is not below the directory of the base. {@link URI#relativize(URI)}
+ * keeps the JRE behaviour of returning the target unchanged in that case.
+ */
+public final class URIRelativizer {
+
+    /**
+     * Returns a relative reference which when resolved against {@code base}
+     * using {@link URI#resolve(URI)} gives {@code target}. The query and
+     * fragment of the target are always kept. If either URI is opaque, or the
+     * scheme or authority differ, the target is returned unchanged.
+     *
+     * @param base
+     *            the URI the reference is relative to.
+     * @param target
+     *            the URI to be relativized.
+     * @return the relative reference or {@code target}.
+     */
+    public static URI relativize(URI base, URI target) {
+        if (base.isOpaque() || target.isOpaque()) {
+            return target;
+        }
+        if (!equalsIgnoreCase(base.getScheme(), target.getScheme())
+                || !sameAuthority(base, target)) {
+            return target;
+        }
+
+        // resolve(URI) merges with the directory of the raw base path, and
+        // normalize() returns the same instance when already normalized
+        String basePath = base.getRawPath();
+        String directory = URI.normalizePath(basePath.substring(0,
+                basePath.lastIndexOf('/') + 1));
+        String targetPath = target.normalize().getRawPath();
+        if (directory.length() > 0 && directory.charAt(0) != '/'
+                || directory.startsWith("/") != targetPath.startsWith("/") //$NON-NLS-1$ //$NON-NLS-2$
+                || targetPath.length() == 0 && basePath.length() > 0
+                || isAboveRoot(directory) || isAboveRoot(targetPath)) {
+            // a relative base, a relative target path under an absolute base,
+            // an empty target path or ".." segments left by normalizing
+            // cannot be reached reliably
+            return target;
+        }
+
+        // find the last '/' shared by the base directory and the target path
+        int directoryEnd = directory.length();
+        int length = Math.min(directoryEnd, targetPath.length());
+        int common = 0;
+        for (int i = 0; i < length; i++) {
+            char c = directory.charAt(i);
+            if (c != targetPath.charAt(i)) {
+                break;
+            }
+            if (c == '/') {
+                common = i + 1;
+            }
+        }
+
+        StringBuilder path = new StringBuilder();
+        for (int i = common; i < directoryEnd; i++) {
+            if (directory.charAt(i) == '/') {
+                path.append("../"); //$NON-NLS-1$
+            }
+        }
+        path.append(targetPath, common, targetPath.length());
+
+        String query = target.getRawQuery();
+        if (path.length() == 0) {
+            // an empty path without a query resolves to the base itself, which
+            // is wanted only when the target path is empty as well
+            if (query == null && targetPath.length() > 0) {
+                path.append("./"); //$NON-NLS-1$
+            }
+        } else if (path.charAt(0) != '/') {
+            // a ':' in the first segment would be parsed as a scheme
+            int colon = path.indexOf(":"); //$NON-NLS-1$
+            if (colon != -1) {
+                int slash = path.indexOf("/"); //$NON-NLS-1$
+                if (slash == -1 || colon < slash) {
+                    path.insert(0, "./"); //$NON-NLS-1$
+                }
+            }
+        }
+
+        return URI.relativeReference(path.toString(), query,
+                target.getRawFragment());
+    }
+
+    private static boolean isAboveRoot(String path) {
+        return path.startsWith("/../") || path.equals("/.."); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private static boolean sameAuthority(URI base, URI target) {
+        String authority = base.getRawAuthority();
+        String otherAuthority = target.getRawAuthority();
+        if (authority == null || otherAuthority == null) {
+            return authority == otherAuthority;
+        }
+
+        String host = base.getHost();
+        String otherHost = target.getHost();
+        if (host == null || otherHost == null) {
+            // registry based authority
+            return authority.equals(otherAuthority);
+        }
+        String userInfo = base.getRawUserInfo();
+        String otherUserInfo = target.getRawUserInfo();
+        return host.equalsIgnoreCase(otherHost)
+                && base.getPort() == target.getPort()
+                && (userInfo == null ? otherUserInfo == null : userInfo.equals(otherUserInfo));
+    }
+
+    private static boolean equalsIgnoreCase(String s1, String s2) {
+        return s1 == null ? s2 == null : s1.equalsIgnoreCase(s2);
+    }
+
+    /**
+     * Stop creation
+     */
+    private URIRelativizer() {
+        throw new UnsupportedOperationException();
+    }
+}
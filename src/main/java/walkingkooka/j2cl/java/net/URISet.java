@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link java.util.Set} of {@link URI} that keeps each URI as the UTF-8 bytes of its canonical form rather than as
+ * an object, costing its canonical length, a byte or two for that length and two longs for each slot. Membership
+ * follows {@link URI#equals(Object)}, and looking up a URI allocates nothing beyond a small hashing state.
+ * <p>
+ * URIs are created again when iterating, so they are equal to but not the same as those added, and have their scheme,
+ * host and escape hex digits in lower case. URIs cannot be removed except by {@link #clear()}, and null is not allowed.
+ * A URI holding an unpaired surrogate has no UTF-8 bytes of its own, so adding one throws
+ * {@link IllegalArgumentException} and it is never contained.
+ */
+public final class URISet extends AbstractSet<URI> {
+
+    /**
+     * Creates an empty set.
+     */
+    public URISet() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty set with room for the given number of URIs before it grows.
+     */
+    public URISet(final int expectedSize) {
+        this.table = new URITable(expectedSize, false);
+    }
+
+    @Override
+    public boolean add(final URI uri) {
+        if (null == uri) {
+            throw new NullPointerException("uri"); //$NON-NLS-1$
+        }
+        final int size = this.table.size();
+        this.table.add(uri);
+        return size != this.table.size();
+    }
+
+    @Override
+    public boolean contains(final Object other) {
+        return other instanceof URI &&
+                -1 != this.table.find((URI) other);
+    }
+
+    @Override
+    public int size() {
+        return this.table.size();
+    }
+
+    @Override
+    public void clear() {
+        this.table.clear();
+    }
+
+    /**
+     * Returns the URIs in no particular order, each parsed from its canonical form as it is reached. The iterator
+     * does not support {@link Iterator#remove()}.
+     */
+    @Override
+    public Iterator<URI> iterator() {
+        final URITable table = this.table;
+        return new Iterator<URI>() {
+
+            @Override
+            public boolean hasNext() {
+                while (this.slot < table.capacity() && !table.isOccupied(this.slot)) {
+                    this.slot++;
+                }
+                return this.slot < table.capacity();
+            }
+
+            @Override
+            public URI next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return table.uri(this.slot++);
+            }
+
+            private int slot;
+        };
+    }
+
+    private final URITable table;
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of {@link URI URIs} sorted by {@link URI#compareTo(URI)}, kept as the UTF-8 bytes of each
+ * {@link URI#toString()} front coded against the URI before it, in blocks of {@link #BLOCK_SIZE}. The first URI of a
+ * block is stored whole, and a binary search over these block heads finds the block for a lookup, which is then read
+ * in order.
+ * <p>
+ * Sorted lists of URIs share long prefixes, so the set is usually several times smaller than the same strings, at the
+ * cost of parsing the URIs visited by each lookup. Two URIs that {@link URI#compareTo(URI) compare} as equal, such as
+ * those differing only in the case of their scheme or host, are the same entry.
+ */
+public final class URISortedSet implements Iterable<URI> {
+
+    /**
+     * The number of URIs in each front coded block.
+     */
+    final static int BLOCK_SIZE = 16;
+
+    /**
+     * Returns a builder that accepts URIs in increasing order.
+     */
+    public static URISortedSetBuilder builder() {
+        return new URISortedSetBuilder();
+    }
+
+    /**
+     * Creates a set holding the given URIs, which may be in any order and include duplicates.
+     */
+    public static URISortedSet copyOf(final Collection<URI> uris) {
+        final List<URI> sorted = new ArrayList<>(uris);
+        sorted.sort(null);
+
+        final URISortedSetBuilder builder = builder();
+        URI previous = null;
+        for (final URI uri : sorted) {
+            if (null == previous || previous.compareTo(uri) != 0) {
+                builder.add(uri);
+            }
+            previous = uri;
+        }
+        return builder.build();
+    }
+
+    URISortedSet(final byte[] data,
+                 final int[] blocks,
+                 final int size) {
+        this.data = data;
+        this.blocks = blocks;
+        this.size = size;
+    }
+
+    /**
+     * The number of URIs.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * The number of bytes used to hold the URIs and the index of block heads.
+     */
+    public long bytes() {
+        return this.data.length + 4L * this.blocks.length;
+    }
+
+    /**
+     * Tests if a URI comparing as equal to the given URI is present.
+     */
+    public boolean contains(final URI uri) {
+        if (null == uri) {
+            throw new NullPointerException("uri"); //$NON-NLS-1$
+        }
+        final Reader reader = new Reader(this);
+        final int rank = reader.rank(uri);
+        return rank < this.size &&
+                0 == reader.seek(rank).uri().compareTo(uri);
+    }
+
+    /**
+     * Returns the number of URIs less than the given URI, which is also its index when present.
+     */
+    public int rank(final URI uri) {
+        if (null == uri) {
+            throw new NullPointerException("uri"); //$NON-NLS-1$
+        }
+        return new Reader(this).rank(uri);
+    }
+
+    /**
+     * Returns the URI at the given index in sorted order.
+     */
+    public URI get(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " not between 0 and " + this.size); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return URI.create(new Reader(this).seek(index).string());
+    }
+
+    /**
+     * Returns every URI in order.
+     */
+    @Override
+    public Iterator<URI> iterator() {
+        return this.iterator(0, null);
+    }
+
+    /**
+     * Returns in order the URIs with the same scheme and authority as the given prefix, compared as
+     * {@link URI#compareTo(URI)} does, and a raw path starting with its raw path.
+     *
+     * @throws IllegalArgumentException if the prefix is opaque or has a query or fragment.
+     */
+    public Iterator<URI> prefixRange(final URI prefix) {
+        if (null == prefix) {
+            throw new NullPointerException("prefix"); //$NON-NLS-1$
+        }
+        if (prefix.isOpaque() || null != prefix.getRawQuery() || null != prefix.getRawFragment()) {
+            throw new IllegalArgumentException("Invalid prefix " + prefix); //$NON-NLS-1$
+        }
+        // the prefix is the least URI with its scheme, authority and path
+        return this.iterator(this.rank(prefix), prefix);
+    }
+
+    private Iterator<URI> iterator(final int from,
+                                   final URI prefix) {
+        final Reader reader = new Reader(this);
+        if (from < this.size) {
+            reader.seek(from);
+        }
+
+        return new Iterator<URI>() {
+
+            @Override
+            public boolean hasNext() {
+                if (null == this.next && this.index < URISortedSet.this.size) {
+                    if (this.index > from) {
+                        reader.next();
+                    }
+                    final URI uri = URI.create(reader.string());
+                    if (null == prefix || hasPrefix(uri, prefix)) {
+                        this.next = uri;
+                        this.index++;
+                    } else {
+                        this.index = URISortedSet.this.size;
+                    }
+                }
+                return null != this.next;
+            }
+
+            @Override
+            public URI next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final URI next = this.next;
+                this.next = null;
+                return next;
+            }
+
+            private int index = from;
+
+            private URI next;
+        };
+    }
+
+    static boolean hasPrefix(final URI uri,
+                             final URI prefix) {
+        if (uri.isOpaque() || !equalsIgnoreCase(uri.getScheme(), prefix.getScheme())) {
+            return false;
+        }
+
+        final String authority = uri.getRawAuthority();
+        final String prefixAuthority = prefix.getRawAuthority();
+        if (null == authority || null == prefixAuthority) {
+            if (authority != prefixAuthority) {
+                return false;
+            }
+        } else if (null != uri.getHost() && null != prefix.getHost()) {
+            if (!equals(uri.getRawUserInfo(), prefix.getRawUserInfo()) ||
+                    !uri.getHost().equalsIgnoreCase(prefix.getHost()) ||
+                    uri.getPort() != prefix.getPort()) {
+                return false;
+            }
+        } else if (!authority.equals(prefixAuthority)) {
+            return false;
+        }
+
+        return uri.getRawPath().startsWith(prefix.getRawPath());
+    }
+
+    private static boolean equalsIgnoreCase(final String left,
+                                            final String right) {
+        return null == left ?
+                null == right :
+                left.equalsIgnoreCase(right);
+    }
+
+    private static boolean equals(final String left,
+                                  final String right) {
+        return null == left ?
+                null == right :
+                left.equals(right);
+    }
+
+    @Override
+    public String toString() {
+        return this.size + " URIs, " + this.bytes() + " bytes"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Front coded entries, each a varint count of bytes shared with the entry before, except for block heads, then a
+     * varint count of the remaining bytes and those bytes.
+     */
+    final byte[] data;
+
+    /**
+     * The offset of each block head within {@link #data}.
+     */
+    final int[] blocks;
+
+    private final int size;
+
+    /**
+     * Reads entries for a single lookup or iterator, holding the bytes of the current entry and a URI that is parsed
+     * again for each comparison.
+     */
+    final static class Reader {
+
+        Reader(final URISortedSet set) {
+            this.set = set;
+        }
+
+        /**
+         * Returns the number of entries less than uri, reading the heads of the blocks a binary search visits and
+         * then the entries of one block.
+         */
+        int rank(final URI uri) {
+            final URISortedSet set = this.set;
+
+            // find the last block whose head is not greater than uri
+            int low = 0;
+            int high = set.blocks.length - 1;
+            int block = -1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                if (this.head(mid).uri().compareTo(uri) <= 0) {
+                    block = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (-1 == block) {
+                return 0;
+            }
+
+            final int first = block * BLOCK_SIZE;
+            final int last = Math.min(first + BLOCK_SIZE, set.size);
+            this.head(block);
+            int index = first;
+            for (; ; ) {
+                if (this.uri().compareTo(uri) >= 0) {
+                    break;
+                }
+                index++;
+                if (index == last) {
+                    break;
+                }
+                this.next();
+            }
+            return index;
+        }
+
+        /**
+         * Reads the entry at index.
+         */
+        Reader seek(final int index) {
+            this.head(index / BLOCK_SIZE);
+            for (int i = index % BLOCK_SIZE; i > 0; i--) {
+                this.next();
+            }
+            return this;
+        }
+
+        private Reader head(final int block) {
+            this.offset = this.set.blocks[block];
+            this.index = block * BLOCK_SIZE;
+            this.length = 0;
+            this.read(0);
+            return this;
+        }
+
+        /**
+         * Reads the entry after the current entry. Blocks follow each other, so the entry after the last of a block is
+         * the head of the next.
+         */
+        void next() {
+            this.index++;
+            this.read(0 == this.index % BLOCK_SIZE ? 0 : this.readVarint());
+        }
+
+        private void read(final int shared) {
+            final int length = this.readVarint();
+            final int total = shared + length;
+            if (total > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(total, this.bytes.length * 2));
+            }
+            System.arraycopy(this.set.data, this.offset, this.bytes, shared, length);
+            this.offset += length;
+            this.length = total;
+        }
+
+        private int readVarint() {
+            final byte[] data = this.set.data;
+            int value = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = data[this.offset++];
+                value |= (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+
+        String string() {
+            return new String(this.bytes, 0, this.length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Parses the current entry into a URI that is reused by this reader.
+         */
+        URI uri() {
+            URI uri = this.uri;
+            if (null == uri) {
+                uri = URI.scratch();
+                this.uri = uri;
+            }
+            try {
+                uri.reparse(this.string());
+            } catch (final URISyntaxException cause) {
+                throw new IllegalStateException("Invalid entry " + cause.getMessage()); //$NON-NLS-1$
+            }
+            return uri;
+        }
+
+        private final URISortedSet set;
+
+        private int index;
+
+        private int offset;
+
+        private byte[] bytes = new byte[128];
+
+        private int length;
+
+        private URI uri;
+    }
+}
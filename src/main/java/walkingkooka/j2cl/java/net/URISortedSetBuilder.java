@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Collects {@link URI URIs} in increasing {@link URI#compareTo(URI)} order for a {@link URISortedSet}, front coding
+ * each as it is added. A builder is not thread safe but each set it builds is immutable.
+ */
+public final class URISortedSetBuilder {
+
+    URISortedSetBuilder() {
+        super();
+    }
+
+    /**
+     * Adds a URI which must be greater than the URI added before it.
+     *
+     * @throws IllegalArgumentException if the URI is not greater than the previous URI, or holds an unpaired surrogate.
+     */
+    public URISortedSetBuilder add(final URI uri) {
+        if (null == uri) {
+            throw new NullPointerException("uri"); //$NON-NLS-1$
+        }
+        final URI previous = this.previous;
+        if (null != previous && previous.compareTo(uri) >= 0) {
+            throw new IllegalArgumentException("URI " + uri + " not after " + previous); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        final String text = uri.toString();
+        if (CanonicalURIBytes.hasUnpairedSurrogate(text)) {
+            throw CanonicalURIBytes.unpairedSurrogate(uri);
+        }
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final int size = this.size;
+        if (0 == size % URISortedSet.BLOCK_SIZE) {
+            final int block = size / URISortedSet.BLOCK_SIZE;
+            if (block == this.blocks.length) {
+                this.blocks = Arrays.copyOf(this.blocks, block * 2);
+            }
+            this.blocks[block] = this.length;
+            this.write(bytes, 0);
+        } else {
+            final byte[] previousBytes = this.previousBytes;
+            final int max = Math.min(previousBytes.length, bytes.length);
+            int shared = 0;
+            while (shared < max && previousBytes[shared] == bytes[shared]) {
+                shared++;
+            }
+            this.writeVarint(shared);
+            this.write(bytes, shared);
+        }
+
+        this.previous = uri;
+        this.previousBytes = bytes;
+        this.size = size + 1;
+        return this;
+    }
+
+    private void write(final byte[] bytes,
+                       final int from) {
+        final int length = bytes.length - from;
+        this.writeVarint(length);
+        this.ensure(length);
+        System.arraycopy(bytes, from, this.data, this.length, length);
+        this.length += length;
+    }
+
+    private void writeVarint(int value) {
+        this.ensure(5);
+        while (value > 0x7f) {
+            this.data[this.length++] = (byte) (0x80 | (value & 0x7f));
+            value >>>= 7;
+        }
+        this.data[this.length++] = (byte) value;
+    }
+
+    private void ensure(final int more) {
+        final long required = (long) this.length + more;
+        if (required > this.data.length) {
+            if (required > MAX_LENGTH) {
+                throw new IllegalStateException("Set full"); //$NON-NLS-1$
+            }
+            this.data = Arrays.copyOf(this.data, (int) Math.min(MAX_LENGTH, Math.max(required, this.data.length * 2L)));
+        }
+    }
+
+    private final static int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns a set of the URIs added so far. The builder may continue to be used.
+     */
+    public URISortedSet build() {
+        return new URISortedSet(
+                Arrays.copyOf(this.data, this.length),
+                Arrays.copyOf(this.blocks, (this.size + URISortedSet.BLOCK_SIZE - 1) / URISortedSet.BLOCK_SIZE),
+                this.size
+        );
+    }
+
+    private byte[] data = new byte[256];
+
+    private int length;
+
+    private int[] blocks = new int[16];
+
+    private int size;
+
+    private URI previous;
+
+    private byte[] previousBytes;
+}
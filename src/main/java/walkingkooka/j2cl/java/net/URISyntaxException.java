@@ -32,6 +32,11 @@ public class URISyntaxException extends Exception {
 
     private int index;
 
+    /**
+     * The message, formatted by the first call to {@link #getMessage()}.
+     */
+    private transient String message;
+
     /**
      * Constructs a new {@code URISyntaxException} instance containing the
      * string that caused the exception, a description of the problem and the
@@ -50,7 +55,7 @@ public class URISyntaxException extends Exception {
      *             if the value for {@code index} is lesser than {@code -1}.
      */
     public URISyntaxException(String input, String reason, int index) {
-        super(reason);
+        super(reason, null, true, !StacklessExceptions.isEnabled());
 
         if (input == null || reason == null) {
             throw new NullPointerException();
@@ -77,7 +82,7 @@ public class URISyntaxException extends Exception {
      *             {@code null}.
      */
     public URISyntaxException(String input, String reason) {
-        super(reason);
+        super(reason, null, true, !StacklessExceptions.isEnabled());
 
         if (input == null || reason == null) {
             throw new NullPointerException();
@@ -125,6 +130,13 @@ public class URISyntaxException extends Exception {
      */
     @Override
     public String getMessage() {
+        if (message == null) {
+            message = formatMessage();
+        }
+        return message;
+    }
+
+    private String formatMessage() {
         String reason = super.getMessage();
 
         if (index != -1) {
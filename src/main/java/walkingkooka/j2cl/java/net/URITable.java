@@ -0,0 +1,373 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An open addressing hash table of URIs, shared by {@link URISet} and {@link URIMap}. Each URI is kept as the UTF-8
+ * bytes of its canonical form, preceded by their length as a varint, in large byte array slabs. A slot holds the
+ * {@link URIFingerprint#fingerprint(URI)} of its URI and the address of its bytes, so a probe first compares
+ * fingerprints and then the canonical bytes as they are produced from the URI being looked up, without building any
+ * string. Slots are probed linearly and entries are never removed, except by {@link #clear()}. A URI holding an
+ * unpaired surrogate is never added, as its canonical bytes would be those of the same URI with a {@code '?'}.
+ */
+final class URITable {
+
+    /**
+     * The size of each slab. A URI with more canonical bytes gets a slab of its own.
+     */
+    final static int SLAB_SIZE = 64 * 1024;
+
+    URITable(final int expectedSize,
+             final boolean values) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size " + expectedSize + " < 0"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        int capacity = 16;
+        while (capacity * 2 / 3 < expectedSize) {
+            capacity <<= 1;
+        }
+        this.hashes = new long[capacity];
+        this.addresses = new long[capacity];
+        this.values = values ? new Object[capacity] : null;
+    }
+
+    /**
+     * The number of URIs.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * The number of slots, some of which are empty.
+     */
+    int capacity() {
+        return this.addresses.length;
+    }
+
+    /**
+     * Returns true if the slot holds a URI.
+     */
+    boolean isOccupied(final int slot) {
+        return 0 != this.addresses[slot];
+    }
+
+    /**
+     * Returns the slot holding the given URI or -1.
+     */
+    int find(final URI uri) {
+        final URIFingerprint.Hasher hasher = new URIFingerprint.Hasher();
+        hasher.uri(uri);
+        if (hasher.unpairedSurrogate) {
+            return -1;
+        }
+        final long hash = hasher.finish();
+
+        final int slot = this.probe(uri, hash, (int) hasher.length());
+        return 0 != this.addresses[slot] ?
+                slot :
+                -1;
+    }
+
+    /**
+     * Returns the slot holding the given URI, adding it when it is not present.
+     */
+    int add(final URI uri) {
+        final URIFingerprint.Hasher hasher = new URIFingerprint.Hasher();
+        hasher.uri(uri);
+        if (hasher.unpairedSurrogate) {
+            throw CanonicalURIBytes.unpairedSurrogate(uri);
+        }
+
+        if (this.size + 1 > this.addresses.length * 2 / 3) {
+            this.resize();
+        }
+
+        final long hash = hasher.finish();
+        final int length = (int) hasher.length();
+
+        final int slot = this.probe(uri, hash, length);
+        if (0 == this.addresses[slot]) {
+            this.hashes[slot] = hash;
+            this.addresses[slot] = this.write(uri, length);
+            this.size++;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the slot holding the given URI, or the empty slot where it belongs.
+     */
+    private int probe(final URI uri,
+                      final long hash,
+                      final int length) {
+        final long[] hashes = this.hashes;
+        final long[] addresses = this.addresses;
+        final int mask = addresses.length - 1;
+
+        for (int slot = index(hash, mask); ; slot = (slot + 1) & mask) {
+            final long address = addresses[slot];
+            if (0 == address || hash == hashes[slot] && this.equals(address, uri, length)) {
+                return slot;
+            }
+        }
+    }
+
+    private static int index(final long hash,
+                             final int mask) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Returns true if the bytes at address are the canonical bytes of the given URI.
+     */
+    private boolean equals(final long address,
+                           final URI uri,
+                           final int length) {
+        final byte[] slab = this.slabs[slab(address)];
+        int offset = offset(address);
+
+        int stored = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = slab[offset++];
+            stored |= (b & 0x7f) << shift;
+            shift += 7;
+        } while (b < 0);
+
+        if (stored != length) {
+            return false;
+        }
+
+        final Comparer comparer = this.comparer;
+        comparer.slab = slab;
+        comparer.offset = offset;
+        comparer.equal = true;
+        comparer.uri(uri);
+        comparer.slab = null;
+        return comparer.equal;
+    }
+
+    /**
+     * Writes the length and canonical bytes of the given URI to a slab, returning their address.
+     */
+    private long write(final URI uri,
+                       final int length) {
+        final int size = varintSize(length) + length;
+
+        if (null == this.slabs || this.slabOffset + size > this.slabs[this.slabCount - 1].length) {
+            this.newSlab(Math.max(SLAB_SIZE, size));
+        }
+
+        final int slabIndex = this.slabCount - 1;
+        final byte[] slab = this.slabs[slabIndex];
+        int offset = this.slabOffset;
+        final long address = address(slabIndex, offset);
+
+        int remaining = length;
+        while (remaining >= 0x80) {
+            slab[offset++] = (byte) (remaining | 0x80);
+            remaining >>>= 7;
+        }
+        slab[offset++] = (byte) remaining;
+
+        final Writer writer = this.writer;
+        writer.slab = slab;
+        writer.offset = offset;
+        writer.uri(uri);
+        writer.slab = null;
+
+        this.slabOffset = offset + length;
+        this.bytes += size;
+        return address;
+    }
+
+    private void newSlab(final int size) {
+        if (null == this.slabs) {
+            this.slabs = new byte[4][];
+        } else if (this.slabCount == this.slabs.length) {
+            this.slabs = Arrays.copyOf(this.slabs, this.slabCount * 2);
+        }
+        this.slabs[this.slabCount++] = new byte[size];
+        this.slabOffset = 0;
+    }
+
+    private static int varintSize(final int value) {
+        int size = 1;
+        for (int remaining = value >>> 7; 0 != remaining; remaining >>>= 7) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Addresses are never zero, which marks an empty slot.
+     */
+    private static long address(final int slab,
+                                final int offset) {
+        return ((long) (slab + 1) << 32) | offset;
+    }
+
+    private static int slab(final long address) {
+        return (int) (address >>> 32) - 1;
+    }
+
+    private static int offset(final long address) {
+        return (int) address;
+    }
+
+    private void resize() {
+        final long[] hashes = this.hashes;
+        final long[] addresses = this.addresses;
+        final Object[] values = this.values;
+
+        final int capacity = addresses.length * 2;
+        final int mask = capacity - 1;
+        this.hashes = new long[capacity];
+        this.addresses = new long[capacity];
+        this.values = null != values ? new Object[capacity] : null;
+
+        for (int i = 0; i < addresses.length; i++) {
+            final long address = addresses[i];
+            if (0 != address) {
+                int slot = index(hashes[i], mask);
+                while (0 != this.addresses[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                this.hashes[slot] = hashes[i];
+                this.addresses[slot] = address;
+                if (null != values) {
+                    this.values[slot] = values[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a new {@link URI} parsed from the canonical bytes in the slot.
+     */
+    URI uri(final int slot) {
+        final long address = this.addresses[slot];
+        final byte[] slab = this.slabs[slab(address)];
+        int offset = offset(address);
+
+        int length = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = slab[offset++];
+            length |= (b & 0x7f) << shift;
+            shift += 7;
+        } while (b < 0);
+
+        return URI.create(new String(slab, offset, length, StandardCharsets.UTF_8));
+    }
+
+    Object value(final int slot) {
+        return this.values[slot];
+    }
+
+    void setValue(final int slot,
+                  final Object value) {
+        this.values[slot] = value;
+    }
+
+    /**
+     * The number of slab bytes used by URIs.
+     */
+    long bytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Removes every URI, keeping the slots but dropping the slabs.
+     */
+    void clear() {
+        Arrays.fill(this.hashes, 0);
+        Arrays.fill(this.addresses, 0);
+        if (null != this.values) {
+            Arrays.fill(this.values, null);
+        }
+        this.slabs = null;
+        this.slabCount = 0;
+        this.slabOffset = 0;
+        this.size = 0;
+        this.bytes = 0;
+    }
+
+    private long[] hashes;
+
+    /**
+     * The slab and offset of the bytes of each URI, or 0 for an empty slot.
+     */
+    private long[] addresses;
+
+    private Object[] values;
+
+    private byte[][] slabs;
+
+    private int slabCount;
+
+    private int slabOffset;
+
+    private int size;
+
+    private long bytes;
+
+    private final Comparer comparer = new Comparer();
+
+    private final Writer writer = new Writer();
+
+    /**
+     * Compares canonical bytes with those in a slab as they are produced.
+     */
+    private static final class Comparer extends CanonicalURIBytes {
+
+        @Override
+        void add(final int b) {
+            if (this.equal) {
+                this.equal = this.slab[this.offset++] == (byte) b;
+            }
+        }
+
+        byte[] slab;
+
+        int offset;
+
+        boolean equal;
+    }
+
+    /**
+     * Writes canonical bytes into a slab as they are produced.
+     */
+    private static final class Writer extends CanonicalURIBytes {
+
+        @Override
+        void add(final int b) {
+            this.slab[this.offset++] = (byte) b;
+        }
+
+        byte[] slab;
+
+        int offset;
+    }
+}
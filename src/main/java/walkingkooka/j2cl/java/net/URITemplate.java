@@ -0,0 +1,550 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import java.util.Map;
+
+/**
+ * A URI Template as defined by RFC 6570, supporting every expression of levels 1 to 4. A template is parsed once into
+ * an immutable plan of literals, which are escaped while parsing, and expressions, so that each expansion is a single
+ * pass appending to one buffer.
+ * <p>
+ * Variables are looked up by name in a {@link Map}. A {@link Map} value is an associative array, any other
+ * {@link Iterable} is a list and everything else is a string using {@link String#valueOf(Object)}. A null value, null
+ * members and a list or map without any other members are undefined and skipped. A prefix modifier is ignored for
+ * lists and maps.
+ * <p>
+ * Unescaped chars are the RFC 3986 unreserved chars, or for {@code {+var}} and {@code {#var}} those and
+ * {@link URI#allLegal} with {@code '#'}, where existing {@code %XX} escapes are also kept. Everything else, including
+ * any char that is not US-ASCII, is escaped as UTF-8, so an expansion is always a valid US-ASCII string.
+ */
+public final class URITemplate {
+
+    /**
+     * Parses the given template.
+     *
+     * @throws IllegalArgumentException if an expression is not closed or is invalid.
+     */
+    public static URITemplate parse(final String template) {
+        if (null == template) {
+            throw new NullPointerException("template"); //$NON-NLS-1$
+        }
+
+        final Part[] parts = new Part[template.length()];
+        int count = 0;
+        final StringBuilder literal = new StringBuilder();
+        final int length = template.length();
+        int i = 0;
+
+        while (i < length) {
+            final char c = template.charAt(i);
+            if ('{' == c) {
+                final int close = template.indexOf('}', i + 1);
+                if (-1 == close) {
+                    throw new IllegalArgumentException("Unclosed expression at " + i + " in " + template); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+                if (literal.length() > 0) {
+                    parts[count++] = new Literal(literal.toString());
+                    literal.setLength(0);
+                }
+                parts[count++] = Expression.parse(template, i + 1, close);
+                i = close + 1;
+            } else if ('}' == c) {
+                throw new IllegalArgumentException("Unexpected '}' at " + i + " in " + template); //$NON-NLS-1$ //$NON-NLS-2$
+            } else {
+                i = append(template, i, true, literal);
+            }
+        }
+        if (literal.length() > 0) {
+            parts[count++] = new Literal(literal.toString());
+        }
+
+        final Part[] copy = new Part[count];
+        System.arraycopy(parts, 0, copy, 0, count);
+        return new URITemplate(template, copy);
+    }
+
+    private URITemplate(final String template,
+                        final Part[] parts) {
+        this.template = template;
+        this.parts = parts;
+    }
+
+    /**
+     * Expands this template with the given variables.
+     */
+    public String expand(final Map<String, ?> variables) {
+        if (null == variables) {
+            throw new NullPointerException("variables"); //$NON-NLS-1$
+        }
+
+        final ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            final StringBuilder buf = scratch.builder();
+            for (final Part part : this.parts) {
+                part.expand(variables, buf);
+            }
+            return buf.toString();
+        } finally {
+            scratch.release();
+        }
+    }
+
+    /**
+     * Expands this template with the given variables and parses the result, which never needs quoting as every char
+     * of an expansion is already legal.
+     *
+     * @throws URISyntaxException if the expansion is not a valid URI reference, such as a bad port.
+     */
+    public URI expandToURI(final Map<String, ?> variables) throws URISyntaxException {
+        return new URI(this.expand(variables));
+    }
+
+    @Override
+    public String toString() {
+        return this.template;
+    }
+
+    private final String template;
+
+    private final Part[] parts;
+
+    // escaping.........................................................................................................
+
+    /**
+     * Chars left alone by every expression, the RFC 3986 unreserved chars.
+     */
+    private final static boolean[] UNRESERVED = table("-._~"); //$NON-NLS-1$
+
+    /**
+     * Chars left alone by literals, {@code {+var}} and {@code {#var}}.
+     */
+    private final static boolean[] RESERVED = table("-._~#" + URI.allLegal); //$NON-NLS-1$
+
+    private static boolean[] table(final String others) {
+        final boolean[] table = new boolean[128];
+        for (char c = 'a'; c <= 'z'; c++) {
+            table[c] = true;
+            table[c - 'a' + 'A'] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            table[c] = true;
+        }
+        for (int i = 0; i < others.length(); i++) {
+            table[others.charAt(i)] = true;
+        }
+        return table;
+    }
+
+    /**
+     * Appends the char or code point at index escaping it when necessary and returns the index after it.
+     */
+    private static int append(final String s,
+                              final int index,
+                              final boolean reserved,
+                              final StringBuilder buf) {
+        final char c = s.charAt(index);
+        if (c < 128) {
+            if (reserved ? RESERVED[c] : UNRESERVED[c]) {
+                buf.append(c);
+                return index + 1;
+            }
+            if (reserved && '%' == c && isEscape(s, index)) {
+                buf.append(s, index, index + 3);
+                return index + 3;
+            }
+        }
+        return URIEncoderDecoder.appendEscaped(s, index, buf);
+    }
+
+    private static boolean isEscape(final String s,
+                                    final int index) {
+        return index + 2 < s.length() &&
+                isHex(s.charAt(index + 1)) &&
+                isHex(s.charAt(index + 2));
+    }
+
+    private static boolean isHex(final char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * Appends the given value escaping as necessary, stopping after prefix code points unless it is negative.
+     */
+    private static void appendValue(final String value,
+                                    final int prefix,
+                                    final boolean reserved,
+                                    final StringBuilder buf) {
+        final int length = value.length();
+        int codePoints = 0;
+        for (int i = 0; i < length && codePoints != prefix; codePoints++) {
+            i = append(value, i, reserved, buf);
+        }
+    }
+
+    // parts............................................................................................................
+
+    /**
+     * A part of a parsed template.
+     */
+    private static abstract class Part {
+
+        abstract void expand(final Map<String, ?> variables,
+                             final StringBuilder buf);
+    }
+
+    /**
+     * Literal text which has already been escaped.
+     */
+    private static final class Literal extends Part {
+
+        Literal(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        void expand(final Map<String, ?> variables,
+                    final StringBuilder buf) {
+            buf.append(this.text);
+        }
+
+        private final String text;
+    }
+
+    /**
+     * An expression such as {@code {?page,per_page}} with the behaviour of its operator from the table in appendix A
+     * of RFC 6570.
+     */
+    private static final class Expression extends Part {
+
+        /**
+         * Parses the expression between start and end, which excludes the braces.
+         */
+        static Expression parse(final String template,
+                                final int start,
+                                final int end) {
+            if (start == end) {
+                throw new IllegalArgumentException("Empty expression at " + (start - 1) + " in " + template); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+
+            char first = 0;
+            char separator = ',';
+            boolean named = false;
+            String ifEmpty = ""; //$NON-NLS-1$
+            boolean reserved = false;
+            int i = start;
+
+            switch (template.charAt(start)) {
+                case '+':
+                    reserved = true;
+                    break;
+                case '#':
+                    first = '#';
+                    reserved = true;
+                    break;
+                case '.':
+                    first = '.';
+                    separator = '.';
+                    break;
+                case '/':
+                    first = '/';
+                    separator = '/';
+                    break;
+                case ';':
+                    first = ';';
+                    separator = ';';
+                    named = true;
+                    break;
+                case '?':
+                    first = '?';
+                    separator = '&';
+                    named = true;
+                    ifEmpty = "="; //$NON-NLS-1$
+                    break;
+                case '&':
+                    first = '&';
+                    separator = '&';
+                    named = true;
+                    ifEmpty = "="; //$NON-NLS-1$
+                    break;
+                case '=':
+                case ',':
+                case '!':
+                case '@':
+                case '|':
+                    throw new IllegalArgumentException("Reserved operator at " + start + " in " + template); //$NON-NLS-1$ //$NON-NLS-2$
+                default:
+                    i--;
+                    break;
+            }
+            i++;
+
+            int count = 1;
+            for (int j = i; j < end; j++) {
+                if (',' == template.charAt(j)) {
+                    count++;
+                }
+            }
+
+            final String[] names = new String[count];
+            final int[] prefixes = new int[count];
+            final boolean[] explodes = new boolean[count];
+
+            for (int v = 0; v < count; v++) {
+                int comma = template.indexOf(',', i);
+                if (-1 == comma || comma > end) {
+                    comma = end;
+                }
+
+                int nameEnd = i;
+                while (nameEnd < comma && isVariableChar(template, nameEnd)) {
+                    nameEnd += '%' == template.charAt(nameEnd) ? 3 : 1;
+                }
+                if (nameEnd == i || '.' == template.charAt(i) || '.' == template.charAt(nameEnd - 1)) {
+                    throw invalidVariable(template, i);
+                }
+                names[v] = template.substring(i, nameEnd);
+
+                int prefix = -1;
+                boolean explode = false;
+                if (nameEnd < comma) {
+                    final char modifier = template.charAt(nameEnd);
+                    if ('*' == modifier && nameEnd + 1 == comma) {
+                        explode = true;
+                    } else if (':' == modifier && comma - nameEnd >= 2 && comma - nameEnd <= 5 && '0' != template.charAt(nameEnd + 1)) {
+                        prefix = 0;
+                        for (int j = nameEnd + 1; j < comma; j++) {
+                            final char digit = template.charAt(j);
+                            if (digit < '0' || digit > '9') {
+                                throw invalidVariable(template, i);
+                            }
+                            prefix = prefix * 10 + digit - '0';
+                        }
+                    } else {
+                        throw invalidVariable(template, i);
+                    }
+                }
+                prefixes[v] = prefix;
+                explodes[v] = explode;
+
+                i = comma + 1;
+            }
+
+            return new Expression(first, separator, named, ifEmpty, reserved, names, prefixes, explodes);
+        }
+
+        private static boolean isVariableChar(final String template,
+                                              final int index) {
+            final char c = template.charAt(index);
+            return (c >= 'a' && c <= 'z') ||
+                    (c >= 'A' && c <= 'Z') ||
+                    (c >= '0' && c <= '9') ||
+                    '_' == c ||
+                    '.' == c && '.' != template.charAt(index - 1) ||
+                    '%' == c && isEscape(template, index);
+        }
+
+        private static IllegalArgumentException invalidVariable(final String template,
+                                                                final int index) {
+            return new IllegalArgumentException("Invalid variable at " + index + " in " + template); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        private Expression(final char first,
+                           final char separator,
+                           final boolean named,
+                           final String ifEmpty,
+                           final boolean reserved,
+                           final String[] names,
+                           final int[] prefixes,
+                           final boolean[] explodes) {
+            this.first = first;
+            this.separator = separator;
+            this.named = named;
+            this.ifEmpty = ifEmpty;
+            this.reserved = reserved;
+            this.names = names;
+            this.prefixes = prefixes;
+            this.explodes = explodes;
+        }
+
+        @Override
+        void expand(final Map<String, ?> variables,
+                    final StringBuilder buf) {
+            final String[] names = this.names;
+            boolean first = true;
+
+            for (int i = 0; i < names.length; i++) {
+                final String name = names[i];
+                final Object value = variables.get(name);
+                if (!isDefined(value)) {
+                    continue;
+                }
+
+                if (first) {
+                    if (0 != this.first) {
+                        buf.append(this.first);
+                    }
+                    first = false;
+                } else {
+                    buf.append(this.separator);
+                }
+
+                if (value instanceof Map) {
+                    this.expandMap(name, (Map<?, ?>) value, this.explodes[i], buf);
+                } else if (value instanceof Iterable) {
+                    this.expandList(name, (Iterable<?>) value, this.explodes[i], buf);
+                } else {
+                    final String string = String.valueOf(value);
+                    if (this.named) {
+                        this.appendName(name, string, buf);
+                    }
+                    appendValue(string, this.prefixes[i], this.reserved, buf);
+                }
+            }
+        }
+
+        private void expandList(final String name,
+                                final Iterable<?> list,
+                                final boolean explode,
+                                final StringBuilder buf) {
+            final boolean reserved = this.reserved;
+            boolean first = true;
+
+            if (explode) {
+                for (final Object item : list) {
+                    if (null != item) {
+                        if (!first) {
+                            buf.append(this.separator);
+                        }
+                        first = false;
+
+                        final String string = String.valueOf(item);
+                        if (this.named) {
+                            this.appendName(name, string, buf);
+                        }
+                        appendValue(string, -1, reserved, buf);
+                    }
+                }
+            } else {
+                if (this.named) {
+                    buf.append(name).append('=');
+                }
+                for (final Object item : list) {
+                    if (null != item) {
+                        if (!first) {
+                            buf.append(',');
+                        }
+                        first = false;
+
+                        appendValue(String.valueOf(item), -1, reserved, buf);
+                    }
+                }
+            }
+        }
+
+        private void expandMap(final String name,
+                               final Map<?, ?> map,
+                               final boolean explode,
+                               final StringBuilder buf) {
+            final boolean reserved = this.reserved;
+            boolean first = true;
+
+            if (!explode && this.named) {
+                buf.append(name).append('=');
+            }
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                final Object value = entry.getValue();
+                if (null != value) {
+                    if (!first) {
+                        buf.append(explode ? this.separator : ',');
+                    }
+                    first = false;
+
+                    appendValue(String.valueOf(entry.getKey()), -1, reserved, buf);
+                    final String string = String.valueOf(value);
+                    if (explode) {
+                        if (this.named && string.isEmpty()) {
+                            buf.append(this.ifEmpty);
+                        } else {
+                            buf.append('=');
+                        }
+                    } else {
+                        buf.append(',');
+                    }
+                    appendValue(string, -1, reserved, buf);
+                }
+            }
+        }
+
+        /**
+         * Appends the name of a named expression followed by {@code '='}, or the if empty text when the value is
+         * empty.
+         */
+        private void appendName(final String name,
+                                final String value,
+                                final StringBuilder buf) {
+            buf.append(name);
+            buf.append(value.isEmpty() ? this.ifEmpty : "="); //$NON-NLS-1$
+        }
+
+        /**
+         * A null value, and a list or map without any non null members are undefined.
+         */
+        private static boolean isDefined(final Object value) {
+            if (value instanceof Map) {
+                for (final Object member : ((Map<?, ?>) value).values()) {
+                    if (null != member) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (value instanceof Iterable) {
+                for (final Object member : (Iterable<?>) value) {
+                    if (null != member) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return null != value;
+        }
+
+        /**
+         * The char before the first defined variable or 0, and between the others.
+         */
+        private final char first;
+
+        private final char separator;
+
+        private final boolean named;
+
+        private final String ifEmpty;
+
+        private final boolean reserved;
+
+        private final String[] names;
+
+        /**
+         * The maximum code points of each variable or -1.
+         */
+        private final int[] prefixes;
+
+        private final boolean[] explodes;
+    }
+}
@@ -20,6 +20,11 @@ package walkingkooka.j2cl.java.net;
 
 import javaemul.internal.annotations.GwtIncompatible;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+
 /**
  * A URL instance specifies the location of a resource on the internet as
  * specified by RFC 1738. Such a resource can be a simple file or a service
@@ -32,19 +37,43 @@ public final class URL implements java.io.Serializable {
     @GwtIncompatible
     private static final long serialVersionUID = -7627629688361524110L;
 
+    /*
+     * No fields are written by default, writeObject writes the URL instead.
+     */
+    @GwtIncompatible
+    private static final ObjectStreamField[] serialPersistentFields = {};
+
 //    private static final NetPermission specifyStreamHandlerPermission = new NetPermission(
 //            "specifyStreamHandler"); //$NON-NLS-1$
 
     private int hashCode;
 
     /**
-     * The receiver's filename.
+     * The receiver's filename, which also holds the path and query.
      * 
      * @serial the file of this URL
      * 
      */
     private String file;
 
+    /**
+     * The index of the '?' starting the query within {@link #file} or -1 when
+     * there is no query.
+     */
+    private transient int queryIndex = -1;
+
+    /**
+     * The path before {@link #queryIndex}, cut from {@link #file} when first
+     * requested. Null until then, and a racing read at worst cuts it again.
+     */
+    private transient String path;
+
+    /**
+     * The query after {@link #queryIndex}, cut from {@link #file} when first
+     * requested. Null until then, and a racing read at worst cuts it again.
+     */
+    private transient String query;
+
     /**
      * The receiver's protocol identifier.
      * 
@@ -70,7 +99,10 @@ public final class URL implements java.io.Serializable {
     private int port = -1;
 
     /**
-     * The receiver's authority.
+     * The receiver's authority, when it was given explicitly, or the derived
+     * authority once computed. Null while {@link #authorityDerived} and not
+     * yet computed, the only field written after construction so a racing
+     * read at worst computes it again.
      * 
      * @serial the authority of this URL
      * 
@@ -78,19 +110,15 @@ public final class URL implements java.io.Serializable {
     private String authority = null;
 
     /**
-     * The receiver's userInfo.
-     */
-    private transient String userInfo = null;
-
-    /**
-     * The receiver's path.
+     * When true the authority is {@code [userInfo@]host[:port]} and is only
+     * computed on demand. Never changes after construction.
      */
-    private transient String path = null;
+    private transient boolean authorityDerived;
 
     /**
-     * The receiver's query.
+     * The receiver's userInfo.
      */
-    private transient String query = null;
+    private transient String userInfo = null;
 
     /**
      * The receiver's reference.
@@ -140,6 +168,9 @@ public final class URL implements java.io.Serializable {
 //        streamHandlerFactory = streamFactory;
 //    }
 
+    private URL() {
+    }
+
     /**
      * Creates a new URL instance by parsing the string {@code spec}.
      * 
@@ -297,8 +328,8 @@ public final class URL implements java.io.Serializable {
 //            }
 //        }
 
-        // Let the handler parse the URL. If the handler throws
-        // any exception, throw MalformedURLException instead.
+        // Let the handler parse the URL. A bad port is reported by the handler
+        // as a MalformedURLException, any other exception is wrapped.
         //
         // Note: We want "index" to be the index of the start of the scheme
         // specific part of the URL. At this point, it will be either
@@ -308,7 +339,7 @@ public final class URL implements java.io.Serializable {
         try {
             //strmHandler.parseURL(this, spec, ++index, spec.length());
             URLStreamHandler.parseURL(this, spec, ++index, spec.length());
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             throw new MalformedURLException(e.toString());
         }
 
@@ -450,10 +481,9 @@ public final class URL implements java.io.Serializable {
         int index;
         //if (host != null && host.length() > 0) { removed host.length test to match JRE behaviour
         if (host != null /*&& host.length() > 0*/) {
-            authority = host;
-            if (port != -1) {
-                authority = authority + ":" + port; //$NON-NLS-1$
-            }
+            // host[:port] before splitting is the same as [userInfo@]host[:port] after
+            authority = null;
+            authorityDerived = true;
         }
         if (fixHost) {
             if (host != null && (index = host.lastIndexOf('@')) > -1) {
@@ -463,13 +493,9 @@ public final class URL implements java.io.Serializable {
                 userInfo = null;
             }
         }
-        if (file != null && (index = file.indexOf('?')) > -1) {
-            query = file.substring(index + 1);
-            path = file.substring(0, index);
-        } else {
-            query = null;
-            path = file;
-        }
+        queryIndex = file != null ? file.indexOf('?') : -1;
+        path = null;
+        query = null;
     }
 
     /**
@@ -696,7 +722,47 @@ public final class URL implements java.io.Serializable {
      *             if this URL cannot be converted into a URI.
      */
     public URI toURI() throws URISyntaxException {
-        return new URI(toExternalForm());
+        return URI.fromURL(this);
+    }
+
+    /*
+     * Creates a URL from the raw components of an absolute URI, without
+     * building and parsing its string form. URIs whose components would be
+     * split differently by URLStreamHandler.parseURL, such as a query holding
+     * a '?' or a registry based authority, are parsed from their string form.
+     */
+    static URL fromURI(URI uri) throws MalformedURLException {
+        String host = uri.getHost();
+        String query = uri.getRawQuery();
+        String fragment = uri.getRawFragment();
+
+        if (uri.isOpaque() || host == null
+                || (query != null && query.indexOf('?') != -1)) {
+            return new URL(uri.toString());
+        }
+        // parseURL takes the first ']' anywhere as the end of an ipv6 host
+        if (host.charAt(0) != '['
+                && ((query != null && query.indexOf(']') != -1)
+                || (fragment != null && fragment.indexOf(']') != -1))) {
+            return new URL(uri.toString());
+        }
+
+        URL url = new URL();
+        url.set(uri.getScheme().toLowerCase(), host, uri.getPort(), uri.getRawAuthority(),
+                uri.getRawUserInfo(), uri.getRawPath(), query, fragment);
+        return url;
+    }
+
+    /*
+     * Creates a URL from the components of a URL that was parsed before,
+     * without parsing them again.
+     */
+    static URL components(String protocol, String host, int port,
+            String authority, String userInfo, String path, String query,
+            String ref) {
+        URL url = new URL();
+        url.set(protocol, host, port, authority, userInfo, path, query, ref);
+        return url;
     }
 
 //    /**
@@ -762,59 +828,49 @@ public final class URL implements java.io.Serializable {
         return URLStreamHandler.toExternalForm(this);
     }
 
-//    /**
-//     * This method is called to restore the state of a URL object that has been
-//     * serialized. The stream handler is determined from the URL's protocol.
-//     *
-//     * @param stream
-//     *            the stream to read from.
-//     *
-//     * @throws IOException
-//     *             if an IO Exception occurs while reading the stream or the
-//     *             handler can not be found.
-//     */
-//    private void readObject(java.io.ObjectInputStream stream)
-//            throws java.io.IOException {
-//        try {
-//            stream.defaultReadObject();
-//            if (host != null && authority == null) {
-//                fixURL(true);
-//            } else if (authority != null) {
-//                int index;
-//                if ((index = authority.lastIndexOf('@')) > -1) {
-//                    userInfo = authority.substring(0, index);
-//                }
-//                if (file != null && (index = file.indexOf('?')) > -1) {
-//                    query = file.substring(index + 1);
-//                    path = file.substring(0, index);
-//                } else {
-//                    path = file;
-//                }
-//            }
-//            setupStreamHandler();
-//            if (strmHandler == null) {
-//                throw new IOException(Messages.getString("luni.9C", protocol)); //$NON-NLS-1$
-//            }
-//        } catch (ClassNotFoundException e) {
-//            throw new IOException(e.toString());
-//        }
-//    }
-//
-//    /**
-//     * This method is called to write any non-transient, non-static variables
-//     * into the output stream.
-//     * <p>
-//     * Note that, we really only need the readObject method but the spec that
-//     * says readObject will be ignored if no writeObject is present.
-//     *
-//     * @param s
-//     *            the stream to write on.
-//     * @throws IOException
-//     *             if an IO Exception occurs during the write.
-//     */
-//    private void writeObject(ObjectOutputStream s) throws IOException {
-//        s.defaultWriteObject();
-//    }
+    /**
+     * Writes the compact form of {@link URIBinary} rather than the fields of
+     * this URL.
+     *
+     * @param s
+     *            the stream to write on.
+     * @throws IOException
+     *             if an IO Exception occurs during the write.
+     */
+    @GwtIncompatible
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        URIBinary.write(this, s);
+    }
+
+    /**
+     * Restores the state of a URL written by {@link #writeObject}.
+     *
+     * @param stream
+     *            the stream to read from.
+     *
+     * @throws IOException
+     *             if an IO Exception occurs while reading the stream or it
+     *             does not hold a URL.
+     */
+    @GwtIncompatible
+    private void readObject(ObjectInputStream stream) throws IOException,
+            ClassNotFoundException {
+        stream.defaultReadObject();
+        URL url = URIBinary.readURL(stream);
+        hashCode = 0;
+        file = url.file;
+        queryIndex = url.queryIndex;
+        path = null;
+        query = null;
+        protocol = url.protocol;
+        host = url.host;
+        port = url.port;
+        authority = url.authority;
+        authorityDerived = url.authorityDerived;
+        userInfo = url.userInfo;
+        ref = url.ref;
+    }
 
     /**
      * Gets the value of the file part of this URL.
@@ -868,7 +924,12 @@ public final class URL implements java.io.Serializable {
      * @return the query part of this URL.
      */
     public String getQuery() {
-        return query;
+        String result = query;
+        if (result == null && queryIndex != -1) {
+            result = file.substring(queryIndex + 1);
+            query = result;
+        }
+        return result;
     }
 
     /**
@@ -877,7 +938,15 @@ public final class URL implements java.io.Serializable {
      * @return the path part of this URL.
      */
     public String getPath() {
-        return path;
+        if (queryIndex == -1) {
+            return file;
+        }
+        String result = path;
+        if (result == null) {
+            result = file.substring(0, queryIndex);
+            path = result;
+        }
+        return result;
     }
 
     /**
@@ -895,7 +964,80 @@ public final class URL implements java.io.Serializable {
      * @return the authority part of this URL.
      */
     public String getAuthority() {
-        return authority;
+        String result = authority;
+        if (result == null && authorityDerived) {
+            StringBuilder b = new StringBuilder();
+            appendDerivedAuthority(b);
+            result = b.toString();
+            authority = result;
+        }
+        return result;
+    }
+
+    /*
+     * Appends "//" and the authority when present and not empty, without
+     * caching a derived authority, for URLStreamHandler.toExternalForm.
+     */
+    void appendAuthority(StringBuilder b) {
+        if (authorityDerived) {
+            if (userInfo != null || port != -1 || host.length() > 0) {
+                b.append("//"); //$NON-NLS-1$
+                appendDerivedAuthority(b);
+            }
+        } else if (authority != null && authority.length() > 0) {
+            b.append("//"); //$NON-NLS-1$
+            b.append(authority);
+        }
+    }
+
+    private void appendDerivedAuthority(StringBuilder b) {
+        if (userInfo != null) {
+            b.append(userInfo);
+            b.append('@');
+        }
+        b.append(host);
+        if (port != -1) {
+            b.append(':');
+            b.append(port);
+        }
+    }
+
+    /*
+     * Tests if the given authority is the same as [userInfo@]host[:port] so it
+     * need not be kept.
+     */
+    private boolean isDerivedAuthority(String authority) {
+        if (authority == null || host == null) {
+            return false;
+        }
+        int i = 0;
+        if (userInfo != null) {
+            i = userInfo.length();
+            if (!authority.startsWith(userInfo) || authority.length() <= i
+                    || authority.charAt(i) != '@') {
+                return false;
+            }
+            i++;
+        }
+        if (!authority.startsWith(host, i)) {
+            return false;
+        }
+        i += host.length();
+        if (port == -1) {
+            return i == authority.length();
+        }
+        String portString = String.valueOf(port);
+        return authority.length() == i + 1 + portString.length()
+                && authority.charAt(i) == ':'
+                && authority.startsWith(portString, i + 1);
+    }
+
+    /*
+     * Two URLs with equal files have equal queries when the query starts at the
+     * same index.
+     */
+    boolean sameQueryIndex(URL other) {
+        return queryIndex == other.queryIndex;
     }
 
     /**
@@ -933,10 +1075,10 @@ public final class URL implements java.io.Serializable {
             }
         }
         set(protocol, host, port, filePart, ref);
-        this.authority = authority;
         this.userInfo = userInfo;
-        this.path = path;
-        this.query = query;
+        this.queryIndex = query != null ? filePart.length() - query.length() - 1 : -1;
+        this.authorityDerived = isDerivedAuthority(authority);
+        this.authority = this.authorityDerived ? null : authority;
     }
 
     /**
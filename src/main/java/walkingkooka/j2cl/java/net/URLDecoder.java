@@ -19,8 +19,6 @@ package walkingkooka.j2cl.java.net;
 
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
-import java.nio.charset.IllegalCharsetNameException;
-import java.nio.charset.UnsupportedCharsetException;
 
 /**
  * This class is used to decode a string which is encoded in the {@code
@@ -64,7 +62,7 @@ public class URLDecoder {
                 defaultCharset = Charset.forName("ISO-8859-1"); //$NON-NLS-1$
             }
         }
-        return decode(s, defaultCharset);
+        return decodePercent(s, defaultCharset);
     }
 
     /**
@@ -100,34 +98,60 @@ public class URLDecoder {
         }
 
         if (s.indexOf('%') == -1) {
-            if (s.indexOf('+') == -1)
-                return s;
-            char str[] = s.toCharArray();
-            for (int i = 0; i < str.length; i++) {
-                if (str[i] == '+')
-                    str[i] = ' ';
-            }
-            return new String(str);
+            return replacePlus(s);
         }
 
-        Charset charset = null;
-        try {
-            charset = Charset.forName(enc);
-        } catch (IllegalCharsetNameException e) {
-            throw (UnsupportedEncodingException) (new UnsupportedEncodingException(
-                    enc).initCause(e));
-        } catch (UnsupportedCharsetException e) {
-            throw (UnsupportedEncodingException) (new UnsupportedEncodingException(
-                    enc).initCause(e));
+        return decodePercent(s, CharsetCache.forName(enc));
+    }
+
+    /**
+     * Decodes the argument which is assumed to be encoded in the {@code
+     * x-www-form-urlencoded} MIME content type using the specified charset.
+     * <p>
+     *'+' will be converted to space, '%' and two following hex digit
+     * characters are converted to the equivalent byte value. All other
+     * characters are passed through unmodified. For example "A+B+C %24%25" ->
+     * "A B C $%".
+     *
+     * @param s
+     *            the encoded string.
+     * @param charset
+     *            the charset to be used.
+     * @return the decoded clear-text representation of the given string.
+     */
+    public static String decode(String s, Charset charset) {
+        if (charset == null) {
+            throw new NullPointerException("Charset"); //$NON-NLS-1$
+        }
+
+        if (s.indexOf('%') == -1) {
+            return replacePlus(s);
         }
 
-        return decode(s, charset);
+        return decodePercent(s, charset);
     }
 
-    private static String decode(String s, Charset charset) {
+    private static String replacePlus(String s) {
+        if (s.indexOf('+') == -1)
+            return s;
+        char str[] = s.toCharArray();
+        for (int i = 0; i < str.length; i++) {
+            if (str[i] == '+')
+                str[i] = ' ';
+        }
+        return new String(str);
+    }
+
+    private static String decodePercent(String s, Charset charset) {
+        ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            return decodePercent(s, ByteRunDecoder.with(charset), scratch.chars(s.length()), scratch.bytes(s.length() / 3));
+        } finally {
+            scratch.release();
+        }
+    }
 
-        char str_buf[] = new char[s.length()];
-        byte buf[] = new byte[s.length() / 3];
+    private static String decodePercent(String s, ByteRunDecoder decoder, char[] str_buf, byte[] buf) {
         int buf_len = 0;
 
         for (int i = 0; i < s.length();) {
@@ -163,11 +187,7 @@ public class URLDecoder {
 //                len = cb.length();
 //                System.arraycopy(cb.array(), 0, str_buf, buf_len, len);
 
-                final char[] decoded = new String(buf, 0, len, charset)
-                        .toCharArray();
-                len = decoded.length;
-                System.arraycopy(decoded, 0, str_buf, buf_len, len);
-                buf_len += len;
+                buf_len = decoder.decode(buf, len, str_buf, buf_len);
                 continue;
             } else {
                 str_buf[buf_len] = c;
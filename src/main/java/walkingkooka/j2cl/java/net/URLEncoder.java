@@ -18,6 +18,7 @@
 package walkingkooka.j2cl.java.net;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
 
 /**
  * This class is used to encode a string using the format required by
@@ -49,8 +50,15 @@ public class URLEncoder {
      */
     @Deprecated
     public static String encode(String s) {
-        // Guess a bit bigger for encoded form
-        StringBuilder buf = new StringBuilder(s.length() + 16);
+        ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            return encode(s, scratch.builder());
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private static String encode(String s, StringBuilder buf) {
         for (int i = 0; i < s.length(); i++) {
             char ch = s.charAt(i);
             if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')
@@ -93,11 +101,39 @@ public class URLEncoder {
         if (s == null || enc == null) {
             throw new NullPointerException();
         }
-        // check for UnsupportedEncodingException
-        "".getBytes(enc); //$NON-NLS-1$
+        // CharsetCache.forName throws UnsupportedEncodingException for an unknown name
+        return encode(s, CharsetCache.forName(enc));
+    }
 
-        // Guess a bit bigger for encoded form
-        StringBuffer buf = new StringBuffer(s.length() + 16);
+    /**
+     * Encodes the given string {@code s} in a x-www-form-urlencoded string
+     * using the specified charset.
+     * <p>
+     * All characters except letters ('a'..'z', 'A'..'Z') and numbers ('0'..'9')
+     * and characters '.', '-', '*', '_' are converted into their hexadecimal
+     * value prepended by '%'. For example: '#' -> %23. In addition, spaces are
+     * substituted by '+'
+     *
+     * @param s
+     *            the string to be encoded.
+     * @param charset
+     *            the charset to be used.
+     * @return the encoded string.
+     */
+    public static String encode(String s, Charset charset) {
+        if (s == null || charset == null) {
+            throw new NullPointerException();
+        }
+
+        ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            return encode(s, charset, scratch.builder());
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private static String encode(String s, Charset enc, StringBuilder buf) {
         int start = -1;
         for (int i = 0; i < s.length(); i++) {
             char ch = s.charAt(i);
@@ -124,8 +160,7 @@ public class URLEncoder {
         return buf.toString();
     }
 
-    private static void convert(String s, StringBuffer buf, String enc)
-            throws UnsupportedEncodingException {
+    private static void convert(String s, StringBuilder buf, Charset enc) {
         byte[] bytes = s.getBytes(enc);
         for (int j = 0; j < bytes.length; j++) {
             buf.append('%');
@@ -78,11 +78,14 @@ import java.io.IOException;
      *            the string position from where to begin parsing.
      * @param end
      *            the string position to stop parsing.
+     * @throws MalformedURLException
+     *             if the port is not a number.
      * @see #toExternalForm
      * @see URL
      */
     /*protected*/
-    static void parseURL(URL u, String str, int start, int end) {
+    static void parseURL(URL u, String str, int start, int end)
+            throws MalformedURLException {
         if (end < start || end < 0) {
             // Checks to ensure string index exception ahead of
             // security exception for compatibility.
@@ -163,7 +166,7 @@ import java.io.IOException;
                 if (portString.length() == 0) {
                     port = -1;
                 } else {
-                    port = Integer.parseInt(portString);
+                    port = parsePort(portString);
                 }
             }
         }
@@ -230,6 +233,52 @@ import java.io.IOException;
                 query, ref);
     }
 
+    /*
+     * Parses the port like Integer.parseInt, but fails with the
+     * MalformedURLException the URL constructor reports rather than a
+     * NumberFormatException that must be caught and wrapped.
+     */
+    private static int parsePort(String port) throws MalformedURLException {
+        int length = port.length();
+        int i = 0;
+        boolean negative = false;
+        char first = port.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+            if (length == 1) {
+                throw invalidPort(port, i);
+            }
+        }
+        // accumulate negatively so Integer.MIN_VALUE does not overflow
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int multmin = limit / 10;
+        int result = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(port.charAt(i), 10);
+            if (digit < 0 || result < multmin) {
+                throw invalidPort(port, i);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalidPort(port, i);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /*
+     * The message and cause match those of the JDK, which wraps the
+     * NumberFormatException thrown by Integer.parseInt.
+     */
+    private static MalformedURLException invalidPort(String port, int index) {
+        String message = "Error at index " + index + " in: \"" + port + "\""; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        MalformedURLException exception = new MalformedURLException(message);
+        exception.initCause(new NumberFormatException(message));
+        return exception;
+    }
+
     /**
      * Sets the fields of the URL {@code u} to the values of the supplied
      * arguments.
@@ -305,11 +354,7 @@ import java.io.IOException;
         StringBuilder answer = new StringBuilder();
         answer.append(url.getProtocol());
         answer.append(':');
-        String authority = url.getAuthority();
-        if (authority != null && authority.length() > 0) {
-            answer.append("//"); //$NON-NLS-1$
-            answer.append(url.getAuthority());
-        }
+        url.appendAuthority(answer);
 
         String file = url.getFile();
         String ref = url.getRef();
@@ -344,9 +389,8 @@ import java.io.IOException;
         if (s1 != s2 && (s1 == null || !s1.equals(s2))) {
             return false;
         }
-        s1 = url1.getQuery();
-        s2 = url2.getQuery();
-        return s1 == s2 || (s1 != null && s1.equals(s2));
+        // the files are equal so the queries are equal if split at the same index
+        return url1.sameQueryIndex(url2);
     }
 
     /**
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+/**
+ * A {@link ByteRunDecoder} for UTF-8. Each malformed sequence, that is the longest prefix of a valid sequence, becomes
+ * one {@link #REPLACEMENT} and the byte that broke it is decoded again, as recommended by Unicode. Like the
+ * {@link String} constructor an encoded surrogate is read as a whole sequence and then replaced.
+ */
+final class Utf8ByteRunDecoder implements ByteRunDecoder {
+
+    final static Utf8ByteRunDecoder INSTANCE = new Utf8ByteRunDecoder();
+
+    private Utf8ByteRunDecoder() {
+        super();
+    }
+
+    @Override
+    public int decode(final byte[] bytes,
+                      final int length,
+                      final char[] chars,
+                      final int offset) {
+        int o = offset;
+        int i = 0;
+
+        while (i < length) {
+            final int b = bytes[i++] & 0xff;
+            if (b < 0x80) {
+                chars[o++] = (char) b;
+                continue;
+            }
+
+            // two byte sequences cover Latin, Greek and Cyrillic so skip the general loop
+            if (b >= 0xc2 && b <= 0xdf && i < length) {
+                final int c = bytes[i];
+                if ((c & 0xc0) == 0x80) {
+                    chars[o++] = (char) (((b & 0x1f) << 6) | (c & 0x3f));
+                    i++;
+                    continue;
+                }
+            }
+
+            int needed;
+            int codePoint;
+            // the range of the second byte, which excludes overlongs and values above 0x10ffff
+            int lower = 0x80;
+            int upper = 0xbf;
+
+            if (b >= 0xc2 && b <= 0xdf) {
+                needed = 1;
+                codePoint = b & 0x1f;
+            } else if (b >= 0xe0 && b <= 0xef) {
+                needed = 2;
+                codePoint = b & 0x0f;
+                if (0xe0 == b) {
+                    lower = 0xa0;
+                }
+            } else if (b >= 0xf0 && b <= 0xf4) {
+                needed = 3;
+                codePoint = b & 0x07;
+                if (0xf0 == b) {
+                    lower = 0x90;
+                } else if (0xf4 == b) {
+                    upper = 0x8f;
+                }
+            } else {
+                chars[o++] = REPLACEMENT;
+                continue;
+            }
+
+            while (needed > 0 && i < length) {
+                final int c = bytes[i] & 0xff;
+                if (c < lower || c > upper) {
+                    break;
+                }
+                codePoint = (codePoint << 6) | (c & 0x3f);
+                lower = 0x80;
+                upper = 0xbf;
+                needed--;
+                i++;
+            }
+
+            if (needed > 0 || (codePoint >= 0xd800 && codePoint <= 0xdfff)) {
+                chars[o++] = REPLACEMENT;
+            } else if (codePoint < 0x10000) {
+                chars[o++] = (char) codePoint;
+            } else {
+                chars[o++] = (char) (0xd800 + ((codePoint - 0x10000) >>> 10));
+                chars[o++] = (char) (0xdc00 + (codePoint & 0x3ff));
+            }
+        }
+
+        return o;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class AtomicLongArrayBloomFilterBitsTest extends BloomFilterBitsTestCase<AtomicLongArrayBloomFilterBits> {
+
+    @Test
+    public void testConcurrentSet() throws Exception {
+        for (int round = 0; round < 100; round++) {
+            final AtomicLongArrayBloomFilterBits bits = new AtomicLongArrayBloomFilterBits(2);
+            final AtomicInteger set = new AtomicInteger();
+            final List<Thread> threads = new ArrayList<>();
+
+            // every thread sets every bit, starting at a different bit, so each bit must be reported as set once
+            for (int t = 0; t < 4; t++) {
+                final int first = t * 32;
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < 128; i++) {
+                        if (bits.set((first + i) % 128)) {
+                            set.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (final Thread thread : threads) {
+                thread.start();
+            }
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+
+            this.checkEquals(128, set.get(), "bits set");
+            this.checkEquals(-1L, bits.word(0), "word 0");
+            this.checkEquals(-1L, bits.word(1), "word 1");
+        }
+    }
+
+    @Override
+    AtomicLongArrayBloomFilterBits createBits(final int length) {
+        return new AtomicLongArrayBloomFilterBits(length);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<AtomicLongArrayBloomFilterBits> type() {
+        return AtomicLongArrayBloomFilterBits.class;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+/**
+ * The contract every {@link BloomFilterBits} meets.
+ */
+public abstract class BloomFilterBitsTestCase<B extends BloomFilterBits> implements ClassTesting<B> {
+
+    BloomFilterBitsTestCase() {
+        super();
+    }
+
+    @Test
+    public final void testSet() {
+        final B bits = this.createBits(2);
+        this.checkEquals(false, bits.get(65));
+        this.checkEquals(true, bits.set(65));
+        this.checkEquals(true, bits.get(65));
+        this.checkEquals(false, bits.set(65));
+        this.checkEquals(false, bits.get(1));
+        this.checkEquals(2L, bits.word(1));
+    }
+
+    @Test
+    public final void testSetLastBit() {
+        final B bits = this.createBits(2);
+        this.checkEquals(true, bits.set(127));
+        this.checkEquals(Long.MIN_VALUE, bits.word(1));
+        this.checkEquals(0L, bits.word(0));
+    }
+
+    @Test
+    public final void testSetWord() {
+        final B bits = this.createBits(1);
+        bits.setWord(0, 5);
+        this.checkEquals(true, bits.get(0));
+        this.checkEquals(false, bits.get(1));
+        this.checkEquals(true, bits.get(2));
+        this.checkEquals(1, bits.length());
+    }
+
+    abstract B createBits(final int length);
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public final JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+public final class CanonicalURIBytesTest implements ClassTesting<CanonicalURIBytes> {
+
+    @Test
+    public void testServerAuthority() {
+        this.uriAndCheck("HTTP://User%2fx@EXAMPLE.com:8080/a%2Fb/é?Q=%AB#F%cD",
+                "http://User%2fx@example.com:8080/a%2fb/é?Q=%ab#F%cd");
+    }
+
+    @Test
+    public void testRegistryAuthority() {
+        this.uriAndCheck("//Reg_%4Futh/p", "//Reg_%4futh/p");
+    }
+
+    @Test
+    public void testOpaque() {
+        this.uriAndCheck("MAILTO:A%2F@B.com", "mailto:A%2f@B.com");
+    }
+
+    @Test
+    public void testRelative() {
+        this.uriAndCheck("a/B?C#D", "a/B?C#D");
+    }
+
+    @Test
+    public void testSupplementary() {
+        this.uriAndCheck("http://example.com/😀", "http://example.com/😀");
+    }
+
+    @Test
+    public void testHost() {
+        final Collector collector = new Collector();
+        collector.host(URI.create("http://user@EXAMPLE.com:8080/path"));
+        this.checkEquals("example.com", collector.toString());
+    }
+
+    @Test
+    public void testUnpairedSurrogate() {
+        final Collector collector = new Collector();
+        collector.text("a\ud800b", false, false);
+        this.checkEquals("a?b", collector.toString());
+    }
+
+    private void uriAndCheck(final String uri,
+                             final String expected) {
+        final Collector collector = new Collector();
+        collector.uri(URI.create(uri));
+        this.checkEquals(expected, collector.toString(), () -> uri);
+    }
+
+    private static final class Collector extends CanonicalURIBytes {
+
+        @Override
+        void add(final int b) {
+            this.bytes.write(b);
+        }
+
+        @Override
+        public String toString() {
+            return new String(this.bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<CanonicalURIBytes> type() {
+        return CanonicalURIBytes.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
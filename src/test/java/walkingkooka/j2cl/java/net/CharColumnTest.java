@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class CharColumnTest implements ClassTesting<CharColumn> {
+
+    @Test
+    public void testAppend() {
+        final CharColumn column = new CharColumn();
+        column.append("abc", 0, 3);
+        column.append("", 0, 0);
+        column.append("xdefx", 1, 4);
+
+        this.checkEquals("abc", column.text(0));
+        this.checkEquals("", column.text(1));
+        this.checkEquals("def", column.text(2));
+
+        this.checkEquals(3, column.start(2));
+        this.checkEquals(6, column.end(2));
+        this.checkEquals(6, column.length());
+    }
+
+    @Test
+    public void testAppendGrows() {
+        final CharColumn column = new CharColumn();
+        final StringBuilder all = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            final String text = "row" + i;
+            column.append(text, 0, text.length());
+            all.append(text);
+        }
+        for (int i = 0; i < 1000; i++) {
+            final int row = i;
+            this.checkEquals("row" + row, column.text(row), () -> "row " + row);
+        }
+        this.checkEquals(all.toString(), new String(column.chars(), 0, column.length()));
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<CharColumn> type() {
+        return CharColumn.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class CharsetByteRunDecoderTest implements ClassTesting<CharsetByteRunDecoder> {
+
+    @Test
+    public void testWithUtf8() {
+        assertSame(Utf8ByteRunDecoder.INSTANCE, ByteRunDecoder.with(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testWithIso88591() {
+        assertSame(SingleByteRunDecoder.ISO_8859_1, ByteRunDecoder.with(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void testWithOther() {
+        this.checkEquals(CharsetByteRunDecoder.class, ByteRunDecoder.with(StandardCharsets.UTF_16).getClass());
+    }
+
+    @Test
+    public void testDecode() {
+        final byte[] bytes = "é€".getBytes(StandardCharsets.UTF_16BE);
+        final char[] chars = new char[3];
+        chars[0] = 'A';
+        this.checkEquals(3,
+                new CharsetByteRunDecoder(StandardCharsets.UTF_16BE).decode(bytes, bytes.length, chars, 1));
+        this.checkEquals("Aé€", new String(chars));
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<CharsetByteRunDecoder> type() {
+        return CharsetByteRunDecoder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
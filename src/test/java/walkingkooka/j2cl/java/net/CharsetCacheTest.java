@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CharsetCacheTest implements ClassTesting<CharsetCache> {
+
+    @Test
+    public void testEmptyNameFails() {
+        assertThrows(UnsupportedEncodingException.class, () -> CharsetCache.forName(""));
+    }
+
+    @Test
+    public void testIllegalNameFails() {
+        assertThrows(UnsupportedEncodingException.class, () -> CharsetCache.forName("?!"));
+    }
+
+    @Test
+    public void testUnknownNameFails() {
+        assertThrows(UnsupportedEncodingException.class, () -> CharsetCache.forName("unknown-charset-123"));
+    }
+
+    @Test
+    public void testUtf8() throws Exception {
+        assertSame(StandardCharsets.UTF_8, CharsetCache.forName("UTF-8"));
+    }
+
+    @Test
+    public void testUtf8LowerCase() throws Exception {
+        assertSame(StandardCharsets.UTF_8, CharsetCache.forName("utf-8"));
+    }
+
+    @Test
+    public void testIso88591() throws Exception {
+        assertSame(StandardCharsets.ISO_8859_1, CharsetCache.forName("ISO-8859-1"));
+    }
+
+    @Test
+    public void testAlias() throws Exception {
+        this.checkEquals(StandardCharsets.UTF_16, CharsetCache.forName("UTF16"));
+    }
+
+    @Test
+    public void testMoreNamesThanSize() throws Exception {
+        final String[] names = {"UTF-16", "UTF-16BE", "UTF-16LE", "US-ASCII", "UTF16", "UTF_16BE", "UTF_16LE", "ASCII", "UTF-16"};
+        for (final String name : names) {
+            this.checkEquals(Charset.forName(name), CharsetCache.forName(name), name);
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<CharsetCache> type() {
+        return CharsetCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class FormDecoderTest implements ClassTesting<FormDecoder> {
+
+    @Test
+    public void testNullReaderFails() {
+        assertThrows(NullPointerException.class, () -> FormDecoder.decode((Reader) null, StandardCharsets.UTF_8, (n, v) -> {}));
+    }
+
+    @Test
+    public void testNullInputStreamFails() {
+        assertThrows(NullPointerException.class, () -> FormDecoder.decode((InputStream) null, StandardCharsets.UTF_8, (n, v) -> {}));
+    }
+
+    @Test
+    public void testNullCharsetFails() {
+        assertThrows(NullPointerException.class, () -> FormDecoder.decode(new StringReader(""), null, (n, v) -> {}));
+    }
+
+    @Test
+    public void testNullPairsFails() {
+        assertThrows(NullPointerException.class, () -> FormDecoder.decode(new StringReader(""), StandardCharsets.UTF_8, null));
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        this.decodeAndCheck("");
+    }
+
+    @Test
+    public void testOnePair() throws IOException {
+        this.decodeAndCheck("a=1", "a=1");
+    }
+
+    @Test
+    public void testSeveralPairs() throws IOException {
+        this.decodeAndCheck("a=1&bb=22&ccc=333", "a=1", "bb=22", "ccc=333");
+    }
+
+    @Test
+    public void testEscapesAndPlus() throws IOException {
+        this.decodeAndCheck("first+name=J%C3%B6rg&q=a%26b%3Dc", "first name=Jörg", "q=a&b=c");
+    }
+
+    @Test
+    public void testNameWithoutValue() throws IOException {
+        this.decodeAndCheck("a&b=", "a=", "b=");
+    }
+
+    @Test
+    public void testEmptyName() throws IOException {
+        this.decodeAndCheck("=1&=", "=1", "=");
+    }
+
+    @Test
+    public void testEqualsInValue() throws IOException {
+        this.decodeAndCheck("a=1=2", "a=1=2");
+    }
+
+    @Test
+    public void testEmptySegmentsSkipped() throws IOException {
+        this.decodeAndCheck("&&a=1&&b=2&", "a=1", "b=2");
+    }
+
+    @Test
+    public void testSupplementaryCodePoint() throws IOException {
+        this.decodeAndCheck("e=%F0%9F%98%80", "e=😀");
+    }
+
+    @Test
+    public void testRawUtf8Bytes() throws IOException {
+        this.decodeAndCheck("k=é€", "k=é€");
+    }
+
+    @Test
+    public void testIso88591() throws IOException {
+        this.decodeAndCheck("k=%E9", StandardCharsets.ISO_8859_1, "k=é");
+    }
+
+    @Test
+    public void testLongValue() throws IOException {
+        final StringBuilder value = new StringBuilder();
+        while (value.length() < FormDecoder.BUFFER_SIZE * 3) {
+            value.append("%C3%A9");
+        }
+        this.decodeAndCheck("a=" + value + "&b=2",
+                "a=" + URLDecoder.decode(value.toString(), StandardCharsets.UTF_8),
+                "b=2");
+    }
+
+    @Test
+    public void testInvalidEscapeFails() {
+        assertThrows(IllegalArgumentException.class, () -> FormDecoder.decode(new StringReader("a=%ZZ"), StandardCharsets.UTF_8, (n, v) -> {}));
+    }
+
+    private void decodeAndCheck(final String body,
+                                final String... pairs) throws IOException {
+        this.decodeAndCheck(body, StandardCharsets.UTF_8, pairs);
+    }
+
+    /**
+     * Decodes the body from a {@link Reader} and an {@link InputStream} reading every chunk size from 1, so escapes
+     * and multi byte characters are split across every possible boundary.
+     */
+    private void decodeAndCheck(final String body,
+                                final Charset charset,
+                                final String... pairs) throws IOException {
+        final List<String> expected = Arrays.asList(pairs);
+        final byte[] bytes = body.getBytes(charset);
+
+        for (int chunk = 1; chunk <= Math.max(1, bytes.length); chunk++) {
+            final List<String> read = new ArrayList<>();
+            FormDecoder.decode(new ChunkedReader(body, chunk), charset, (n, v) -> read.add(n + "=" + v));
+            this.checkEquals(expected, read, "Reader chunk " + chunk);
+
+            final List<String> streamed = new ArrayList<>();
+            FormDecoder.decode(new ChunkedInputStream(bytes, chunk), charset, (n, v) -> streamed.add(n + "=" + v));
+            this.checkEquals(expected, streamed, "InputStream chunk " + chunk);
+        }
+    }
+
+    /**
+     * Returns at most chunk chars from each read.
+     */
+    private static final class ChunkedReader extends Reader {
+
+        ChunkedReader(final String text, final int chunk) {
+            this.text = text;
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) {
+            final int count = Math.min(Math.min(length, this.chunk), this.text.length() - this.position);
+            if (count <= 0) {
+                return -1;
+            }
+            this.text.getChars(this.position, this.position + count, buffer, offset);
+            this.position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private final String text;
+        private final int chunk;
+        private int position;
+    }
+
+    /**
+     * Returns at most chunk bytes from each read.
+     */
+    private static final class ChunkedInputStream extends ByteArrayInputStream {
+
+        ChunkedInputStream(final byte[] bytes, final int chunk) {
+            super(bytes);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public synchronized int read(final byte[] buffer, final int offset, final int length) {
+            return super.read(buffer, offset, Math.min(length, this.chunk));
+        }
+
+        private final int chunk;
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<FormDecoder> type() {
+        return FormDecoder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class FormEncoderTest implements ClassTesting<FormEncoder> {
+
+    @Test
+    public void testNullAppendableFails() {
+        assertThrows(NullPointerException.class, () -> new FormEncoder(null, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNullCharsetFails() {
+        assertThrows(NullPointerException.class, () -> new FormEncoder(new StringBuilder(), null));
+    }
+
+    // write............................................................................................................
+
+    @Test
+    public void testWriteUnreserved() throws IOException {
+        this.writeAndCheck("azAZ09.-*_");
+    }
+
+    @Test
+    public void testWriteSpace() throws IOException {
+        this.writeAndCheck("a b  c");
+    }
+
+    @Test
+    public void testWriteReserved() throws IOException {
+        this.writeAndCheck("&=+%#/?~");
+    }
+
+    @Test
+    public void testWriteUtf8() throws IOException {
+        this.writeAndCheck("é€ÿĀ");
+    }
+
+    @Test
+    public void testWriteSurrogatePair() throws IOException {
+        this.writeAndCheck("a😀b");
+    }
+
+    @Test
+    public void testWriteUnpairedSurrogates() throws IOException {
+        this.writeAndCheck("\ud800a\udc00\ud800");
+    }
+
+    @Test
+    public void testWriteIso88591() throws IOException {
+        this.writeAndCheck("é€ÿ😀", StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void testWriteShiftJis() throws IOException {
+        this.writeAndCheck("a日本b", Charset.forName("Shift_JIS"));
+    }
+
+    @Test
+    public void testWriteMoreThanBuffer() throws IOException {
+        final StringBuilder s = new StringBuilder();
+        while (s.length() < FormEncoder.BUFFER_SIZE * 2) {
+            s.append("é a😀");
+        }
+        this.writeAndCheck(s.toString());
+    }
+
+    private void writeAndCheck(final String s) throws IOException {
+        this.writeAndCheck(s, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the string one char at a time, which splits every surrogate pair, and all at once.
+     */
+    private void writeAndCheck(final String s,
+                               final Charset charset) throws IOException {
+        final String expected = java.net.URLEncoder.encode(s, charset);
+
+        final StringWriter chars = new StringWriter();
+        try (final FormEncoder encoder = new FormEncoder(chars, charset)) {
+            for (int i = 0; i < s.length(); i++) {
+                encoder.write(s.charAt(i));
+            }
+        }
+        this.checkEquals(expected, chars.toString(), () -> "write char " + s);
+
+        final StringBuilder all = new StringBuilder();
+        try (final FormEncoder encoder = new FormEncoder(all, charset)) {
+            encoder.write(s);
+        }
+        this.checkEquals(expected, all.toString(), () -> "write " + s);
+    }
+
+    // pair.............................................................................................................
+
+    @Test
+    public void testPair() throws IOException {
+        this.pairsAndCheck("a=1", "a", "1");
+    }
+
+    @Test
+    public void testPairs() throws IOException {
+        this.pairsAndCheck("first+name=J%C3%B6rg&q=a%26b%3Dc&empty=", "first name", "Jörg", "q", "a&b=c", "empty", "");
+    }
+
+    private void pairsAndCheck(final String expected,
+                               final String... namesAndValues) throws IOException {
+        final StringBuilder output = new StringBuilder();
+        try (final FormEncoder encoder = new FormEncoder(output, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < namesAndValues.length; i += 2) {
+                encoder.pair(namesAndValues[i], namesAndValues[i + 1]);
+            }
+        }
+        this.checkEquals(expected, output.toString());
+    }
+
+    @Test
+    public void testNameThenWrite() throws IOException {
+        final StringBuilder output = new StringBuilder();
+        try (final FormEncoder encoder = new FormEncoder(output, StandardCharsets.UTF_8)) {
+            encoder.pair("a", "1");
+            encoder.name("b");
+            encoder.write("2 ");
+            encoder.write('3');
+        }
+        this.checkEquals("a=1&b=2+3", output.toString());
+    }
+
+    @Test
+    public void testNameEndsSurrogate() throws IOException {
+        final StringBuilder output = new StringBuilder();
+        try (final FormEncoder encoder = new FormEncoder(output, StandardCharsets.UTF_8)) {
+            encoder.pair("a", "\ud83d");
+            encoder.pair("\ude00", "");
+        }
+        this.checkEquals("a=%3F&%3F=", output.toString());
+    }
+
+    // flush/close......................................................................................................
+
+    @Test
+    public void testFlush() throws IOException {
+        final StringWriter output = new StringWriter();
+        final FormEncoder encoder = new FormEncoder(output, StandardCharsets.UTF_8);
+        encoder.write("a b");
+        this.checkEquals("", output.toString());
+
+        encoder.flush();
+        this.checkEquals("a+b", output.toString());
+    }
+
+    @Test
+    public void testFlushKeepsHighSurrogate() throws IOException {
+        final StringWriter output = new StringWriter();
+        final FormEncoder encoder = new FormEncoder(output, StandardCharsets.UTF_8);
+        encoder.write("a\ud83d");
+        encoder.flush();
+        encoder.write("\ude00");
+        encoder.close();
+        this.checkEquals("a%F0%9F%98%80", output.toString());
+    }
+
+    @Test
+    public void testCloseClosesWriter() throws IOException {
+        final boolean[] closed = new boolean[1];
+        final Writer output = new StringWriter() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        new FormEncoder(output, StandardCharsets.UTF_8).close();
+        this.checkEquals(true, closed[0]);
+    }
+
+    @Test
+    public void testWriteAfterCloseFails() throws IOException {
+        final FormEncoder encoder = new FormEncoder(new StringBuilder(), StandardCharsets.UTF_8);
+        encoder.close();
+        assertThrows(IOException.class, () -> encoder.write("a"));
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<FormEncoder> type() {
+        return FormEncoder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
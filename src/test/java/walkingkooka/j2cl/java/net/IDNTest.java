@@ -0,0 +1,363 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.predicate.Predicates;
+
+import java.lang.reflect.Method;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class IDNTest extends JavaNetTestCase<IDN> {
+
+    // toASCII..........................................................................................................
+
+    @Test
+    public void testToASCIINullFails() {
+        assertThrows(NullPointerException.class, () -> IDN.toASCII(null));
+    }
+
+    @Test
+    public void testToASCIIEmpty() {
+        this.toASCIIAndCheck("");
+    }
+
+    @Test
+    public void testToASCIIRoot() {
+        this.toASCIIAndCheck(".");
+    }
+
+    @Test
+    public void testToASCIITrailingDot() {
+        this.toASCIIAndCheck("example.com.");
+    }
+
+    @Test
+    public void testToASCIIAsciiKeepsCase() {
+        this.toASCIIAndCheck("EXAMPLE.com");
+    }
+
+    @Test
+    public void testToASCIIAsciiSameInstance() {
+        final String host = "example.com";
+        assertSame(host, IDN.toASCII(host));
+    }
+
+    @Test
+    public void testToASCIILatin() {
+        this.toASCIIAndCheck("Bücher.example");
+    }
+
+    @Test
+    public void testToASCIIGreek() {
+        this.toASCIIAndCheck("ΑΒΓ.gr");
+    }
+
+    @Test
+    public void testToASCIIJapanese() {
+        this.toASCIIAndCheck("日本語.jp");
+    }
+
+    @Test
+    public void testToASCIIIdeographicFullStop() {
+        this.toASCIIAndCheck("bücher。example");
+    }
+
+    @Test
+    public void testToASCIIFullwidthFullStop() {
+        this.toASCIIAndCheck("bücher．example｡com");
+    }
+
+    @Test
+    public void testToASCIISharpS() {
+        this.toASCIIAndCheck("ß.de");
+    }
+
+    @Test
+    public void testToASCIISoftHyphen() {
+        this.toASCIIAndCheck("a­b.com");
+    }
+
+    @Test
+    public void testToASCIIAlreadyAce() {
+        this.toASCIIAndCheck("xn--bcher-kva.example");
+    }
+
+    @Test
+    public void testToASCIIUnassignedAllowed() {
+        this.toASCIIAndCheck("😀.com", IDN.ALLOW_UNASSIGNED);
+    }
+
+    @Test
+    public void testToASCIIStd3() {
+        this.toASCIIAndCheck("bücher-1.example", IDN.USE_STD3_ASCII_RULES);
+    }
+
+    @Test
+    public void testToASCIINonStd3Allowed() {
+        this.toASCIIAndCheck("a_b.com");
+    }
+
+    @Test
+    public void testToASCIICached() {
+        final String host = "café.example";
+        assertSame(IDN.toASCII(host), IDN.toASCII(host));
+    }
+
+    @Test
+    public void testToASCIIMoreHostsThanCacheSize() {
+        for (int i = 0; i < IDN.CACHE_SIZE + 2; i++) {
+            this.toASCIIAndCheck("café" + i + ".example");
+        }
+        this.toASCIIAndCheck("café0.example");
+    }
+
+    @Test
+    public void testToASCIIEmptyLabelFails() {
+        this.toASCIIFails("a..b", 0);
+    }
+
+    @Test
+    public void testToASCIILabelTooLongFails() {
+        this.toASCIIFails("a".repeat(64) + ".com", 0);
+    }
+
+    @Test
+    public void testToASCIIEncodedLabelTooLongFails() {
+        this.toASCIIFails("ü".repeat(60), 0);
+    }
+
+    @Test
+    public void testToASCIIAcePrefixFails() {
+        this.toASCIIFails("xn--bücher", 0);
+    }
+
+    @Test
+    public void testToASCIIStd3NonLDHFails() {
+        this.toASCIIFails("a_b.com", IDN.USE_STD3_ASCII_RULES);
+    }
+
+    @Test
+    public void testToASCIIStd3HyphenFails() {
+        this.toASCIIFails("-bücher.com", IDN.USE_STD3_ASCII_RULES);
+    }
+
+    @Test
+    public void testToASCIIProhibitedFails() {
+        assertThrows(IllegalArgumentException.class, () -> java.net.IDN.toASCII("\ue000ü"));
+        assertThrows(IllegalArgumentException.class, () -> IDN.toASCII("\ue000ü"));
+    }
+
+    @Test
+    public void testToASCIIProhibitedTablesFails() {
+        for (final int c : new int[]{0x80, 0x6dd, 0x2028, 0x2ff0, 0xfdd0, 0xfffc, 0x1d173, 0x1fffe, 0xe0001, 0xf0000}) {
+            final String input = "a" + new String(Character.toChars(c));
+            assertThrows(IllegalArgumentException.class,
+                    () -> java.net.IDN.toASCII(input, java.net.IDN.ALLOW_UNASSIGNED),
+                    "jre " + Integer.toHexString(c));
+            assertThrows(IllegalArgumentException.class,
+                    () -> IDN.toASCII(input, IDN.ALLOW_UNASSIGNED),
+                    Integer.toHexString(c));
+        }
+    }
+
+    @Test
+    public void testToASCIINotProhibitedFormat() {
+        this.toASCIIAndCheck("a\u0600.com", IDN.ALLOW_UNASSIGNED);
+    }
+
+    @Test
+    public void testToASCIIDottedCapitalI() {
+        this.toASCIIAndCheck("\u0130.com");
+    }
+
+    @Test
+    public void testToASCIILigature() {
+        this.toASCIIAndCheck("\ufb01.com");
+    }
+
+    @Test
+    public void testToASCIITitleCase() {
+        this.toASCIIAndCheck("\u01c5.com");
+    }
+
+    @Test
+    public void testToASCIIRomanNumeral() {
+        this.toASCIIAndCheck("\u2177.com");
+    }
+
+    @Test
+    public void testToASCIICircledLetter() {
+        this.toASCIIAndCheck("\u24b6.com");
+    }
+
+    @Test
+    public void testToASCIIDecomposed() {
+        this.toASCIIAndCheck("e\u0301.com");
+    }
+
+    @Test
+    public void testToASCIICompatibilityFoldedAgain() {
+        this.toASCIIAndCheck("\u3392.com");
+    }
+
+    @Test
+    public void testToASCIIYpogegrammeniBeforeAccent() {
+        this.toASCIIAndCheck("a\u037a\u0301.com");
+    }
+
+    @Test
+    public void testToASCIIUnassignedInUnicode32Fails() {
+        assertThrows(IllegalArgumentException.class, () -> java.net.IDN.toASCII("\ua640.com"));
+        assertThrows(IllegalArgumentException.class, () -> IDN.toASCII("\ua640.com"));
+    }
+
+    @Test
+    public void testToASCIIUnassignedInUnicode32AllowedNotMapped() {
+        this.toASCIIAndCheck("\ua640.com", IDN.ALLOW_UNASSIGNED);
+    }
+
+    @Test
+    public void testToASCIIChangedSinceUnicode32Fails() {
+        assertThrows(IllegalArgumentException.class, () -> IDN.toASCII("\u13a0.com"));
+    }
+
+    // mapLowerCase.....................................................................................................
+
+    @Test
+    public void testMapLowerCase() {
+        this.checkEquals("b\u00fccher", IDN.mapLowerCase("B\u00dccher"));
+    }
+
+    @Test
+    public void testMapLowerCaseNeedsNormalizingFails() {
+        for (final String label : new String[]{"\u0130", "\ufb01", "\u01c5", "\u2177", "\u24b6", "e\u0301"}) {
+            assertThrows(IllegalArgumentException.class, () -> IDN.mapLowerCase(label), label);
+        }
+    }
+
+    @Test
+    public void testMapLowerCaseSameAsJre() {
+        for (int c = 0x80; c < 0x10000; c++) {
+            if (Character.isSurrogate((char) c)) {
+                continue;
+            }
+            final String label = "a" + (char) c;
+
+            final String mapped;
+            try {
+                mapped = IDN.mapLowerCase(label);
+            } catch (final IllegalArgumentException cannotPrepare) {
+                continue;
+            }
+            final String expected;
+            try {
+                expected = java.net.IDN.toASCII(label, java.net.IDN.ALLOW_UNASSIGNED);
+            } catch (final IllegalArgumentException invalid) {
+                continue;
+            }
+            this.checkEquals(expected,
+                    IDN.toASCII(mapped, IDN.ALLOW_UNASSIGNED),
+                    Integer.toHexString(c));
+        }
+    }
+
+    private void toASCIIAndCheck(final String input) {
+        this.checkEquals(java.net.IDN.toASCII(input),
+                IDN.toASCII(input),
+                () -> "toASCII " + input);
+    }
+
+    private void toASCIIAndCheck(final String input,
+                                 final int flag) {
+        this.checkEquals(java.net.IDN.toASCII(input, flag),
+                IDN.toASCII(input, flag),
+                () -> "toASCII " + input + " " + flag);
+    }
+
+    private void toASCIIFails(final String input,
+                              final int flag) {
+        final IllegalArgumentException expected = assertThrows(IllegalArgumentException.class, () -> java.net.IDN.toASCII(input, flag));
+        final IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> IDN.toASCII(input, flag));
+        this.checkEquals(expected.getMessage(), thrown.getMessage(), () -> "toASCII " + input + " " + flag);
+    }
+
+    // toUnicode........................................................................................................
+
+    @Test
+    public void testToUnicodeAscii() {
+        this.toUnicodeAndCheck("example.com");
+    }
+
+    @Test
+    public void testToUnicodeAce() {
+        this.toUnicodeAndCheck("xn--bcher-kva.example");
+    }
+
+    @Test
+    public void testToUnicodeAceUpperCase() {
+        this.toUnicodeAndCheck("XN--BCHER-KVA.example");
+    }
+
+    @Test
+    public void testToUnicodeIdeographicFullStop() {
+        this.toUnicodeAndCheck("xn--bcher-kva。example");
+    }
+
+    @Test
+    public void testToUnicodeInvalidAceUnchanged() {
+        this.toUnicodeAndCheck("xn--abc-.xn--.xn--zz");
+    }
+
+    @Test
+    public void testToUnicodeEmptyLabels() {
+        this.toUnicodeAndCheck("a..b");
+    }
+
+    @Test
+    public void testToUnicodeNonAsciiUnchanged() {
+        this.toUnicodeAndCheck("Bücher.com");
+    }
+
+    @Test
+    public void testToUnicodeToASCIIRoundTrip() {
+        final String host = "日本語.jp";
+        this.checkEquals(host, IDN.toUnicode(IDN.toASCII(host)));
+    }
+
+    private void toUnicodeAndCheck(final String input) {
+        this.checkEquals(java.net.IDN.toUnicode(input),
+                IDN.toUnicode(input),
+                () -> "toUnicode " + input);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<IDN> type() {
+        return IDN.class;
+    }
+
+    @Override
+    public Predicate<Method> requiredMethods() {
+        return Predicates.always();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LenientURLDecoderTest implements ClassTesting<LenientURLDecoder> {
+
+    // decode...........................................................................................................
+
+    @Test
+    public void testDecodeNullStringFails() {
+        assertThrows(NullPointerException.class, () -> LenientURLDecoder.decode(null, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testDecodeNullCharsetFails() {
+        assertThrows(NullPointerException.class, () -> LenientURLDecoder.decode("%20", null));
+    }
+
+    @Test
+    public void testDecodeNothingToDecode() {
+        final String s = "abc123";
+        assertSame(s, LenientURLDecoder.decode(s, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testDecodeValidUtf8() {
+        this.decodeSameAsURLDecoder("A+b%2Bc%C3%A9%E2%82%AC%F0%9F%98%80", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDecodeValidIso88591() {
+        this.decodeSameAsURLDecoder("A+b%2Bc%E9", StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void testDecodeValidWindows1252() {
+        this.decodeSameAsURLDecoder("%80+%E9", Charset.forName("windows-1252"));
+    }
+
+    @Test
+    public void testDecodeTrailingPercent() {
+        this.decodeAndCheck("100%", "100%");
+    }
+
+    @Test
+    public void testDecodeTrailingPercentDigit() {
+        this.decodeAndCheck("a=%4", "a=%4");
+    }
+
+    @Test
+    public void testDecodeInvalidHex() {
+        this.decodeAndCheck("%ZZ+%G1%1G", "%ZZ %G1%1G");
+    }
+
+    @Test
+    public void testDecodeSignNotHex() {
+        this.decodeAndCheck("%+1%-1", "% 1%-1");
+    }
+
+    @Test
+    public void testDecodeFullwidthDigitNotHex() {
+        this.decodeAndCheck("%４１", "%４１");
+    }
+
+    @Test
+    public void testDecodeInvalidAfterValid() {
+        this.decodeAndCheck("%41%4", "A%4");
+    }
+
+    @Test
+    public void testDecodePercentBeforeEscape() {
+        this.decodeAndCheck("%%41", "%A");
+    }
+
+    @Test
+    public void testDecodeInvalidUtf8() {
+        this.decodeAndCheck("%C3x%FF%E2%82", "�x��");
+    }
+
+    @Test
+    public void testDecodeUtf8SplitByInvalidEscape() {
+        this.decodeAndCheck("%E2%82%ZZ%AC", "�%ZZ�");
+    }
+
+    private void decodeSameAsURLDecoder(final String s,
+                                        final Charset charset) {
+        this.checkEquals(java.net.URLDecoder.decode(s, charset),
+                LenientURLDecoder.decode(s, charset),
+                () -> "decode " + s + " " + charset);
+    }
+
+    private void decodeAndCheck(final String s,
+                                final String expected) {
+        this.checkEquals(expected,
+                LenientURLDecoder.decode(s, StandardCharsets.UTF_8),
+                () -> "decode " + s);
+    }
+
+    // decodeComponent..................................................................................................
+
+    @Test
+    public void testDecodeComponentNullFails() {
+        assertThrows(NullPointerException.class, () -> LenientURLDecoder.decodeComponent(null));
+    }
+
+    @Test
+    public void testDecodeComponentPlusKept() {
+        final String s = "a+b";
+        assertSame(s, LenientURLDecoder.decodeComponent(s));
+    }
+
+    @Test
+    public void testDecodeComponent() {
+        this.decodeComponentAndCheck("a+b%20c%C3%A9", "a+b cé");
+    }
+
+    @Test
+    public void testDecodeComponentMalformed() {
+        this.decodeComponentAndCheck("50%+off%2", "50%+off%2");
+    }
+
+    @Test
+    public void testDecodeComponentInvalidUtf8() {
+        this.decodeComponentAndCheck("%ED%A0%80/%C0%AF", "�/��");
+    }
+
+    private void decodeComponentAndCheck(final String s,
+                                         final String expected) {
+        this.checkEquals(expected,
+                LenientURLDecoder.decodeComponent(s),
+                () -> "decodeComponent " + s);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<LenientURLDecoder> type() {
+        return LenientURLDecoder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
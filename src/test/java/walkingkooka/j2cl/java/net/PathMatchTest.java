@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PathMatchTest implements ClassTesting<PathMatch<?>> {
+
+    @Test
+    public void testParameterNullNameFails() {
+        assertThrows(NullPointerException.class, () -> this.match().parameter(null));
+    }
+
+    @Test
+    public void testRawParameterNullNameFails() {
+        assertThrows(NullPointerException.class, () -> this.match().rawParameter(null));
+    }
+
+    @Test
+    public void testParameter() {
+        final PathMatch<String> match = this.match();
+        this.checkEquals("a b", match.parameter("name"));
+        this.checkEquals("a+b", match.parameter("other"));
+        this.checkEquals("a%20b", match.rawParameter("name"));
+    }
+
+    @Test
+    public void testRemainder() {
+        this.checkEquals("c/d", this.match().remainder());
+    }
+
+    @Test
+    public void testTemplate() {
+        this.checkEquals("/{name}/{other}/*", this.match().template());
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals("/{name}/{other}/* /a%20b/a+b/c/d", this.match().toString());
+    }
+
+    private PathMatch<String> match() {
+        return new PathRouter<String>()
+                .add("/{name}/{other}/*", "target")
+                .route("/a%20b/a+b/c/d");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public Class<PathMatch<?>> type() {
+        return (Class) PathMatch.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
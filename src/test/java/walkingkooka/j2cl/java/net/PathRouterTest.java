@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PathRouterTest implements ClassTesting<PathRouter<?>> {
+
+    // add..............................................................................................................
+
+    @Test
+    public void testAddNullTemplateFails() {
+        assertThrows(NullPointerException.class, () -> new PathRouter<String>().add(null, "target"));
+    }
+
+    @Test
+    public void testAddNullTargetFails() {
+        assertThrows(NullPointerException.class, () -> new PathRouter<String>().add("/a", null));
+    }
+
+    @Test
+    public void testAddDuplicateFails() {
+        this.addFails("/a/{id}", "/a/{name}");
+    }
+
+    @Test
+    public void testAddDuplicateWildcardFails() {
+        this.addFails("/a/*", "/a/*");
+    }
+
+    @Test
+    public void testAddWildcardNotLastFails() {
+        this.addFails("/a/*/b");
+    }
+
+    @Test
+    public void testAddEmptyParameterFails() {
+        this.addFails("/a/{}");
+    }
+
+    @Test
+    public void testAddPartialParameterFails() {
+        this.addFails("/a/b{id}");
+    }
+
+    @Test
+    public void testAddUnclosedParameterFails() {
+        this.addFails("/a/{id");
+    }
+
+    @Test
+    public void testAddDuplicateParameterFails() {
+        this.addFails("/{id}/{id}");
+    }
+
+    @Test
+    public void testAddMatrixParametersFails() {
+        this.addFails("/a;x=1/b");
+    }
+
+    private void addFails(final String... templates) {
+        final PathRouter<String> router = new PathRouter<>();
+        for (int i = 0; i < templates.length - 1; i++) {
+            router.add(templates[i], templates[i]);
+        }
+        final String template = templates[templates.length - 1];
+        assertThrows(IllegalArgumentException.class, () -> router.add(template, template));
+    }
+
+    // route............................................................................................................
+
+    @Test
+    public void testRouteEmptyRouter() {
+        this.routeAndCheck(new PathRouter<>(), "/a", null);
+    }
+
+    @Test
+    public void testRouteLiteral() {
+        this.routeAndCheck(this.router(), "/v1/accounts", "/v1/accounts");
+    }
+
+    @Test
+    public void testRouteLiteralUnknown() {
+        this.routeAndCheck(this.router(), "/v1/unknown", null);
+    }
+
+    @Test
+    public void testRouteTooShort() {
+        this.routeAndCheck(this.router(), "/v1", null);
+    }
+
+    @Test
+    public void testRouteTooLong() {
+        this.routeAndCheck(this.router(), "/v1/accounts/me/x", null);
+    }
+
+    @Test
+    public void testRouteParameter() {
+        final PathMatch<String> match = this.routeAndCheck(this.router(), "/v1/accounts/123", "/v1/accounts/{id}");
+        this.checkEquals("123", match.parameter("id"));
+        this.checkEquals(null, match.parameter("unknown"));
+        this.checkEquals(null, match.remainder());
+    }
+
+    @Test
+    public void testRouteParameterDecodedLazily() {
+        final PathMatch<String> match = this.routeAndCheck(this.router(), "/v1/accounts/a%2Fb%20c", "/v1/accounts/{id}");
+        this.checkEquals("a%2Fb%20c", match.rawParameter("id"));
+        this.checkEquals("a/b c", match.parameter("id"));
+    }
+
+    @Test
+    public void testRouteParameterNotEmpty() {
+        this.routeAndCheck(this.router(), "/v1/accounts/", null);
+    }
+
+    @Test
+    public void testRouteLiteralPreferredToParameter() {
+        this.routeAndCheck(this.router(), "/v1/accounts/me", "/v1/accounts/me");
+    }
+
+    @Test
+    public void testRouteParameterAfterLiteralFails() {
+        final PathMatch<String> match = this.routeAndCheck(this.router(), "/v1/accounts/me/orders", "/v1/accounts/{id}/orders");
+        this.checkEquals("me", match.parameter("id"));
+    }
+
+    @Test
+    public void testRouteWildcard() {
+        final PathMatch<String> match = this.routeAndCheck(this.router(), "/v1/accounts/1/orders/2/3;x=1/", "/v1/accounts/{id}/orders/*");
+        this.checkEquals("1", match.parameter("id"));
+        this.checkEquals("2/3;x=1/", match.remainder());
+    }
+
+    @Test
+    public void testRouteWildcardNeedsSegment() {
+        final PathRouter<String> router = new PathRouter<String>()
+                .add("/files/*", "files");
+        this.routeAndCheck(router, "/files", null);
+        this.checkEquals("", router.route("/files/").remainder());
+    }
+
+    @Test
+    public void testRouteWildcardAfterParameterFails() {
+        final PathRouter<String> router = new PathRouter<String>()
+                .add("/a/{id}/b", "parameter")
+                .add("/a/*", "wildcard");
+        this.routeAndCheck(router, "/a/1/b", "parameter");
+        this.routeAndCheck(router, "/a/1/c", "wildcard");
+    }
+
+    @Test
+    public void testRouteSeveralParameters() {
+        final PathRouter<String> router = new PathRouter<String>()
+                .add("/{a}/x/{b}", "first")
+                .add("/{c}/y/{d}", "second");
+        final PathMatch<String> match = this.routeAndCheck(router, "/1/y/2", "second");
+        this.checkEquals("1", match.parameter("c"));
+        this.checkEquals("2", match.parameter("d"));
+        this.checkEquals(null, match.parameter("a"));
+    }
+
+    @Test
+    public void testRouteMatrixParametersIgnored() {
+        final PathMatch<String> match = this.routeAndCheck(this.router(), "/v1;version=2/accounts/7;full", "/v1/accounts/{id}");
+        this.checkEquals("7", match.parameter("id"));
+        this.checkEquals("2", match.segments().matrixParameter(0, "version"));
+    }
+
+    @Test
+    public void testRouteNotDecoded() {
+        this.routeAndCheck(this.router(), "/v1/%61ccounts", null);
+    }
+
+    @Test
+    public void testRouteEscapedLiteral() {
+        final PathRouter<String> router = new PathRouter<String>()
+                .add("/a%20b", "escaped");
+        this.routeAndCheck(router, "/a%20b", "escaped");
+    }
+
+    @Test
+    public void testRouteRoot() {
+        final PathRouter<String> router = new PathRouter<String>()
+                .add("/", "root")
+                .add("/a/", "directory");
+        this.routeAndCheck(router, "/", "root");
+        this.routeAndCheck(router, "/a/", "directory");
+        this.routeAndCheck(router, "/a", null);
+    }
+
+    @Test
+    public void testRouteUri() {
+        final PathMatch<String> match = this.router().route(URI.create("http://example.com/v1/accounts/%C3%A9?q=1#f"));
+        this.checkEquals("/v1/accounts/{id}", match.target());
+        this.checkEquals("é", match.parameter("id"));
+    }
+
+    @Test
+    public void testRouteManyTemplates() {
+        final PathRouter<Integer> router = new PathRouter<>();
+        for (int i = 0; i < 3000; i++) {
+            router.add("/v" + (i % 10) + "/resource" + i + "/{id}", i);
+        }
+        for (int i = 0; i < 3000; i++) {
+            final PathMatch<Integer> match = router.route("/v" + (i % 10) + "/resource" + i + "/x" + i);
+            this.checkEquals(i, match.target());
+            this.checkEquals("x" + i, match.parameter("id"));
+        }
+        this.checkEquals(null, router.route("/v1/resource2/x"));
+    }
+
+    private PathRouter<String> router() {
+        final PathRouter<String> router = new PathRouter<>();
+        for (final String template : new String[]{
+                "/v1/accounts",
+                "/v1/accounts/{id}",
+                "/v1/accounts/me",
+                "/v1/accounts/{id}/orders",
+                "/v1/accounts/{id}/orders/*",
+        }) {
+            router.add(template, template);
+        }
+        return router;
+    }
+
+    private PathMatch<String> routeAndCheck(final PathRouter<String> router,
+                                            final String path,
+                                            final String expected) {
+        final PathMatch<String> match = router.route(path);
+        this.checkEquals(expected,
+                null == match ? null : match.target(),
+                () -> "route " + path);
+        return match;
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public Class<PathRouter<?>> type() {
+        return (Class) PathRouter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PathSegmentsTest implements ClassTesting<PathSegments> {
+
+    @Test
+    public void testWithUri() {
+        this.checkSegments(PathSegments.with(URI.create("http://example.com/a/b%2Fc;v=1?q=1#f")), "a", "b/c");
+    }
+
+    @Test
+    public void testWithOpaqueUri() {
+        this.checkSegments(PathSegments.with(URI.create("mailto:a@example.com")));
+    }
+
+    @Test
+    public void testWithUrl() throws MalformedURLException {
+        this.checkSegments(PathSegments.with(new URL("http://example.com/a/b?q=1#ref")), "a", "b");
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testNull() {
+        this.checkSegments(PathSegments.parse(null));
+    }
+
+    @Test
+    public void testEmpty() {
+        this.checkSegments(PathSegments.parse(""));
+    }
+
+    @Test
+    public void testRoot() {
+        this.checkSegments(PathSegments.parse("/"), "");
+    }
+
+    @Test
+    public void testAbsolute() {
+        this.checkSegments(PathSegments.parse("/a/bb/ccc"), "a", "bb", "ccc");
+    }
+
+    @Test
+    public void testRelative() {
+        this.checkSegments(PathSegments.parse("a/bb"), "a", "bb");
+    }
+
+    @Test
+    public void testTrailingSlash() {
+        this.checkSegments(PathSegments.parse("/a/b/"), "a", "b", "");
+    }
+
+    @Test
+    public void testEmptySegment() {
+        this.checkSegments(PathSegments.parse("/a//b"), "a", "", "b");
+    }
+
+    @Test
+    public void testDotSegmentsKept() {
+        this.checkSegments(PathSegments.parse("/a/./../b"), "a", ".", "..", "b");
+    }
+
+    @Test
+    public void testEscaped() {
+        this.checkSegments(PathSegments.parse("/%C3%A9t%C3%A9/a%2Fb/a+b"), "été", "a/b", "a+b");
+    }
+
+    @Test
+    public void testMatrixParametersNotPartOfSegment() {
+        this.checkSegments(PathSegments.parse("/a;x=1;y=2/b;/c"), "a", "b", "c");
+    }
+
+    @Test
+    public void testInvalidEscapeFailsWhenDecoded() {
+        final PathSegments segments = PathSegments.parse("/a/%zz");
+        this.checkEquals("a", segments.segment(0));
+        this.checkEquals("%zz", segments.rawSegment(1));
+        assertThrows(IllegalArgumentException.class, () -> segments.segment(1));
+    }
+
+    // rawSegment.......................................................................................................
+
+    @Test
+    public void testRawSegment() {
+        final PathSegments segments = PathSegments.parse("/a%20b;x=1/c");
+        this.checkEquals("a%20b", segments.rawSegment(0));
+        this.checkEquals("c", segments.rawSegment(1));
+    }
+
+    @Test
+    public void testRawSegmentInvalidIndexFails() {
+        final PathSegments segments = PathSegments.parse("/a/b");
+        assertThrows(IndexOutOfBoundsException.class, () -> segments.rawSegment(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> segments.rawSegment(2));
+    }
+
+    // segmentEquals....................................................................................................
+
+    @Test
+    public void testSegmentEqualsNullFails() {
+        assertThrows(NullPointerException.class, () -> PathSegments.parse("/a").segmentEquals(0, null));
+    }
+
+    @Test
+    public void testSegmentEquals() {
+        final PathSegments segments = PathSegments.parse("/users;v=2/%C3%A9t%C3%A9/a%2Fb/");
+        this.checkEquals(true, segments.segmentEquals(0, "users"));
+        this.checkEquals(false, segments.segmentEquals(0, "user"));
+        this.checkEquals(false, segments.segmentEquals(0, "users;v=2"));
+        this.checkEquals(true, segments.segmentEquals(1, "été"));
+        this.checkEquals(false, segments.segmentEquals(1, "%C3%A9t%C3%A9"));
+        this.checkEquals(true, segments.segmentEquals(2, "a/b"));
+        this.checkEquals(true, segments.segmentEquals(3, ""));
+    }
+
+    // matrixParameters.................................................................................................
+
+    @Test
+    public void testRawMatrixParameters() {
+        final PathSegments segments = PathSegments.parse("/a;x=1;y=%20/b/c;");
+        this.checkEquals("x=1;y=%20", segments.rawMatrixParameters(0));
+        this.checkEquals("", segments.rawMatrixParameters(1));
+        this.checkEquals("", segments.rawMatrixParameters(2));
+    }
+
+    @Test
+    public void testMatrixParameterNullNameFails() {
+        assertThrows(NullPointerException.class, () -> PathSegments.parse("/a;x=1").matrixParameter(0, null));
+    }
+
+    @Test
+    public void testMatrixParameter() {
+        final PathSegments segments = PathSegments.parse("/a;x=1;yy=2;x=3/b;yy=4");
+        this.checkEquals("1", segments.matrixParameter(0, "x"));
+        this.checkEquals("2", segments.matrixParameter(0, "yy"));
+        this.checkEquals("4", segments.matrixParameter(1, "yy"));
+        this.checkEquals(null, segments.matrixParameter(1, "x"));
+        this.checkEquals(null, segments.matrixParameter(0, "y"));
+    }
+
+    @Test
+    public void testMatrixParameterWithoutEquals() {
+        final PathSegments segments = PathSegments.parse("/a;x;y=");
+        this.checkEquals("", segments.matrixParameter(0, "x"));
+        this.checkEquals("", segments.matrixParameter(0, "y"));
+    }
+
+    @Test
+    public void testMatrixParameterEmptySkipped() {
+        final PathSegments segments = PathSegments.parse("/a;;=1;x=2");
+        this.checkEquals(null, segments.matrixParameter(0, ""));
+        this.checkEquals("2", segments.matrixParameter(0, "x"));
+    }
+
+    @Test
+    public void testMatrixParameterEqualsInValue() {
+        this.checkEquals("1=2", PathSegments.parse("/a;x=1=2").matrixParameter(0, "x"));
+    }
+
+    @Test
+    public void testMatrixParameterEscaped() {
+        final PathSegments segments = PathSegments.parse("/a;%C3%A9=%20b+c");
+        this.checkEquals(" b+c", segments.matrixParameter(0, "é"));
+    }
+
+    @Test
+    public void testMatrixParameterLastSegment() {
+        this.checkEquals("2", PathSegments.parse("/a;x=1/b;x=2").matrixParameter(1, "x"));
+    }
+
+    // iterator.........................................................................................................
+
+    @Test
+    public void testIteratorExhaustedFails() {
+        final Iterator<String> iterator = PathSegments.parse("/a").iterator();
+        this.checkEquals("a", iterator.next());
+        this.checkEquals(false, iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.checkEquals("/a;x=1/b", PathSegments.parse("/a;x=1/b").toString());
+    }
+
+    private void checkSegments(final PathSegments segments,
+                               final String... expected) {
+        this.checkEquals(expected.length, segments.size(), () -> "size " + segments);
+
+        final List<String> decoded = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            decoded.add(segments.segment(i));
+        }
+        this.checkEquals(Arrays.asList(expected), decoded, () -> "segments " + segments);
+
+        final List<String> iterated = new ArrayList<>();
+        segments.forEach(iterated::add);
+        this.checkEquals(Arrays.asList(expected), iterated, () -> "iterator " + segments);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<PathSegments> type() {
+        return PathSegments.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PunycodeTest implements ClassTesting<Punycode> {
+
+    // RFC 3492 7.1 sample strings......................................................................................
+
+    @Test
+    public void testArabic() {
+        this.encodeAndDecodeAndCheck("ليهمابتكلموشعربي؟",
+                "egbpdaj6bu4bxfgehfvwxn");
+    }
+
+    @Test
+    public void testChineseSimplified() {
+        this.encodeAndDecodeAndCheck("他们为什么不说中文",
+                "ihqwcrb4cv8a8dqg056pqjye");
+    }
+
+    @Test
+    public void testJapaneseMixedCase() {
+        this.encodeAndDecodeAndCheck("3年B組金八先生",
+                "3B-ww4c5e180e575a65lsy2b");
+    }
+
+    @Test
+    public void testAsciiOnly() {
+        this.encodeAndDecodeAndCheck("-> $1.00 <-",
+                "-> $1.00 <--");
+    }
+
+    // encode/decode....................................................................................................
+
+    @Test
+    public void testEmpty() {
+        this.encodeAndDecodeAndCheck("", "");
+    }
+
+    @Test
+    public void testSupplementaryCodePoint() {
+        this.encodeAndDecodeAndCheck("😀", "e28h");
+    }
+
+    @Test
+    public void testLatin() {
+        this.encodeAndDecodeAndCheck("bücher", "bcher-kva");
+    }
+
+    @Test
+    public void testDecodeUpperCaseDigits() {
+        this.checkEquals("bücher", Punycode.decode("bcher-KVA"));
+    }
+
+    @Test
+    public void testDecodeNonAsciiBasicFails() {
+        assertThrows(IllegalArgumentException.class, () -> Punycode.decode("ü-kva"));
+    }
+
+    @Test
+    public void testDecodeInvalidDigitFails() {
+        assertThrows(IllegalArgumentException.class, () -> Punycode.decode("bcher-k!a"));
+    }
+
+    @Test
+    public void testDecodeTruncatedFails() {
+        assertThrows(IllegalArgumentException.class, () -> Punycode.decode("bcher-kv"));
+    }
+
+    @Test
+    public void testDecodeOverflowFails() {
+        assertThrows(IllegalArgumentException.class, () -> Punycode.decode("99999999999"));
+    }
+
+    private void encodeAndDecodeAndCheck(final String unicode,
+                                         final String punycode) {
+        this.checkEquals(punycode, Punycode.encode(unicode), () -> "encode " + unicode);
+        this.checkEquals(unicode, Punycode.decode(punycode), () -> "decode " + punycode);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<Punycode> type() {
+        return Punycode.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class QueryParametersTest implements ClassTesting<QueryParameters> {
+
+    @Test
+    public void testParseNullCharsetFails() {
+        assertThrows(NullPointerException.class, () -> QueryParameters.parse("a=1", null));
+    }
+
+    @Test
+    public void testWithUriWithoutQuery() {
+        this.checkEquals(0, QueryParameters.with(URI.create("http://example.com/path")).size());
+    }
+
+    @Test
+    public void testWithUri() {
+        final QueryParameters parameters = QueryParameters.with(URI.create("http://example.com/path?a=1&b=%C3%A9#fragment"));
+        this.checkEquals(2, parameters.size());
+        this.checkEquals("é", parameters.first("b"));
+    }
+
+    @Test
+    public void testWithUrl() throws MalformedURLException {
+        final QueryParameters parameters = QueryParameters.with(new URL("http://example.com/path?a=1&b=2#ref"));
+        this.checkEquals(Arrays.asList("a", "b"), this.names(parameters));
+        this.checkEquals("2", parameters.first("b"));
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testEmpty() {
+        this.parseAndCheck("");
+    }
+
+    @Test
+    public void testOne() {
+        this.parseAndCheck("a=1", "a", "1");
+    }
+
+    @Test
+    public void testSeveral() {
+        this.parseAndCheck("a=1&bb=22&ccc=333", "a", "1", "bb", "22", "ccc", "333");
+    }
+
+    @Test
+    public void testWithoutEquals() {
+        this.parseAndCheck("a&b=", "a", "", "b", "");
+    }
+
+    @Test
+    public void testEmptyName() {
+        this.parseAndCheck("=1", "", "1");
+    }
+
+    @Test
+    public void testEqualsInValue() {
+        this.parseAndCheck("a=1=2", "a", "1=2");
+    }
+
+    @Test
+    public void testEmptyParametersSkipped() {
+        this.parseAndCheck("&&a=1&&b=2&", "a", "1", "b", "2");
+    }
+
+    @Test
+    public void testEscapes() {
+        this.parseAndCheck("first+name=J%C3%B6rg&q=a%26b%3Dc", "first name", "Jörg", "q", "a&b=c");
+    }
+
+    private void parseAndCheck(final String query,
+                               final String... namesAndValues) {
+        final QueryParameters parameters = QueryParameters.parse(query, StandardCharsets.UTF_8);
+
+        final List<Map.Entry<String, String>> expected = new ArrayList<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            expected.add(new AbstractMap.SimpleImmutableEntry<>(namesAndValues[i], namesAndValues[i + 1]));
+        }
+
+        final List<Map.Entry<String, String>> iterated = new ArrayList<>();
+        parameters.forEach(iterated::add);
+        this.checkEquals(expected, iterated, () -> "iterator " + query);
+        this.checkEquals(expected.size(), parameters.size(), () -> "size " + query);
+
+        for (int i = 0; i < parameters.size(); i++) {
+            this.checkEquals(namesAndValues[i * 2], parameters.name(i), "name " + i);
+            this.checkEquals(namesAndValues[i * 2 + 1], parameters.value(i), "value " + i);
+        }
+    }
+
+    // raw..............................................................................................................
+
+    @Test
+    public void testRawNameAndValue() {
+        final QueryParameters parameters = QueryParameters.parse("a+b=%C3%A9&c", StandardCharsets.UTF_8);
+        this.checkEquals("a+b", parameters.rawName(0));
+        this.checkEquals("%C3%A9", parameters.rawValue(0));
+        this.checkEquals("c", parameters.rawName(1));
+        this.checkEquals("", parameters.rawValue(1));
+    }
+
+    @Test
+    public void testIndexOutOfBoundsFails() {
+        final QueryParameters parameters = QueryParameters.parse("a=1", StandardCharsets.UTF_8);
+        assertThrows(IndexOutOfBoundsException.class, () -> parameters.name(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> parameters.value(1));
+    }
+
+    @Test
+    public void testBadEscapeOnlyFailsWhenDecoded() {
+        final QueryParameters parameters = QueryParameters.parse("a=%ZZ&b=2", StandardCharsets.UTF_8);
+        this.checkEquals("2", parameters.first("b"));
+        assertThrows(IllegalArgumentException.class, () -> parameters.first("a"));
+    }
+
+    @Test
+    public void testBadEscapeInNameMatchesNothing() {
+        final QueryParameters parameters = QueryParameters.parse("%zz=1&b=2&%zz=3", StandardCharsets.UTF_8);
+        this.checkEquals("2", parameters.first("b"));
+        this.checkEquals(Collections.singletonList("2"), parameters.all("b"));
+        this.checkEquals(false, parameters.contains("%zz"));
+        assertThrows(IllegalArgumentException.class, () -> parameters.name(0));
+    }
+
+    // first/all/contains...............................................................................................
+
+    @Test
+    public void testFirst() {
+        final QueryParameters parameters = QueryParameters.parse("a=1&b=2&a=3", StandardCharsets.UTF_8);
+        this.checkEquals("1", parameters.first("a"));
+        this.checkEquals("2", parameters.first("b"));
+        this.checkEquals(null, parameters.first("c"));
+    }
+
+    @Test
+    public void testFirstEscapedName() {
+        final QueryParameters parameters = QueryParameters.parse("first%20name=1&first+name=2&caf%C3%A9=3", StandardCharsets.UTF_8);
+        this.checkEquals("1", parameters.first("first name"));
+        this.checkEquals("3", parameters.first("café"));
+    }
+
+    @Test
+    public void testFirstPrefixNameIgnored() {
+        final QueryParameters parameters = QueryParameters.parse("ab=1&a=2", StandardCharsets.UTF_8);
+        this.checkEquals("2", parameters.first("a"));
+    }
+
+    @Test
+    public void testFirstNullFails() {
+        assertThrows(NullPointerException.class, () -> QueryParameters.parse("a=1", StandardCharsets.UTF_8).first(null));
+    }
+
+    @Test
+    public void testAll() {
+        final QueryParameters parameters = QueryParameters.parse("a=1&b=2&a=3&a", StandardCharsets.UTF_8);
+        this.checkEquals(Arrays.asList("1", "3", ""), parameters.all("a"));
+        this.checkEquals(Collections.singletonList("2"), parameters.all("b"));
+        this.checkEquals(Collections.emptyList(), parameters.all("c"));
+    }
+
+    @Test
+    public void testContains() {
+        final QueryParameters parameters = QueryParameters.parse("a=1&b", StandardCharsets.UTF_8);
+        this.checkEquals(true, parameters.contains("a"));
+        this.checkEquals(true, parameters.contains("b"));
+        this.checkEquals(false, parameters.contains("c"));
+    }
+
+    @Test
+    public void testIso88591() {
+        this.checkEquals("é", QueryParameters.parse("a=%E9", StandardCharsets.ISO_8859_1).first("a"));
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals("a=1&b=2", QueryParameters.parse("a=1&b=2", StandardCharsets.UTF_8).toString());
+    }
+
+    private List<String> names(final QueryParameters parameters) {
+        final List<String> names = new ArrayList<>();
+        for (final Map.Entry<String, String> parameter : parameters) {
+            names.add(parameter.getKey());
+        }
+        return names;
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<QueryParameters> type() {
+        return QueryParameters.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
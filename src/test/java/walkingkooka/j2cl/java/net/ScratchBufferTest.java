@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class ScratchBufferTest implements ClassTesting<ScratchBuffer> {
+
+    @Test
+    public void testCharsReused() {
+        final ScratchBuffer buffer = new ScratchBuffer();
+        final char[] chars = buffer.chars(10);
+        assertSame(chars, buffer.chars(5));
+        assertSame(chars, buffer.chars(10));
+        this.checkEquals(20, buffer.chars(20).length);
+    }
+
+    @Test
+    public void testBytesReused() {
+        final ScratchBuffer buffer = new ScratchBuffer();
+        final byte[] bytes = buffer.bytes(10);
+        assertSame(bytes, buffer.bytes(10));
+        this.checkEquals(20, buffer.bytes(20).length);
+    }
+
+    @Test
+    public void testBuilderEmptied() {
+        final ScratchBuffer buffer = new ScratchBuffer();
+        final StringBuilder builder = buffer.builder();
+        builder.append("abc");
+        assertSame(builder, buffer.builder());
+        this.checkEquals(0, builder.length());
+    }
+
+    @Test
+    public void testReleaseKeepsSmallArrays() {
+        final ScratchBuffer buffer = ScratchBuffer.acquire();
+        final char[] chars = buffer.chars(ScratchBuffer.MAX_RETAINED_LENGTH);
+        buffer.release();
+
+        final ScratchBuffer again = ScratchBuffer.acquire();
+        try {
+            assertSame(buffer, again);
+            assertSame(chars, again.chars(1));
+        } finally {
+            again.release();
+        }
+    }
+
+    @Test
+    public void testReleaseDropsOversizedArrays() {
+        final ScratchBuffer buffer = ScratchBuffer.acquire();
+        final char[] chars = buffer.chars(ScratchBuffer.MAX_RETAINED_LENGTH + 1);
+        final byte[] bytes = buffer.bytes(ScratchBuffer.MAX_RETAINED_LENGTH + 1);
+        buffer.release();
+
+        final ScratchBuffer again = ScratchBuffer.acquire();
+        try {
+            assertNotSame(chars, again.chars(1));
+            assertNotSame(bytes, again.bytes(1));
+        } finally {
+            again.release();
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ScratchBuffer> type() {
+        return ScratchBuffer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
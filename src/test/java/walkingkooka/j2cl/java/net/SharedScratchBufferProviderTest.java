@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class SharedScratchBufferProviderTest implements ClassTesting<SharedScratchBufferProvider> {
+
+    @Test
+    public void testAcquireAfterRelease() {
+        final SharedScratchBufferProvider provider = new SharedScratchBufferProvider();
+        final ScratchBuffer buffer = provider.acquire();
+        provider.release(buffer);
+
+        assertSame(buffer, provider.acquire());
+    }
+
+    @Test
+    public void testNestedAcquire() {
+        final SharedScratchBufferProvider provider = new SharedScratchBufferProvider();
+        final ScratchBuffer outer = provider.acquire();
+        final ScratchBuffer inner = provider.acquire();
+        assertNotSame(outer, inner);
+
+        provider.release(inner);
+        provider.release(outer);
+        assertSame(outer, provider.acquire());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<SharedScratchBufferProvider> type() {
+        return SharedScratchBufferProvider.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
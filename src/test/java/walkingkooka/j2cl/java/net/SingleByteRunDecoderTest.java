@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+public final class SingleByteRunDecoderTest implements ClassTesting<SingleByteRunDecoder> {
+
+    @Test
+    public void testIso88591() {
+        this.decodeAllAndCheck(SingleByteRunDecoder.ISO_8859_1, StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void testUsAscii() {
+        this.decodeAllAndCheck(SingleByteRunDecoder.US_ASCII, StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void testWindows1252() {
+        this.decodeAllAndCheck(SingleByteRunDecoder.WINDOWS_1252, Charset.forName("windows-1252"));
+    }
+
+    @Test
+    public void testWritesFromOffset() {
+        final char[] chars = new char[3];
+        this.checkEquals(3,
+                SingleByteRunDecoder.ISO_8859_1.decode(new byte[]{'A', (byte) 0xe9, 'B'}, 2, chars, 1));
+        this.checkEquals("\0Aé", new String(chars));
+    }
+
+    private void decodeAllAndCheck(final SingleByteRunDecoder decoder,
+                                   final Charset charset) {
+        final byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        final char[] chars = new char[bytes.length];
+        this.checkEquals(bytes.length, decoder.decode(bytes, bytes.length, chars, 0));
+        this.checkEquals(new String(bytes, charset), new String(chars), charset::name);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<SingleByteRunDecoder> type() {
+        return SingleByteRunDecoder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class StacklessExceptionsTest implements ClassTesting<StacklessExceptions> {
+
+    @Test
+    public void testDisabledByDefault() {
+        this.checkEquals(false, StacklessExceptions.isEnabled());
+    }
+
+    @Test
+    public void testEnabledProperty() {
+        System.setProperty(StacklessExceptions.PROPERTY, "true");
+        try {
+            this.checkEquals(true, StacklessExceptions.enabled(""));
+        } finally {
+            System.clearProperty(StacklessExceptions.PROPERTY);
+        }
+        this.checkEquals(false, StacklessExceptions.enabled(""));
+    }
+
+    @Test
+    public void testSetEnabled() {
+        StacklessExceptions.setEnabled(true);
+        try {
+            this.checkEquals(true, StacklessExceptions.isEnabled());
+        } finally {
+            StacklessExceptions.setEnabled(false);
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<StacklessExceptions> type() {
+        return StacklessExceptions.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
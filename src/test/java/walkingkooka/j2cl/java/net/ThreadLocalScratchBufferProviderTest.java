@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class ThreadLocalScratchBufferProviderTest implements ClassTesting<ThreadLocalScratchBufferProvider> {
+
+    @Test
+    public void testSameThread() {
+        final ThreadLocalScratchBufferProvider provider = new ThreadLocalScratchBufferProvider();
+        final ScratchBuffer buffer = provider.acquire();
+        provider.release(buffer);
+
+        assertSame(buffer, provider.acquire());
+    }
+
+    @Test
+    public void testDifferentThread() throws Exception {
+        final ThreadLocalScratchBufferProvider provider = new ThreadLocalScratchBufferProvider();
+        final ScratchBuffer buffer = provider.acquire();
+        provider.release(buffer);
+
+        final AtomicReference<ScratchBuffer> other = new AtomicReference<>();
+        final Thread thread = new Thread(() -> other.set(provider.acquire()));
+        thread.start();
+        thread.join();
+
+        assertNotSame(buffer, other.get());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ThreadLocalScratchBufferProvider> type() {
+        return ThreadLocalScratchBufferProvider.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class URIBloomFilterTest implements ClassTesting<URIBloomFilter> {
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithZeroInsertionsFails() {
+        assertThrows(IllegalArgumentException.class, () -> URIBloomFilter.with(0, 0.01));
+    }
+
+    @Test
+    public void testWithInvalidRateFails() {
+        assertThrows(IllegalArgumentException.class, () -> URIBloomFilter.with(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> URIBloomFilter.with(100, 1));
+        assertThrows(IllegalArgumentException.class, () -> URIBloomFilter.with(100, Double.NaN));
+    }
+
+    @Test
+    public void testWithTooLargeFails() {
+        assertThrows(IllegalArgumentException.class, () -> URIBloomFilter.with(Long.MAX_VALUE / 2, 0.01));
+    }
+
+    @Test
+    public void testWithSizing() {
+        final URIBloomFilter filter = URIBloomFilter.with(1000, 0.01);
+        this.checkEquals(9600L, filter.bitCount());
+        this.checkEquals(7, filter.hashCount());
+    }
+
+    @Test
+    public void testWithSmallestRate() {
+        this.checkEquals(URIBloomFilter.MAX_HASH_COUNT, URIBloomFilter.with(1, Double.MIN_VALUE).hashCount());
+        this.checkEquals(URIBloomFilter.MAX_HASH_COUNT, URIBloomFilter.with(1_000_000, Double.MIN_VALUE).hashCount());
+    }
+
+    @Test
+    public void testWithSmall() {
+        final URIBloomFilter filter = URIBloomFilter.with(1, 0.5);
+        this.checkEquals(64L, filter.bitCount());
+        this.checkEquals(1, filter.hashCount());
+    }
+
+    // add..............................................................................................................
+
+    @Test
+    public void testEmpty() {
+        this.checkEquals(false, URIBloomFilter.with(100, 0.01).mightContain(URI.create("http://example.com/")));
+    }
+
+    @Test
+    public void testAdd() {
+        final URIBloomFilter filter = URIBloomFilter.with(100, 0.01);
+        final URI uri = URI.create("http://example.com/a");
+
+        this.checkEquals(true, filter.add(uri));
+        this.checkEquals(true, filter.mightContain(uri));
+        this.checkEquals(false, filter.add(uri));
+    }
+
+    @Test
+    public void testAddEqualUri() {
+        final URIBloomFilter filter = URIBloomFilter.with(100, 0.01);
+        filter.add(URI.create("http://example.com/a%2fb"));
+
+        this.checkEquals(true, filter.mightContain(URI.create("HTTP://EXAMPLE.com/a%2Fb")));
+        this.checkEquals(false, filter.add(URI.create("HTTP://EXAMPLE.com/a%2Fb")));
+    }
+
+    @Test
+    public void testAddFingerprint() {
+        final URIBloomFilter filter = URIBloomFilter.with(100, 0.01);
+        final URI uri = URI.create("http://example.com/a");
+        filter.add(URIFingerprint.fingerprint(uri));
+
+        this.checkEquals(true, filter.mightContain(uri));
+    }
+
+    @Test
+    public void testFalsePositiveRate() {
+        final int count = 20000;
+        final URIBloomFilter filter = URIBloomFilter.with(count, 0.01);
+        for (int i = 0; i < count; i++) {
+            filter.add(URI.create("http://example.com/added/" + i));
+        }
+
+        for (int i = 0; i < count; i++) {
+            this.checkEquals(true, filter.mightContain(URI.create("http://example.com/added/" + i)));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < count; i++) {
+            if (filter.mightContain(URI.create("http://example.com/other/" + i))) {
+                falsePositives++;
+            }
+        }
+        final int found = falsePositives;
+        this.checkEquals(true, found < count * 0.02, () -> "false positives " + found);
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        final URIBloomFilter filter = URIBloomFilter.with(40000, 0.01);
+        final AtomicInteger added = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < 4; t++) {
+            final int thread = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    if (filter.add(URI.create("http://example.com/" + thread + "/" + i))) {
+                        added.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int t = 0; t < 4; t++) {
+            for (int i = 0; i < 10000; i++) {
+                this.checkEquals(true, filter.mightContain(URI.create("http://example.com/" + t + "/" + i)));
+            }
+        }
+        this.checkEquals(true, added.get() > 39000, () -> "added " + added);
+    }
+
+    // serialization....................................................................................................
+
+    @Test
+    public void testWriteToReadFrom() throws IOException {
+        final URIBloomFilter filter = URIBloomFilter.with(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add(URI.create("http://example.com/" + i));
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        filter.writeTo(bytes);
+        this.checkEquals(12 + 9600 / 8, bytes.size());
+
+        final URIBloomFilter read = URIBloomFilter.readFrom(new ByteArrayInputStream(bytes.toByteArray()));
+        this.checkEquals(filter.bitCount(), read.bitCount());
+        this.checkEquals(filter.hashCount(), read.hashCount());
+        for (int i = 0; i < 1000; i++) {
+            this.checkEquals(true, read.mightContain(URI.create("http://example.com/" + i)));
+        }
+        this.checkEquals(false, read.add(URI.create("http://example.com/1")));
+    }
+
+    @Test
+    public void testWriteToReadFromSeveralChunks() throws IOException {
+        final URIBloomFilter filter = URIBloomFilter.with(100000, 0.01);
+        this.checkEquals(true, filter.bitCount() / 64 > URIBloomFilter.READ_CHUNK, () -> "bits " + filter.bitCount());
+        for (int i = 0; i < 100000; i += 7) {
+            filter.add(URI.create("http://example.com/" + i));
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        filter.writeTo(bytes);
+
+        final URIBloomFilter read = URIBloomFilter.readFrom(new ByteArrayInputStream(bytes.toByteArray()));
+        this.checkEquals(filter.bitCount(), read.bitCount());
+        for (int i = 0; i < 100000; i += 7) {
+            this.checkEquals(true, read.mightContain(URI.create("http://example.com/" + i)));
+        }
+
+        final ByteArrayOutputStream again = new ByteArrayOutputStream();
+        read.writeTo(again);
+        this.checkEquals(true, Arrays.equals(bytes.toByteArray(), again.toByteArray()), "written again");
+    }
+
+    @Test
+    public void testReadFromInvalidFails() {
+        assertThrows(IOException.class, () -> URIBloomFilter.readFrom(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 0, 0, 0, 1, 0, 0, 0, 1})));
+    }
+
+    @Test
+    public void testReadFromTooManyHashesFails() {
+        final int hashCount = URIBloomFilter.MAX_HASH_COUNT + 1;
+        assertThrows(IOException.class, () -> URIBloomFilter.readFrom(new ByteArrayInputStream(new byte[]{
+                0x55, 0x42, 0x46, 0x31,
+                0, 0, (byte) (hashCount >> 8), (byte) hashCount,
+                0, 0, 0, 1,
+                0, 0, 0, 0, 0, 0, 0, 0
+        })));
+    }
+
+    @Test
+    public void testReadFromLengthLargerThanStreamFails() {
+        final int length = URIBloomFilter.MAX_LENGTH;
+        assertThrows(IOException.class, () -> URIBloomFilter.readFrom(new ByteArrayInputStream(new byte[]{
+                0x55, 0x42, 0x46, 0x31,
+                0, 0, 0, 7,
+                (byte) (length >> 24), (byte) (length >> 16), (byte) (length >> 8), (byte) length,
+                0, 0, 0, 0, 0, 0, 0, 0
+        })));
+    }
+
+    @Test
+    public void testReadFromTruncatedFails() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        URIBloomFilter.with(1000, 0.01).writeTo(bytes);
+        final byte[] truncated = new byte[bytes.size() - 1];
+        System.arraycopy(bytes.toByteArray(), 0, truncated, 0, truncated.length);
+
+        assertThrows(IOException.class, () -> URIBloomFilter.readFrom(new ByteArrayInputStream(truncated)));
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.checkEquals("9600 bits, 7 hashes", URIBloomFilter.with(1000, 0.01).toString());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<URIBloomFilter> type() {
+        return URIBloomFilter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class URIColumnsCursorTest implements ClassTesting<URIColumnsCursor> {
+
+    @Test
+    public void testNotMovedFails() throws Exception {
+        final URIColumns columns = new URIColumns();
+        columns.append("http://example.com");
+
+        final URIColumnsCursor cursor = columns.cursor();
+        this.checkEquals(-1, cursor.row());
+        assertThrows(IllegalStateException.class, cursor::getHost);
+        this.checkEquals("", cursor.toString());
+    }
+
+    @Test
+    public void testMoveToInvalidRowFails() throws Exception {
+        final URIColumns columns = new URIColumns();
+        columns.append("http://example.com");
+
+        final URIColumnsCursor cursor = columns.cursor();
+        assertThrows(IndexOutOfBoundsException.class, () -> cursor.moveTo(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> cursor.moveTo(1));
+    }
+
+    @Test
+    public void testGetters() throws Exception {
+        final String text = "https://us%40er@Example.com:8443/a%2Fb/c?q=%41#%42";
+
+        final URIColumns columns = new URIColumns();
+        columns.append("http://other.com/");
+        columns.append(text);
+
+        final URI uri = new URI(text);
+        final URIColumnsCursor cursor = columns.cursor().moveTo(1);
+
+        this.checkEquals(1, cursor.row());
+        this.checkEquals(uri.getScheme(), cursor.getScheme());
+        this.checkEquals(uri.isAbsolute(), cursor.isAbsolute());
+        this.checkEquals(uri.isOpaque(), cursor.isOpaque());
+        this.checkEquals(uri.getRawAuthority(), cursor.getRawAuthority());
+        this.checkEquals(uri.getAuthority(), cursor.getAuthority());
+        this.checkEquals(uri.getRawUserInfo(), cursor.getRawUserInfo());
+        this.checkEquals(uri.getUserInfo(), cursor.getUserInfo());
+        this.checkEquals(uri.getHost(), cursor.getHost());
+        this.checkEquals(uri.getPort(), cursor.getPort());
+        this.checkEquals(uri.getRawPath(), cursor.getRawPath());
+        this.checkEquals(uri.getPath(), cursor.getPath());
+        this.checkEquals(uri.getRawQuery(), cursor.getRawQuery());
+        this.checkEquals(uri.getQuery(), cursor.getQuery());
+        this.checkEquals(uri.getRawFragment(), cursor.getRawFragment());
+        this.checkEquals(uri.getFragment(), cursor.getFragment());
+    }
+
+    @Test
+    public void testMissingComponents() throws Exception {
+        final URIColumns columns = new URIColumns();
+        columns.append("path");
+
+        final URIColumnsCursor cursor = columns.cursor().moveTo(0);
+        this.checkEquals(null, cursor.getScheme());
+        this.checkEquals(false, cursor.isAbsolute());
+        this.checkEquals(null, cursor.getRawAuthority());
+        this.checkEquals(null, cursor.getUserInfo());
+        this.checkEquals(null, cursor.getHost());
+        this.checkEquals(-1, cursor.getPort());
+        this.checkEquals(null, cursor.getQuery());
+        this.checkEquals(null, cursor.getFragment());
+    }
+
+    @Test
+    public void testAppendRawPath() throws Exception {
+        final URIColumns columns = new URIColumns();
+        columns.append("http://example.com/a/b%20c");
+
+        final StringBuilder b = new StringBuilder("path=");
+        columns.cursor()
+                .moveTo(0)
+                .appendRawPath(b);
+        this.checkEquals("path=/a/b%20c", b.toString());
+    }
+
+    @Test
+    public void testAppendTo() throws Exception {
+        final URIColumns columns = new URIColumns();
+        columns.append("http://example.com/a?b#c");
+
+        final StringBuilder b = new StringBuilder("<");
+        columns.cursor()
+                .moveTo(0)
+                .appendTo(b)
+                .append('>');
+        this.checkEquals("<http://example.com/a?b#c>", b.toString());
+    }
+
+    @Test
+    public void testCursorSeesLaterRows() throws Exception {
+        final URIColumns columns = new URIColumns();
+        final URIColumnsCursor cursor = columns.cursor();
+
+        columns.append("http://example.com/a");
+        this.checkEquals("/a", cursor.moveTo(0).getRawPath());
+
+        columns.append("http://example.com/ab");
+        this.checkEquals("/ab", cursor.moveTo(1).getRawPath());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<URIColumnsCursor> type() {
+        return URIColumnsCursor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
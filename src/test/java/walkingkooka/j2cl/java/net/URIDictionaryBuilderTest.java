@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class URIDictionaryBuilderTest implements ClassTesting<URIDictionaryBuilder> {
+
+    @Test
+    public void testAddNullFails() {
+        assertThrows(NullPointerException.class, () -> URIDictionary.builder().add(null));
+    }
+
+    @Test
+    public void testAddUnpairedSurrogateFails() {
+        final URIDictionaryBuilder builder = URIDictionary.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.add(URI.create("http://example.com/a\ud800")));
+        this.checkEquals(0, builder.size());
+        this.checkEquals(0, builder.add(URI.create("http://example.com/a?")));
+    }
+
+    @Test
+    public void testAddDuplicate() {
+        final URIDictionaryBuilder builder = URIDictionary.builder();
+        this.checkEquals(0, builder.add(URI.create("http://example.com/a")));
+        this.checkEquals(1, builder.add(URI.create("http://example.com/b")));
+        this.checkEquals(0, builder.add(URI.create("HTTP://EXAMPLE.COM/a")));
+        this.checkEquals(2, builder.size());
+    }
+
+    @Test
+    public void testAddAll() {
+        final URIDictionaryBuilder builder = URIDictionary.builder()
+                .addAll(
+                        Arrays.asList(
+                                URI.create("http://example.com/a"),
+                                URI.create("http://example.com/b")
+                        ).iterator()
+                );
+        this.checkEquals(2, builder.size());
+    }
+
+    @Test
+    public void testWriteToHeader() throws IOException {
+        final URIDictionaryBuilder builder = URIDictionary.builder();
+        for (int i = 0; i < URIDictionary.BLOCK_SIZE + 1; i++) {
+            builder.add(URI.create("http://example.com/" + i));
+        }
+
+        final Path file = Files.createTempFile("URIDictionaryBuilderTest", ".bin");
+        try {
+            builder.writeTo(file);
+
+            try (final DataInputStream data = new DataInputStream(Files.newInputStream(file))) {
+                this.checkEquals(URIDictionary.MAGIC, data.readInt(), "magic");
+                this.checkEquals(URIDictionary.VERSION, data.readInt(), "version");
+                this.checkEquals(URIDictionary.BLOCK_SIZE + 1, data.readInt(), "size");
+                this.checkEquals(32, data.readInt(), "hash capacity");
+                this.checkEquals(2, data.readInt(), "block count");
+                data.readInt();
+                this.checkEquals((long) URIDictionary.HEADER_LENGTH, data.readLong(), "data offset");
+                data.readLong();
+                data.readLong();
+                this.checkEquals(Files.size(file), data.readLong(), "length");
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testWriteToFrontCodes() throws IOException {
+        final URIDictionaryBuilder builder = URIDictionary.builder();
+        final StringBuilder path = new StringBuilder("http://example.com/");
+        for (int i = 0; i < 10; i++) {
+            path.append("segment").append(i).append('/');
+        }
+        long chars = 0;
+        for (int i = 0; i < 1000; i++) {
+            final String text = path.toString() + i;
+            builder.add(URI.create(text));
+            chars += text.length();
+        }
+
+        final Path file = Files.createTempFile("URIDictionaryBuilderTest", ".bin");
+        try {
+            builder.writeTo(file);
+            final long length = Files.size(file);
+            final long total = chars;
+            this.checkEquals(true, length * 2 < total, () -> length + " bytes for " + total + " chars");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testToString() {
+        final URIDictionaryBuilder builder = URIDictionary.builder();
+        builder.add(URI.create("http://example.com"));
+        this.checkEquals("1 URIs", builder.toString());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<URIDictionaryBuilder> type() {
+        return URIDictionaryBuilder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
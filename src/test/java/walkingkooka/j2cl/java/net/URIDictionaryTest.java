@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class URIDictionaryTest implements ClassTesting<URIDictionary> {
+
+    @Test
+    public void testEmpty() throws IOException {
+        final Path file = Files.createTempFile("URIDictionaryTest", ".bin");
+        try {
+            URIDictionary.builder().writeTo(file);
+
+            final URIDictionary dictionary = URIDictionary.open(file);
+            this.checkEquals(0, dictionary.size());
+            this.checkEquals(-1, dictionary.id(URI.create("http://example.com")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testIdAndUri() throws IOException {
+        final List<URI> uris = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            uris.add(URI.create("https://host" + (i % 3) + ".example.com/a/b/page" + i + "?q=" + i + "#f"));
+        }
+        uris.add(URI.create("mailto:me@example.com"));
+        uris.add(URI.create("relative/path"));
+        uris.add(URI.create("http://example.com/café"));
+
+        final Path file = Files.createTempFile("URIDictionaryTest", ".bin");
+        try {
+            URIDictionary.builder()
+                    .addAll(uris.iterator())
+                    .writeTo(file);
+
+            final URIDictionary dictionary = URIDictionary.open(file);
+            this.checkEquals(uris.size(), dictionary.size());
+
+            for (int i = 0; i < uris.size(); i++) {
+                final URI uri = uris.get(i);
+                final int id = i;
+                this.checkEquals(id, dictionary.id(uri), () -> "id " + uri);
+                this.checkEquals(true, dictionary.contains(uri), () -> "contains " + uri);
+
+                final URI read = dictionary.uri(id);
+                this.checkEquals(uri, read, () -> "uri " + id);
+                this.checkEquals(uri.toString(), read.toString(), () -> "toString " + id);
+                this.checkEquals(uri.getRawQuery(), read.getRawQuery(), () -> "query " + id);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testIdEqualURI() throws IOException {
+        final Path file = Files.createTempFile("URIDictionaryTest", ".bin");
+        try {
+            final URIDictionaryBuilder builder = URIDictionary.builder();
+            builder.add(URI.create("http://example.com/%7e"));
+            builder.writeTo(file);
+
+            final URIDictionary dictionary = URIDictionary.open(file);
+            this.checkEquals(0, dictionary.id(URI.create("HTTP://EXAMPLE.COM/%7E")));
+            this.checkEquals(-1, dictionary.id(URI.create("http://example.com/%7f")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testIdNullFails() throws IOException {
+        final Path file = Files.createTempFile("URIDictionaryTest", ".bin");
+        try {
+            URIDictionary.builder().writeTo(file);
+            final URIDictionary dictionary = URIDictionary.open(file);
+            assertThrows(NullPointerException.class, () -> dictionary.id(null));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testUriInvalidIdFails() throws IOException {
+        final Path file = Files.createTempFile("URIDictionaryTest", ".bin");
+        try {
+            final URIDictionaryBuilder builder = URIDictionary.builder();
+            builder.add(URI.create("http://example.com"));
+            builder.writeTo(file);
+
+            final URIDictionary dictionary = URIDictionary.open(file);
+            assertThrows(IndexOutOfBoundsException.class, () -> dictionary.uri(-1));
+            assertThrows(IndexOutOfBoundsException.class, () -> dictionary.uri(1));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testOpenNotDictionaryFails() throws IOException {
+        final Path file = Files.createTempFile("URIDictionaryTest", ".bin");
+        try {
+            Files.write(file, new byte[100]);
+            assertThrows(IOException.class, () -> URIDictionary.open(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testOpenTruncatedFails() throws IOException {
+        final Path file = Files.createTempFile("URIDictionaryTest", ".bin");
+        try {
+            final URIDictionaryBuilder builder = URIDictionary.builder();
+            builder.add(URI.create("http://example.com"));
+            builder.writeTo(file);
+
+            final byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+            assertThrows(IOException.class, () -> URIDictionary.open(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testOpenHashCapacityNotGreaterThanSizeFails() throws IOException {
+        final Path file = Files.createTempFile("URIDictionaryTest", ".bin");
+        try {
+            final URIDictionaryBuilder builder = URIDictionary.builder();
+            builder.add(URI.create("http://example.com/1"));
+            builder.add(URI.create("http://example.com/2"));
+            builder.writeTo(file);
+
+            // shrink the hash table to 2 slots, which leaves no empty slot for 2 URIs
+            final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+            final long length = bytes.getLong(40) + URIDictionary.SLOT_LENGTH * 2;
+            bytes.putInt(12, 2);
+            bytes.putLong(48, length);
+            Files.write(file, Arrays.copyOf(bytes.array(), (int) length));
+
+            assertThrows(IOException.class, () -> URIDictionary.open(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testIdFullHashTable() throws IOException {
+        final Path file = Files.createTempFile("URIDictionaryTest", ".bin");
+        try {
+            final URIDictionaryBuilder builder = URIDictionary.builder();
+            builder.add(URI.create("http://example.com"));
+            builder.writeTo(file);
+
+            // fill every empty slot so a missing URI never finds one
+            final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+            final int hashOffset = (int) bytes.getLong(40);
+            for (int slot = 0; slot < bytes.getInt(12); slot++) {
+                final int id = hashOffset + URIDictionary.SLOT_LENGTH * slot + 8;
+                if (0 == bytes.getInt(id)) {
+                    bytes.putInt(id, 1);
+                }
+            }
+            Files.write(file, bytes.array());
+
+            final URIDictionary dictionary = URIDictionary.open(file);
+            this.checkEquals(0, dictionary.id(URI.create("http://example.com")));
+            this.checkEquals(-1, dictionary.id(URI.create("http://example.org")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testToString() throws IOException {
+        final Path file = Files.createTempFile("URIDictionaryTest", ".bin");
+        try {
+            final URIDictionaryBuilder builder = URIDictionary.builder();
+            builder.add(URI.create("http://example.com"));
+            builder.writeTo(file);
+
+            this.checkEquals("1 URIs", URIDictionary.open(file).toString());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<URIDictionary> type() {
+        return URIDictionary.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class URIFingerprintTest implements ClassTesting<URIFingerprint> {
+
+    // xxHash64.........................................................................................................
+
+    @Test
+    public void testXxHash64Empty() {
+        this.xxHash64AndCheck("", 0xEF46DB3751D8E999L);
+    }
+
+    @Test
+    public void testXxHash64OneByte() {
+        this.xxHash64AndCheck("a", 0xD24EC4F1A98C6E5BL);
+    }
+
+    @Test
+    public void testXxHash64ThreeBytes() {
+        this.xxHash64AndCheck("abc", 0x44BC2CF5AD770999L);
+    }
+
+    @Test
+    public void testXxHash64SeveralStripes() {
+        this.xxHash64AndCheck("Nobody inspects the spammish repetition", 0xFBCEA83C8A378BF1L);
+    }
+
+    @Test
+    public void testXxHash64Utf8() {
+        final String text = "é€😀\ud800x";
+        this.checkEquals(this.reference("é€😀?x"), URIFingerprint.xxHash64(text));
+    }
+
+    @Test
+    public void testXxHash64EveryLength() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            final String text = b.toString();
+            this.checkEquals(this.reference(text), URIFingerprint.xxHash64(text), () -> "length " + text.length());
+            b.append((char) ('a' + i % 26));
+        }
+    }
+
+    private void xxHash64AndCheck(final String text,
+                                  final long expected) {
+        this.checkEquals(expected, URIFingerprint.xxHash64(text), () -> text);
+        this.checkEquals(expected, this.reference(text), () -> "reference " + text);
+    }
+
+    /**
+     * A plain xxHash64 over a byte array.
+     */
+    private long reference(final String text) {
+        final byte[] bytes = text.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        final long prime1 = 0x9E3779B185EBCA87L;
+        final long prime2 = 0xC2B2AE3D27D4EB4FL;
+        final long prime3 = 0x165667B19E3779F9L;
+        final long prime4 = 0x85EBCA77C2B2AE63L;
+        final long prime5 = 0x27D4EB2F165667C5L;
+        final int length = bytes.length;
+        int i = 0;
+        long hash;
+
+        if (length >= 32) {
+            long v1 = prime1 + prime2;
+            long v2 = prime2;
+            long v3 = 0;
+            long v4 = -prime1;
+            for (; i + 32 <= length; i += 32) {
+                v1 = Long.rotateLeft(v1 + readLong(bytes, i) * prime2, 31) * prime1;
+                v2 = Long.rotateLeft(v2 + readLong(bytes, i + 8) * prime2, 31) * prime1;
+                v3 = Long.rotateLeft(v3 + readLong(bytes, i + 16) * prime2, 31) * prime1;
+                v4 = Long.rotateLeft(v4 + readLong(bytes, i + 24) * prime2, 31) * prime1;
+            }
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            for (final long v : new long[]{v1, v2, v3, v4}) {
+                hash = (hash ^ Long.rotateLeft(v * prime2, 31) * prime1) * prime1 + prime4;
+            }
+        } else {
+            hash = prime5;
+        }
+        hash += length;
+
+        for (; i + 8 <= length; i += 8) {
+            hash ^= Long.rotateLeft(readLong(bytes, i) * prime2, 31) * prime1;
+            hash = Long.rotateLeft(hash, 27) * prime1 + prime4;
+        }
+        if (i + 4 <= length) {
+            hash ^= (readLong(bytes, i) & 0xffffffffL) * prime1;
+            hash = Long.rotateLeft(hash, 23) * prime2 + prime3;
+            i += 4;
+        }
+        for (; i < length; i++) {
+            hash ^= (bytes[i] & 0xff) * prime5;
+            hash = Long.rotateLeft(hash, 11) * prime1;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= prime2;
+        hash ^= hash >>> 29;
+        hash *= prime3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    private static long readLong(final byte[] bytes,
+                                 final int offset) {
+        long value = 0;
+        for (int i = Math.min(7, bytes.length - offset - 1); i >= 0; i--) {
+            value = value << 8 | (bytes[offset + i] & 0xff);
+        }
+        return value;
+    }
+
+    // fingerprint......................................................................................................
+
+    @Test
+    public void testFingerprintIsHashOfCanonicalForm() {
+        this.fingerprintAndCheck("HTTP://User%2fx@EXAMPLE.com:8080/a%2Fb/é?Q=%AB#F%cD",
+                "http://User%2fx@example.com:8080/a%2fb/é?Q=%ab#F%cd");
+    }
+
+    @Test
+    public void testFingerprintOpaque() {
+        this.fingerprintAndCheck("MAILTO:A%2F@B.com", "mailto:A%2f@B.com");
+    }
+
+    @Test
+    public void testFingerprintRegistryAuthority() {
+        this.fingerprintAndCheck("//Reg_%4Futh/p", "//Reg_%4futh/p");
+    }
+
+    @Test
+    public void testFingerprintRelative() {
+        this.fingerprintAndCheck("a/b?q#f", "a/b?q#f");
+    }
+
+    @Test
+    public void testFingerprintLong() {
+        this.fingerprintAndCheck("http://example.com/0123456789/0123456789/0123456789/0123456789",
+                "http://example.com/0123456789/0123456789/0123456789/0123456789");
+    }
+
+    @Test
+    public void testFingerprintStable() {
+        this.checkEquals(0x0A9E8C9510E27C29L, URIFingerprint.fingerprint(URI.create("http://example.com")));
+    }
+
+    @Test
+    public void testFingerprintEqualUris() {
+        final URI uri = URI.create("http://user@example.com:80/a%2fb?q=%3d#%aa");
+        final URI other = URI.create("HTTP://user@EXAMPLE.COM:80/a%2Fb?q=%3D#%AA");
+        this.checkEquals(uri, other);
+        this.checkEquals(URIFingerprint.fingerprint(uri), URIFingerprint.fingerprint(other));
+    }
+
+    @Test
+    public void testFingerprintDifferentUris() {
+        final String[] uris = {
+                "http://example.com/a",
+                "http://example.com/A",
+                "https://example.com/a",
+                "http://example.com:81/a",
+                "http://user@example.com/a",
+                "http://example.com/a?",
+                "http://example.com/a#",
+                "http://example.com/a%2fb",
+                "http://example.com/a/b",
+        };
+        for (int i = 0; i < uris.length; i++) {
+            for (int j = i + 1; j < uris.length; j++) {
+                this.checkNotEquals(URIFingerprint.fingerprint(URI.create(uris[i])),
+                        URIFingerprint.fingerprint(URI.create(uris[j])));
+            }
+        }
+    }
+
+    private void fingerprintAndCheck(final String uri,
+                                     final String canonical) {
+        this.checkEquals(this.reference(canonical),
+                URIFingerprint.fingerprint(URI.create(uri)),
+                () -> uri);
+    }
+
+    // hostFingerprint..................................................................................................
+
+    @Test
+    public void testHostFingerprint() {
+        this.checkEquals(this.reference("example.com"),
+                URIFingerprint.hostFingerprint(URI.create("http://user@EXAMPLE.com:8080/a?q#f")));
+    }
+
+    @Test
+    public void testHostFingerprintSameHost() {
+        this.checkEquals(URIFingerprint.hostFingerprint(URI.create("http://example.com/a")),
+                URIFingerprint.hostFingerprint(URI.create("https://Example.COM:443/b")));
+    }
+
+    @Test
+    public void testHostFingerprintRegistryAuthority() {
+        this.checkEquals(this.reference("reg_%4futh"),
+                URIFingerprint.hostFingerprint(URI.create("//reg_%4Futh/p")));
+    }
+
+    @Test
+    public void testHostFingerprintWithoutHost() {
+        this.checkEquals(this.reference(""), URIFingerprint.hostFingerprint(URI.create("mailto:a@example.com")));
+        this.checkEquals(this.reference(""), URIFingerprint.hostFingerprint(URI.create("/path")));
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<URIFingerprint> type() {
+        return URIFingerprint.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class URIMapTest implements ClassTesting<URIMap<?>> {
+
+    @Test
+    public void testPutNullKeyFails() {
+        assertThrows(NullPointerException.class, () -> new URIMap<String>().put(null, "value"));
+    }
+
+    @Test
+    public void testPutGet() {
+        final URIMap<String> map = new URIMap<>();
+        final URI uri = URI.create("http://example.com/a");
+
+        this.checkEquals(null, map.put(uri, "1"));
+        this.checkEquals("1", map.put(URI.create("HTTP://EXAMPLE.COM/a"), "2"));
+        this.checkEquals(1, map.size());
+        this.checkEquals("2", map.get(uri));
+        this.checkEquals(null, map.get(URI.create("http://example.com/b")));
+        this.checkEquals(null, map.get("http://example.com/a"));
+    }
+
+    @Test
+    public void testPutUnpairedSurrogateFails() {
+        final URIMap<String> map = new URIMap<>();
+        map.put(URI.create("http://example.com/a?"), "1");
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(URI.create("http://example.com/a\ud800"), "2"));
+        this.checkEquals(null, map.get(URI.create("http://example.com/a\ud800")));
+        this.checkEquals("1", map.get(URI.create("http://example.com/a?")));
+    }
+
+    @Test
+    public void testNullValue() {
+        final URIMap<String> map = new URIMap<>();
+        final URI uri = URI.create("http://example.com/a");
+        map.put(uri, null);
+
+        this.checkEquals(true, map.containsKey(uri));
+        this.checkEquals(null, map.get(uri));
+        this.checkEquals(false, map.containsKey(URI.create("http://example.com/b")));
+        this.checkEquals(false, map.containsKey(null));
+    }
+
+    @Test
+    public void testEntrySet() {
+        final URIMap<Integer> map = new URIMap<>();
+        map.put(URI.create("http://example.com/a"), 1);
+        map.put(URI.create("http://EXAMPLE.com/b"), 2);
+
+        final Map<URI, Integer> expected = new HashMap<>();
+        expected.put(URI.create("http://example.com/a"), 1);
+        expected.put(URI.create("http://example.com/b"), 2);
+
+        this.checkEquals(expected, new HashMap<>(map));
+        this.checkEquals(expected, map);
+        this.checkEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testEntrySetValue() {
+        final URIMap<Integer> map = new URIMap<>();
+        map.put(URI.create("http://example.com/a"), 1);
+
+        for (final Map.Entry<URI, Integer> entry : map.entrySet()) {
+            this.checkEquals(1, entry.setValue(2));
+            this.checkEquals(2, entry.getValue());
+        }
+        this.checkEquals(2, map.get(URI.create("http://example.com/a")));
+    }
+
+    @Test
+    public void testRemoveFails() {
+        final URIMap<Integer> map = new URIMap<>();
+        map.put(URI.create("http://example.com/a"), 1);
+
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(URI.create("http://example.com/a")));
+    }
+
+    @Test
+    public void testMany() {
+        final URIMap<Integer> map = new URIMap<>(10);
+        for (int i = 0; i < 20000; i++) {
+            map.put(URI.create("http://example.com/" + i), i);
+        }
+
+        this.checkEquals(20000, map.size());
+        for (int i = 0; i < 20000; i++) {
+            this.checkEquals(i, map.get(URI.create("http://example.com/" + i)));
+        }
+        int count = 0;
+        for (final Map.Entry<URI, Integer> entry : map.entrySet()) {
+            this.checkEquals("http://example.com/" + entry.getValue(), entry.getKey().toString());
+            count++;
+        }
+        this.checkEquals(20000, count);
+    }
+
+    @Test
+    public void testClear() {
+        final URIMap<Integer> map = new URIMap<>();
+        map.put(URI.create("http://example.com/a"), 1);
+        map.clear();
+
+        this.checkEquals(0, map.size());
+        this.checkEquals(null, map.get(URI.create("http://example.com/a")));
+    }
+
+    @Test
+    public void testToString() {
+        final URIMap<Integer> map = new URIMap<>();
+        map.put(URI.create("HTTP://example.com/a"), 1);
+
+        this.checkEquals("{http://example.com/a=1}", map.toString());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public Class<URIMap<?>> type() {
+        return (Class) URIMap.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
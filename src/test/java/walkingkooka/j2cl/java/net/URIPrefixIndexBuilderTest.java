@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class URIPrefixIndexBuilderTest implements ClassTesting<URIPrefixIndexBuilder<?>> {
+
+    // add..............................................................................................................
+
+    @Test
+    public void testAddNullValueFails() {
+        assertThrows(NullPointerException.class, () -> URIPrefixIndex.builder().add("http", "example.com", "/", null));
+    }
+
+    @Test
+    public void testAddMissingSchemeFails() {
+        this.addFails(null, "example.com");
+        this.addFails("", "example.com");
+    }
+
+    @Test
+    public void testAddMissingHostFails() {
+        this.addFails("http", null);
+        this.addFails("http", "");
+        this.addFails(URI.create("file:///etc"));
+    }
+
+    @Test
+    public void testAddInvalidHostFails() {
+        this.addFails("http", "*.");
+        this.addFails("http", ".example.com");
+        this.addFails("http", "example.com.");
+        this.addFails("http", "example..com");
+        this.addFails("http", "*.*.com");
+        this.addFails("http", "ex*ample.com");
+    }
+
+    @Test
+    public void testAddDuplicateFails() {
+        final URIPrefixIndexBuilder<String> builder = URIPrefixIndex.<String>builder()
+                .add("http", "example.com", "/api", "1");
+        assertThrows(IllegalArgumentException.class, () -> builder.add("HTTP", "EXAMPLE.com", "/api/", "2"));
+    }
+
+    private void addFails(final String scheme,
+                          final String host) {
+        assertThrows(IllegalArgumentException.class,
+                () -> URIPrefixIndex.builder().add(scheme, host, "/", "value"),
+                scheme + " " + host);
+    }
+
+    private void addFails(final URI uri) {
+        assertThrows(IllegalArgumentException.class, () -> URIPrefixIndex.builder().add(uri, "value"));
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public Class<URIPrefixIndexBuilder<?>> type() {
+        return (Class) URIPrefixIndexBuilder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class URIPrefixIndexTest implements ClassTesting<URIPrefixIndex<?>> {
+
+    // build............................................................................................................
+
+    @Test
+    public void testBuildEmpty() {
+        final URIPrefixIndex<String> index = URIPrefixIndex.<String>builder().build();
+        this.checkEquals(0, index.size());
+        this.matchAndCheck(index, "http://example.com/");
+    }
+
+    @Test
+    public void testBuildTwice() {
+        final URIPrefixIndexBuilder<String> builder = URIPrefixIndex.<String>builder()
+                .add("http", "example.com", "/a", "a");
+        final URIPrefixIndex<String> first = builder.build();
+        builder.add("http", "example.com", "/b", "b");
+        final URIPrefixIndex<String> second = builder.build();
+
+        this.checkEquals(1, first.size());
+        this.checkEquals(2, second.size());
+        this.matchAndCheck(first, "http://example.com/b");
+        this.matchAndCheck(second, "http://example.com/b", "b");
+    }
+
+    // match............................................................................................................
+
+    @Test
+    public void testHostOnly() {
+        this.matchAndCheck(this.index(), "http://example.com", "host");
+        this.matchAndCheck(this.index(), "http://example.com/other/path?q#f", "host");
+    }
+
+    @Test
+    public void testPathPrefix() {
+        this.matchAndCheck(this.index(), "http://example.com/api", "host", "api");
+        this.matchAndCheck(this.index(), "http://example.com/api/", "host", "api");
+        this.matchAndCheck(this.index(), "http://example.com/api/users/1", "host", "api", "users");
+    }
+
+    @Test
+    public void testPathPrefixWholeSegments() {
+        this.matchAndCheck(this.index(), "http://example.com/apis", "host");
+        this.matchAndCheck(this.index(), "http://example.com/api/user", "host", "api");
+    }
+
+    @Test
+    public void testPathMatrixParametersIgnored() {
+        this.matchAndCheck(this.index(), "http://example.com/api;v=1/users;x/2", "host", "api", "users");
+    }
+
+    @Test
+    public void testPathCaseSensitive() {
+        this.matchAndCheck(this.index(), "http://example.com/API", "host");
+    }
+
+    @Test
+    public void testPathEscapeHexCaseInsensitive() {
+        this.matchAndCheck(this.index(), "http://example.com/a%2fb", "host", "escaped");
+        this.matchAndCheck(this.index(), "http://example.com/a%2Fb", "host", "escaped");
+        this.matchAndCheck(this.index(), "http://example.com/A%2Fb", "host");
+    }
+
+    @Test
+    public void testSchemeAndHostCaseInsensitive() {
+        this.matchAndCheck(this.index(), "HTTP://EXAMPLE.COM/api", "host", "api");
+    }
+
+    @Test
+    public void testOtherScheme() {
+        this.matchAndCheck(this.index(), "ftp://example.com/api");
+    }
+
+    @Test
+    public void testOtherHost() {
+        this.matchAndCheck(this.index(), "http://example.org/api");
+        this.matchAndCheck(this.index(), "http://xexample.com/api");
+        this.matchAndCheck(this.index(), "http://com/api");
+    }
+
+    @Test
+    public void testWildcardHost() {
+        this.matchAndCheck(this.index(), "http://www.example.com/", "subdomains");
+        this.matchAndCheck(this.index(), "http://a.b.example.com/admin/x", "subdomains", "admin");
+    }
+
+    @Test
+    public void testExactHostMoreSpecificThanWildcard() {
+        this.matchAndCheck(this.index(), "http://api.example.com/admin/x", "subdomains", "admin", "api host");
+    }
+
+    @Test
+    public void testDeeperWildcardMoreSpecific() {
+        this.matchAndCheck(this.index(), "http://a.internal.example.com/", "subdomains", "internal");
+    }
+
+    @Test
+    public void testNoHost() {
+        this.matchAndCheck(this.index(), "mailto:a@example.com");
+        this.matchAndCheck(this.index(), "/relative/path");
+    }
+
+    @Test
+    public void testTrailingDotHost() {
+        this.matchAndCheck(this.index(), "http://example.com./");
+    }
+
+    @Test
+    public void testUrl() throws MalformedURLException {
+        final URIPrefixIndex<String> index = this.index();
+        final URL url = new URL("HTTP://API.example.com/admin/x?q=1");
+        this.checkEquals("api host", index.longestPrefix(url));
+        this.checkEquals(Arrays.asList("subdomains", "admin", "api host"), index.prefixes(url));
+    }
+
+    @Test
+    public void testManyRules() {
+        final URIPrefixIndexBuilder<Integer> builder = URIPrefixIndex.builder();
+        for (int i = 0; i < 5000; i++) {
+            builder.add("https", "host" + (i % 50) + ".example.com", "/p" + i + "/q", i);
+        }
+        final URIPrefixIndex<Integer> index = builder.build();
+        this.checkEquals(5000, index.size());
+
+        for (int i = 0; i < 5000; i++) {
+            this.checkEquals(i, index.longestPrefix(URI.create("https://HOST" + (i % 50) + ".example.com/p" + i + "/q/r")));
+            this.checkEquals(null, index.longestPrefix(URI.create("https://host" + (i % 50 + 1) + ".example.com/p" + i + "/q")));
+        }
+    }
+
+    private URIPrefixIndex<String> index() {
+        return URIPrefixIndex.<String>builder()
+                .add("http", "example.com", null, "host")
+                .add("http", "example.com", "/api/", "api")
+                .add("http", "Example.com", "/api/users", "users")
+                .add("http", "example.com", "/a%2Fb", "escaped")
+                .add("http", "*.example.com", "", "subdomains")
+                .add("http", "*.example.com", "/admin", "admin")
+                .add(URI.create("http://api.EXAMPLE.com/admin"), "api host")
+                .add("http", "*.internal.example.com", "/", "internal")
+                .build();
+    }
+
+    private void matchAndCheck(final URIPrefixIndex<String> index,
+                               final String uri,
+                               final String... expected) {
+        final URI parsed = URI.create(uri);
+        this.checkEquals(0 == expected.length ? null : expected[expected.length - 1],
+                index.longestPrefix(parsed),
+                () -> "longestPrefix " + uri);
+
+        final List<String> prefixes = index.prefixes(parsed);
+        this.checkEquals(Arrays.asList(expected), prefixes, () -> "prefixes " + uri);
+        if (0 == expected.length) {
+            this.checkEquals(Collections.emptyList(), prefixes);
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public Class<URIPrefixIndex<?>> type() {
+        return (Class) URIPrefixIndex.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class URIRelativizerTest implements ClassTesting<URIRelativizer> {
+
+    @Test
+    public void testSibling() {
+        this.relativizeAndCheck("http://example.com/a/b/c", "http://example.com/a/b/d", "d");
+    }
+
+    @Test
+    public void testChild() {
+        this.relativizeAndCheck("http://example.com/a/", "http://example.com/a/b/c", "b/c");
+    }
+
+    @Test
+    public void testParentDirectory() {
+        this.relativizeAndCheck("http://example.com/a/b/c", "http://example.com/a/x/", "../x/");
+    }
+
+    @Test
+    public void testSeveralParentDirectories() {
+        this.relativizeAndCheck("http://example.com/a/b/c/d", "http://example.com/x", "../../../x");
+    }
+
+    @Test
+    public void testQueryAndFragmentKept() {
+        this.relativizeAndCheck("http://example.com/a/x/", "http://example.com/a/b/c?q=1#f", "../b/c?q=1#f");
+    }
+
+    @Test
+    public void testSameDirectory() {
+        this.relativizeAndCheck("http://example.com/a/b", "http://example.com/a/", "./");
+    }
+
+    @Test
+    public void testSameDirectoryWithQuery() {
+        this.relativizeAndCheck("http://example.com/a/b", "http://example.com/a/?q", "?q");
+    }
+
+    @Test
+    public void testColonInFirstSegment() {
+        this.relativizeAndCheck("http://example.com/a/b", "http://example.com/a/x:y", "./x:y");
+    }
+
+    @Test
+    public void testDotSegmentsNormalized() {
+        this.relativizeAndCheck("http://example.com/a/./b/../c", "http://example.com/a/x/../y", "y");
+    }
+
+    @Test
+    public void testHostCaseInsensitive() {
+        this.relativizeAndCheck("http://EXAMPLE.com/a/b", "http://example.com/c", "../c");
+    }
+
+    @Test
+    public void testDifferentSchemeUnchanged() {
+        this.relativizeUnchanged("http://example.com/a/b", "https://example.com/a/c");
+    }
+
+    @Test
+    public void testDifferentHostUnchanged() {
+        this.relativizeUnchanged("http://example.com/a/b", "http://example.org/a/c");
+    }
+
+    @Test
+    public void testDifferentPortUnchanged() {
+        this.relativizeUnchanged("http://example.com:80/a/b", "http://example.com:81/a/c");
+    }
+
+    @Test
+    public void testOpaqueUnchanged() {
+        this.relativizeUnchanged("mailto:a@example.com", "mailto:b@example.com");
+    }
+
+    @Test
+    public void testAboveRootUnchanged() {
+        this.relativizeUnchanged("http://example.com/../a/b", "http://example.com/c");
+    }
+
+    @Test
+    public void testRelativeTargetPathAbsoluteBaseUnchanged() {
+        this.relativizeUnchanged("/b/a/%41/%41/", "%41/a;p=1/");
+    }
+
+    @Test
+    public void testSameEmptyPath() {
+        this.relativizeAndCheck("http://example.com", "http://example.com", "");
+    }
+
+    private void relativizeAndCheck(final String base,
+                                    final String target,
+                                    final String expected) {
+        final URI baseUri = URI.create(base);
+        final URI targetUri = URI.create(target);
+        final URI relative = URIRelativizer.relativize(baseUri, targetUri);
+
+        this.checkEquals(expected,
+                relative.toString(),
+                () -> "relativize " + base + " " + target);
+        this.checkEquals(targetUri.normalize(),
+                baseUri.resolve(relative),
+                () -> "resolve " + base + " " + relative);
+        this.checkEquals(java.net.URI.create(target).normalize(),
+                java.net.URI.create(base).resolve(java.net.URI.create(expected)),
+                () -> "jre resolve " + base + " " + expected);
+    }
+
+    private void relativizeUnchanged(final String base,
+                                     final String target) {
+        final URI targetUri = URI.create(target);
+        assertSame(targetUri, URIRelativizer.relativize(URI.create(base), targetUri));
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<URIRelativizer> type() {
+        return URIRelativizer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class URISetTest implements ClassTesting<URISet> {
+
+    @Test
+    public void testNegativeExpectedSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> new URISet(-1));
+    }
+
+    @Test
+    public void testAddNullFails() {
+        assertThrows(NullPointerException.class, () -> new URISet().add(null));
+    }
+
+    @Test
+    public void testEmpty() {
+        final URISet set = new URISet();
+        this.checkEquals(0, set.size());
+        this.checkEquals(false, set.contains(URI.create("http://example.com")));
+        this.checkEquals(false, set.iterator().hasNext());
+    }
+
+    @Test
+    public void testAdd() {
+        final URISet set = new URISet();
+        final URI uri = URI.create("http://example.com/a?b#c");
+
+        this.checkEquals(true, set.add(uri));
+        this.checkEquals(false, set.add(uri));
+        this.checkEquals(1, set.size());
+        this.checkEquals(true, set.contains(uri));
+        this.checkEquals(false, set.contains(URI.create("http://example.com/a?b")));
+    }
+
+    @Test
+    public void testAddEqualUri() {
+        final URISet set = new URISet();
+        set.add(URI.create("http://user@example.com:80/a%2fb"));
+
+        this.checkEquals(false, set.add(URI.create("HTTP://user@EXAMPLE.com:80/a%2Fb")));
+        this.checkEquals(true, set.contains(URI.create("http://user@Example.COM:80/a%2Fb")));
+        this.checkEquals(false, set.contains(URI.create("http://USER@example.com:80/a%2fb")));
+    }
+
+    @Test
+    public void testAddUnpairedSurrogateFails() {
+        final URISet set = new URISet();
+        assertThrows(IllegalArgumentException.class, () -> set.add(URI.create("http://example.com/a\ud800")));
+        this.checkEquals(0, set.size());
+    }
+
+    @Test
+    public void testContainsUnpairedSurrogate() {
+        final URISet set = new URISet();
+        set.add(URI.create("http://example.com/a?"));
+
+        this.checkEquals(false, set.contains(URI.create("http://example.com/a\ud800")));
+        this.checkEquals(true, set.contains(URI.create("http://example.com/a?")));
+    }
+
+    @Test
+    public void testContainsNotUri() {
+        final URISet set = new URISet();
+        set.add(URI.create("http://example.com"));
+
+        this.checkEquals(false, set.contains("http://example.com"));
+        this.checkEquals(false, set.contains(null));
+    }
+
+    @Test
+    public void testIterator() {
+        final URISet set = new URISet();
+        set.add(URI.create("HTTP://EXAMPLE.com/a%2F"));
+        set.add(URI.create("mailto:a@example.com"));
+        set.add(URI.create("relative/é?q"));
+
+        this.checkEquals(new HashSet<>(Arrays.asList(
+                        URI.create("http://example.com/a%2f"),
+                        URI.create("mailto:a@example.com"),
+                        URI.create("relative/é?q"))),
+                new HashSet<>(set));
+
+        final Set<String> strings = new HashSet<>();
+        for (final URI uri : set) {
+            strings.add(uri.toString());
+        }
+        this.checkEquals(new HashSet<>(Arrays.asList("http://example.com/a%2f", "mailto:a@example.com", "relative/é?q")),
+                strings);
+    }
+
+    @Test
+    public void testIteratorExhaustedFails() {
+        final Iterator<URI> iterator = new URISet().iterator();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testIteratorRemoveFails() {
+        final URISet set = new URISet();
+        set.add(URI.create("http://example.com"));
+        final Iterator<URI> iterator = set.iterator();
+        iterator.next();
+
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    public void testMany() {
+        final URISet set = new URISet();
+        final Set<URI> expected = new HashSet<>();
+        for (int i = 0; i < 20000; i++) {
+            final URI uri = URI.create("http://host" + (i % 100) + ".example.com/path/" + i + "?q=" + (i * 31));
+            this.checkEquals(true, set.add(uri));
+            expected.add(uri);
+        }
+
+        this.checkEquals(20000, set.size());
+        for (final URI uri : expected) {
+            this.checkEquals(true, set.contains(uri));
+        }
+        this.checkEquals(false, set.contains(URI.create("http://host1.example.com/path/2")));
+        this.checkEquals(expected, new HashSet<>(set));
+        this.checkEquals(expected, set);
+    }
+
+    @Test
+    public void testClear() {
+        final URISet set = new URISet();
+        set.add(URI.create("http://example.com/a"));
+        set.clear();
+
+        this.checkEquals(0, set.size());
+        this.checkEquals(false, set.contains(URI.create("http://example.com/a")));
+        this.checkEquals(true, set.add(URI.create("http://example.com/a")));
+    }
+
+    @Test
+    public void testEqualsHashSet() {
+        final URISet set = new URISet();
+        set.add(URI.create("http://example.com/a"));
+        set.add(URI.create("http://example.com/b"));
+
+        this.checkEquals(new HashSet<>(Arrays.asList(URI.create("http://example.com/a"), URI.create("http://example.com/b"))), set);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<URISet> type() {
+        return URISet.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
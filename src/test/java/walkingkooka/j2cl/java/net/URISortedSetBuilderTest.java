@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class URISortedSetBuilderTest implements ClassTesting<URISortedSetBuilder> {
+
+    @Test
+    public void testAddNullFails() {
+        assertThrows(NullPointerException.class, () -> URISortedSet.builder().add(null));
+    }
+
+    @Test
+    public void testAddOutOfOrderFails() {
+        final URISortedSetBuilder builder = URISortedSet.builder()
+                .add(URI.create("http://example.com/b"));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(URI.create("http://example.com/a")));
+    }
+
+    @Test
+    public void testAddUnpairedSurrogateFails() {
+        final URISortedSetBuilder builder = URISortedSet.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.add(URI.create("http://example.com/a\udc00")));
+    }
+
+    @Test
+    public void testAddDuplicateFails() {
+        final URISortedSetBuilder builder = URISortedSet.builder()
+                .add(URI.create("http://example.com/a"));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(URI.create("HTTP://example.com/a")));
+    }
+
+    @Test
+    public void testFrontCoding() {
+        final URISortedSet set = URISortedSet.builder()
+                .add(URI.create("http://example.com/a"))
+                .add(URI.create("http://example.com/ab"))
+                .build();
+
+        // head: length 20 and its bytes, then 20 shared, 1 more and "b"
+        this.checkEquals(1 + 20 + 1 + 1 + 1, set.data.length);
+        this.checkEquals(1, set.blocks.length);
+    }
+
+    @Test
+    public void testBlocks() {
+        final URISortedSetBuilder builder = URISortedSet.builder();
+        for (int i = 0; i < URISortedSet.BLOCK_SIZE * 2 + 1; i++) {
+            builder.add(URI.create("http://example.com/" + (100 + i)));
+        }
+        final URISortedSet set = builder.build();
+        this.checkEquals(3, set.blocks.length);
+        this.checkEquals(URISortedSet.BLOCK_SIZE * 2 + 1, set.size());
+    }
+
+    @Test
+    public void testBuildTwice() {
+        final URISortedSetBuilder builder = URISortedSet.builder()
+                .add(URI.create("http://example.com/a"));
+        final URISortedSet first = builder.build();
+        builder.add(URI.create("http://example.com/b"));
+
+        this.checkEquals(1, first.size());
+        this.checkEquals(2, builder.build().size());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<URISortedSetBuilder> type() {
+        return URISortedSetBuilder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
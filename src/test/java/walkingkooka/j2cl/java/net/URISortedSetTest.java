@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class URISortedSetTest implements ClassTesting<URISortedSet> {
+
+    @Test
+    public void testEmpty() {
+        final URISortedSet set = URISortedSet.builder().build();
+        this.checkEquals(0, set.size());
+        this.checkEquals(false, set.contains(URI.create("http://example.com")));
+        this.checkEquals(0, set.rank(URI.create("http://example.com")));
+        this.checkEquals(false, set.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> set.iterator().next());
+    }
+
+    @Test
+    public void testCopyOfSortsAndRemovesDuplicates() {
+        final URISortedSet set = URISortedSet.copyOf(
+                Arrays.asList(
+                        URI.create("http://example.com/b"),
+                        URI.create("http://example.com/a"),
+                        URI.create("HTTP://EXAMPLE.com/b"),
+                        URI.create("/relative")
+                )
+        );
+        this.checkEquals(
+                Arrays.asList(
+                        URI.create("/relative"),
+                        URI.create("http://example.com/a"),
+                        URI.create("http://example.com/b")
+                ),
+                list(set.iterator())
+        );
+    }
+
+    @Test
+    public void testContainsNullFails() {
+        assertThrows(NullPointerException.class, () -> URISortedSet.builder().build().contains(null));
+    }
+
+    @Test
+    public void testContainsRankGet() {
+        final List<URI> uris = uris(100);
+        final URISortedSet set = URISortedSet.copyOf(uris);
+        Collections.sort(uris);
+
+        this.checkEquals(uris.size(), set.size());
+        for (int i = 0; i < uris.size(); i++) {
+            final URI uri = uris.get(i);
+            final int index = i;
+            this.checkEquals(true, set.contains(uri), () -> "contains " + uri);
+            this.checkEquals(index, set.rank(uri), () -> "rank " + uri);
+            this.checkEquals(uri, set.get(index), () -> "get " + index);
+        }
+    }
+
+    @Test
+    public void testContainsCompareToEqual() {
+        final URISortedSet set = URISortedSet.copyOf(uris(40));
+        this.checkEquals(true, set.contains(URI.create("HTTPS://Host0.example.com/docs/page7")));
+    }
+
+    @Test
+    public void testContainsMissing() {
+        final List<URI> uris = uris(40);
+        final URISortedSet set = URISortedSet.copyOf(uris);
+
+        for (final String missing : new String[]{
+                "/",
+                "http://aaa.example.com/",
+                "https://host1.example.com/docs/page",
+                "https://host1.example.com/docs/page1?q",
+                "https://host1.example.com/docs/page7#f",
+                "zzz://example.com",
+        }) {
+            final URI uri = URI.create(missing);
+            this.checkEquals(false, set.contains(uri), () -> missing);
+
+            final List<URI> less = new ArrayList<>();
+            for (final URI u : uris) {
+                if (u.compareTo(uri) < 0) {
+                    less.add(u);
+                }
+            }
+            this.checkEquals(less.size(), set.rank(uri), () -> "rank " + missing);
+        }
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        final URISortedSet set = URISortedSet.copyOf(uris(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(3));
+    }
+
+    @Test
+    public void testIterator() {
+        final List<URI> uris = uris(100);
+        final URISortedSet set = URISortedSet.copyOf(uris);
+        Collections.sort(uris);
+
+        this.checkEquals(uris, list(set.iterator()));
+    }
+
+    @Test
+    public void testPrefixRange() {
+        final URISortedSet set = URISortedSet.copyOf(
+                Arrays.asList(
+                        URI.create("http://example.com/a"),
+                        URI.create("http://example.com/a/b"),
+                        URI.create("http://example.com/a/b?q"),
+                        URI.create("http://example.com/a/c#f"),
+                        URI.create("http://example.com/b"),
+                        URI.create("http://example.com-x/a/b"),
+                        URI.create("http://example.com:81/a/b"),
+                        URI.create("http://user@example.com/a/b"),
+                        URI.create("https://example.com/a/b")
+                )
+        );
+
+        this.checkEquals(
+                Arrays.asList(
+                        URI.create("http://example.com/a/b"),
+                        URI.create("http://example.com/a/b?q"),
+                        URI.create("http://example.com/a/c#f")
+                ),
+                list(set.prefixRange(URI.create("HTTP://EXAMPLE.COM/a/")))
+        );
+    }
+
+    @Test
+    public void testPrefixRangeAcrossBlocks() {
+        final URISortedSetBuilder builder = URISortedSet.builder();
+        builder.add(URI.create("http://example.com/a"));
+        for (int i = 100; i < 150; i++) {
+            builder.add(URI.create("http://example.com/b/" + i));
+        }
+        builder.add(URI.create("http://example.com/c"));
+
+        this.checkEquals(50, list(builder.build().prefixRange(URI.create("http://example.com/b/"))).size());
+    }
+
+    @Test
+    public void testPrefixRangeNone() {
+        final URISortedSet set = URISortedSet.copyOf(uris(20));
+        this.checkEquals(false, set.prefixRange(URI.create("http://zzz.example.com/")).hasNext());
+    }
+
+    @Test
+    public void testPrefixRangeWithQueryFails() {
+        final URISortedSet set = URISortedSet.builder().build();
+        assertThrows(IllegalArgumentException.class, () -> set.prefixRange(URI.create("http://example.com/?q")));
+        assertThrows(IllegalArgumentException.class, () -> set.prefixRange(URI.create("http://example.com/#f")));
+        assertThrows(IllegalArgumentException.class, () -> set.prefixRange(URI.create("mailto:me@example.com")));
+    }
+
+    @Test
+    public void testBytesSmallerThanStrings() {
+        final List<URI> uris = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            uris.add(URI.create("https://www.example.com/products/category" + (i / 100) + "/item-" + i + ".html"));
+        }
+        final URISortedSet set = URISortedSet.copyOf(uris);
+
+        long total = 0;
+        for (final URI uri : uris) {
+            total += uri.toString().length();
+        }
+        final long chars = total;
+        final long bytes = set.bytes();
+        this.checkEquals(true, bytes * 3 < chars, () -> bytes + " bytes for " + chars + " chars");
+    }
+
+    @Test
+    public void testNonAscii() {
+        final URI uri = URI.create("http://example.com/café");
+        final URISortedSet set = URISortedSet.copyOf(
+                Arrays.asList(
+                        URI.create("http://example.com/caf"),
+                        uri
+                )
+        );
+        this.checkEquals(true, set.contains(uri));
+        this.checkEquals(uri, set.get(1));
+    }
+
+    @Test
+    public void testToString() {
+        final URISortedSet set = URISortedSet.copyOf(Arrays.asList(URI.create("http://example.com")));
+        this.checkEquals("1 URIs, " + set.bytes() + " bytes", set.toString());
+    }
+
+    private static List<URI> uris(final int count) {
+        final List<URI> uris = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            uris.add(URI.create("https://host" + (i % 7) + ".example.com/docs/page" + i));
+        }
+        return uris;
+    }
+
+    private static List<URI> list(final Iterator<URI> iterator) {
+        final List<URI> list = new ArrayList<>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<URISortedSet> type() {
+        return URISortedSet.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -17,13 +17,52 @@
 
 package walkingkooka.j2cl.java.net;
 
+import org.junit.jupiter.api.Test;
 import walkingkooka.predicate.Predicates;
 
 import java.lang.reflect.Method;
 import java.util.function.Predicate;
 
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class URISyntaxExceptionTest extends JavaNetTestCase<URISyntaxException> {
 
+    @Test
+    public void testGetMessageWithIndex() {
+        this.checkEquals(new java.net.URISyntaxException("input123", "reason456", 7).getMessage(),
+                new URISyntaxException("input123", "reason456", 7).getMessage());
+    }
+
+    @Test
+    public void testGetMessageWithoutIndex() {
+        this.checkEquals(new java.net.URISyntaxException("input123", "reason456").getMessage(),
+                new URISyntaxException("input123", "reason456").getMessage());
+    }
+
+    @Test
+    public void testGetMessageFormattedOnce() {
+        final URISyntaxException exception = new URISyntaxException("input123", "reason456", 7);
+        assertSame(exception.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    public void testStackless() {
+        StacklessExceptions.setEnabled(true);
+        try {
+            this.checkEquals(0, new URISyntaxException("input123", "reason456", 7).getStackTrace().length);
+        } finally {
+            StacklessExceptions.setEnabled(false);
+        }
+    }
+
+    @Test
+    public void testStackTraceByDefault() {
+        assertNotEquals(0, new URISyntaxException("input123", "reason456", 7).getStackTrace().length);
+    }
+
+    // ShadedClassTesting...............................................................................................
+
     @Override
     public Class<URISyntaxException> type() {
         return URISyntaxException.class;
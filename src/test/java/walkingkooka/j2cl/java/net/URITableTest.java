@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.charset.StandardCharsets;
+
+public final class URITableTest implements ClassTesting<URITable> {
+
+    @Test
+    public void testBytes() {
+        final URITable table = new URITable(0, false);
+        table.add(URI.create("HTTP://EXAMPLE.com/é"));
+
+        // one length byte and the canonical bytes
+        this.checkEquals(1L + "http://example.com/é".getBytes(StandardCharsets.UTF_8).length, table.bytes());
+    }
+
+    @Test
+    public void testAddSameSlot() {
+        final URITable table = new URITable(0, false);
+        final int slot = table.add(URI.create("http://example.com/a"));
+
+        this.checkEquals(slot, table.add(URI.create("http://EXAMPLE.com/a")));
+        this.checkEquals(slot, table.find(URI.create("http://example.com/a")));
+        this.checkEquals(-1, table.find(URI.create("http://example.com/b")));
+        this.checkEquals(true, table.isOccupied(slot));
+    }
+
+    @Test
+    public void testLongUriLengthPrefix() {
+        final URITable table = new URITable(0, false);
+        final StringBuilder path = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            path.append("/segment").append(i);
+        }
+        final URI uri = URI.create("http://example.com" + path);
+        final int slot = table.add(uri);
+
+        this.checkEquals(uri, table.uri(slot));
+        this.checkEquals(slot, table.find(uri));
+        this.checkEquals(-1, table.find(URI.create("http://example.com" + path + "x")));
+    }
+
+    @Test
+    public void testLargerThanSlab() {
+        final URITable table = new URITable(0, false);
+        final StringBuilder path = new StringBuilder("/");
+        while (path.length() < URITable.SLAB_SIZE * 2) {
+            path.append("0123456789");
+        }
+        final URI small = URI.create("http://example.com/small");
+        final URI large = URI.create("http://example.com" + path);
+        final URI after = URI.create("http://example.com/after");
+
+        final int smallSlot = table.add(small);
+        final int largeSlot = table.add(large);
+        final int afterSlot = table.add(after);
+
+        this.checkEquals(small, table.uri(smallSlot));
+        this.checkEquals(large, table.uri(largeSlot));
+        this.checkEquals(after, table.uri(afterSlot));
+    }
+
+    @Test
+    public void testSeveralSlabs() {
+        final URITable table = new URITable(0, true);
+        final int count = URITable.SLAB_SIZE / 10;
+        for (int i = 0; i < count; i++) {
+            final int slot = table.add(URI.create("http://example.com/" + i));
+            table.setValue(slot, i);
+        }
+
+        this.checkEquals(count, table.size());
+        for (int i = 0; i < count; i++) {
+            final URI uri = URI.create("http://example.com/" + i);
+            final int slot = table.find(uri);
+            this.checkEquals(uri, table.uri(slot));
+            this.checkEquals(i, table.value(slot));
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<URITable> type() {
+        return URITable.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
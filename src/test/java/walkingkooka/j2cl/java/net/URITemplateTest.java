@@ -0,0 +1,399 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class URITemplateTest implements ClassTesting<URITemplate> {
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseNullFails() {
+        assertThrows(NullPointerException.class, () -> URITemplate.parse(null));
+    }
+
+    @Test
+    public void testParseUnclosedFails() {
+        this.parseFails("/a/{id");
+    }
+
+    @Test
+    public void testParseUnopenedFails() {
+        this.parseFails("/a/id}");
+    }
+
+    @Test
+    public void testParseEmptyExpressionFails() {
+        this.parseFails("/a/{}");
+    }
+
+    @Test
+    public void testParseOperatorOnlyFails() {
+        this.parseFails("/a/{?}");
+    }
+
+    @Test
+    public void testParseReservedOperatorFails() {
+        this.parseFails("{=a}");
+        this.parseFails("{,a}");
+        this.parseFails("{!a}");
+        this.parseFails("{@a}");
+        this.parseFails("{|a}");
+    }
+
+    @Test
+    public void testParseInvalidVariableFails() {
+        this.parseFails("{a b}");
+        this.parseFails("{a-b}");
+        this.parseFails("{.a.}");
+        this.parseFails("{a..b}");
+        this.parseFails("{a,}");
+        this.parseFails("{a{b}");
+        this.parseFails("{a%2}");
+    }
+
+    @Test
+    public void testParseInvalidModifierFails() {
+        this.parseFails("{a:}");
+        this.parseFails("{a:0}");
+        this.parseFails("{a:10000}");
+        this.parseFails("{a:1x}");
+        this.parseFails("{a**}");
+        this.parseFails("{a*:1}");
+    }
+
+    private void parseFails(final String template) {
+        assertThrows(IllegalArgumentException.class, () -> URITemplate.parse(template), template);
+    }
+
+    // expand...........................................................................................................
+
+    @Test
+    public void testExpandNullVariablesFails() {
+        assertThrows(NullPointerException.class, () -> URITemplate.parse("/a").expand(null));
+    }
+
+    @Test
+    public void testExpandLiteral() {
+        this.expandAndCheck("/a/b?c=d#e", "/a/b?c=d#e");
+    }
+
+    @Test
+    public void testExpandLiteralEscaped() {
+        this.expandAndCheck("/a b/%41/é", "/a%20b/%41/%C3%A9");
+    }
+
+    @Test
+    public void testExpandVariableNames() {
+        final Map<String, Object> variables = new HashMap<>();
+        variables.put("a.b", "1");
+        variables.put("a%20b", "2");
+        variables.put("_9", "3");
+        this.checkEquals("1,2,3", URITemplate.parse("{a.b,a%20b,_9}").expand(variables));
+    }
+
+    @Test
+    public void testExpandPrefixCodePoints() {
+        this.checkEquals("%F0%9F%98%80a",
+                URITemplate.parse("{var:2}").expand(Collections.singletonMap("var", "😀ab")));
+    }
+
+    @Test
+    public void testExpandPrefixIgnoredForList() {
+        this.expandAndCheck("{list:1}", "red,green,blue");
+    }
+
+    @Test
+    public void testExpandNullMembersSkipped() {
+        final Map<String, Object> variables = new HashMap<>();
+        variables.put("list", Arrays.asList("a", null, "b"));
+        variables.put("nulls", Arrays.asList(null, null));
+        this.checkEquals("?list=a,b", URITemplate.parse("{?list,nulls}").expand(variables));
+    }
+
+    @Test
+    public void testExpandNotString() {
+        this.checkEquals("/users/123",
+                URITemplate.parse("/users/{id}").expand(Collections.singletonMap("id", 123)));
+    }
+
+    @Test
+    public void testExpandPath() {
+        final Map<String, Object> variables = new HashMap<>();
+        variables.put("id", "a/b c");
+        variables.put("page", 2);
+        this.checkEquals("/users/a%2Fb%20c/repos?page=2",
+                URITemplate.parse("/users/{id}/repos{?page,per_page}").expand(variables));
+    }
+
+    @Test
+    public void testExpandToURI() throws Exception {
+        final URI uri = URITemplate.parse("http://example.com/users/{id}{?q}{#f}")
+                .expandToURI(Collections.singletonMap("id", "é 1"));
+        this.checkEquals("/users/%C3%A9%201", uri.getRawPath());
+        this.checkEquals("/users/é 1", uri.getPath());
+    }
+
+    @Test
+    public void testExpandToURIInvalidFails() {
+        assertThrows(URISyntaxException.class,
+                () -> URITemplate.parse("{+base}/").expandToURI(Collections.singletonMap("base", "http://[::1")));
+    }
+
+    // RFC 6570 3.2.1 Variable Expansion
+
+    @Test
+    public void testExpandVariableExpansion() {
+        this.expandAndCheck("{count}", "one,two,three");
+        this.expandAndCheck("{count*}", "one,two,three");
+        this.expandAndCheck("{/count}", "/one,two,three");
+        this.expandAndCheck("{/count*}", "/one/two/three");
+        this.expandAndCheck("{;count}", ";count=one,two,three");
+        this.expandAndCheck("{;count*}", ";count=one;count=two;count=three");
+        this.expandAndCheck("{?count}", "?count=one,two,three");
+        this.expandAndCheck("{?count*}", "?count=one&count=two&count=three");
+        this.expandAndCheck("{&count*}", "&count=one&count=two&count=three");
+    }
+
+    // RFC 6570 3.2.2 Simple String Expansion
+
+    @Test
+    public void testExpandSimpleString() {
+        this.expandAndCheck("{var}", "value");
+        this.expandAndCheck("{hello}", "Hello%20World%21");
+        this.expandAndCheck("{half}", "50%25");
+        this.expandAndCheck("O{empty}X", "OX");
+        this.expandAndCheck("O{undef}X", "OX");
+        this.expandAndCheck("{x,y}", "1024,768");
+        this.expandAndCheck("{x,hello,y}", "1024,Hello%20World%21,768");
+        this.expandAndCheck("?{x,empty}", "?1024,");
+        this.expandAndCheck("?{x,undef}", "?1024");
+        this.expandAndCheck("?{undef,y}", "?768");
+        this.expandAndCheck("{var:3}", "val");
+        this.expandAndCheck("{var:30}", "value");
+        this.expandAndCheck("{list}", "red,green,blue");
+        this.expandAndCheck("{list*}", "red,green,blue");
+        this.expandAndCheck("{keys}", "semi,%3B,dot,.,comma,%2C");
+        this.expandAndCheck("{keys*}", "semi=%3B,dot=.,comma=%2C");
+    }
+
+    // RFC 6570 3.2.3 Reserved Expansion
+
+    @Test
+    public void testExpandReserved() {
+        this.expandAndCheck("{+var}", "value");
+        this.expandAndCheck("{+hello}", "Hello%20World!");
+        this.expandAndCheck("{+half}", "50%25");
+        this.expandAndCheck("{base}index", "http%3A%2F%2Fexample.com%2Fhome%2Findex");
+        this.expandAndCheck("{+base}index", "http://example.com/home/index");
+        this.expandAndCheck("O{+empty}X", "OX");
+        this.expandAndCheck("O{+undef}X", "OX");
+        this.expandAndCheck("{+path}/here", "/foo/bar/here");
+        this.expandAndCheck("here?ref={+path}", "here?ref=/foo/bar");
+        this.expandAndCheck("up{+path}{var}/here", "up/foo/barvalue/here");
+        this.expandAndCheck("{+x,hello,y}", "1024,Hello%20World!,768");
+        this.expandAndCheck("{+path,x}/here", "/foo/bar,1024/here");
+        this.expandAndCheck("{+path:6}/here", "/foo/b/here");
+        this.expandAndCheck("{+list}", "red,green,blue");
+        this.expandAndCheck("{+list*}", "red,green,blue");
+        this.expandAndCheck("{+keys}", "semi,;,dot,.,comma,,");
+        this.expandAndCheck("{+keys*}", "semi=;,dot=.,comma=,");
+    }
+
+    @Test
+    public void testExpandReservedKeepsEscapes() {
+        this.checkEquals("a%2Fb%25%25zz",
+                URITemplate.parse("{+var}").expand(Collections.singletonMap("var", "a%2Fb%%zz")));
+    }
+
+    // RFC 6570 3.2.4 Fragment Expansion
+
+    @Test
+    public void testExpandFragment() {
+        this.expandAndCheck("{#var}", "#value");
+        this.expandAndCheck("{#hello}", "#Hello%20World!");
+        this.expandAndCheck("{#half}", "#50%25");
+        this.expandAndCheck("foo{#empty}", "foo#");
+        this.expandAndCheck("foo{#undef}", "foo");
+        this.expandAndCheck("{#x,hello,y}", "#1024,Hello%20World!,768");
+        this.expandAndCheck("{#path,x}/here", "#/foo/bar,1024/here");
+        this.expandAndCheck("{#path:6}/here", "#/foo/b/here");
+        this.expandAndCheck("{#list}", "#red,green,blue");
+        this.expandAndCheck("{#list*}", "#red,green,blue");
+        this.expandAndCheck("{#keys}", "#semi,;,dot,.,comma,,");
+        this.expandAndCheck("{#keys*}", "#semi=;,dot=.,comma=,");
+    }
+
+    // RFC 6570 3.2.5 Label Expansion with Dot-Prefix
+
+    @Test
+    public void testExpandLabel() {
+        this.expandAndCheck("{.who}", ".fred");
+        this.expandAndCheck("{.who,who}", ".fred.fred");
+        this.expandAndCheck("{.half,who}", ".50%25.fred");
+        this.expandAndCheck("www{.dom*}", "www.example.com");
+        this.expandAndCheck("X{.var}", "X.value");
+        this.expandAndCheck("X{.empty}", "X.");
+        this.expandAndCheck("X{.undef}", "X");
+        this.expandAndCheck("X{.var:3}", "X.val");
+        this.expandAndCheck("X{.list}", "X.red,green,blue");
+        this.expandAndCheck("X{.list*}", "X.red.green.blue");
+        this.expandAndCheck("X{.keys}", "X.semi,%3B,dot,.,comma,%2C");
+        this.expandAndCheck("X{.keys*}", "X.semi=%3B.dot=..comma=%2C");
+        this.expandAndCheck("X{.empty_keys}", "X");
+        this.expandAndCheck("X{.empty_keys*}", "X");
+    }
+
+    // RFC 6570 3.2.6 Path Segment Expansion
+
+    @Test
+    public void testExpandPathSegment() {
+        this.expandAndCheck("{/who}", "/fred");
+        this.expandAndCheck("{/who,who}", "/fred/fred");
+        this.expandAndCheck("{/half,who}", "/50%25/fred");
+        this.expandAndCheck("{/who,dub}", "/fred/me%2Ftoo");
+        this.expandAndCheck("{/var}", "/value");
+        this.expandAndCheck("{/var,empty}", "/value/");
+        this.expandAndCheck("{/var,undef}", "/value");
+        this.expandAndCheck("{/var,x}/here", "/value/1024/here");
+        this.expandAndCheck("{/var:1,var}", "/v/value");
+        this.expandAndCheck("{/list}", "/red,green,blue");
+        this.expandAndCheck("{/list*}", "/red/green/blue");
+        this.expandAndCheck("{/list*,path:4}", "/red/green/blue/%2Ffoo");
+        this.expandAndCheck("{/keys}", "/semi,%3B,dot,.,comma,%2C");
+        this.expandAndCheck("{/keys*}", "/semi=%3B/dot=./comma=%2C");
+    }
+
+    // RFC 6570 3.2.7 Path-Style Parameter Expansion
+
+    @Test
+    public void testExpandPathStyleParameter() {
+        this.expandAndCheck("{;who}", ";who=fred");
+        this.expandAndCheck("{;half}", ";half=50%25");
+        this.expandAndCheck("{;empty}", ";empty");
+        this.expandAndCheck("{;v,empty,who}", ";v=6;empty;who=fred");
+        this.expandAndCheck("{;v,bar,who}", ";v=6;who=fred");
+        this.expandAndCheck("{;x,y}", ";x=1024;y=768");
+        this.expandAndCheck("{;x,y,empty}", ";x=1024;y=768;empty");
+        this.expandAndCheck("{;x,y,undef}", ";x=1024;y=768");
+        this.expandAndCheck("{;hello:5}", ";hello=Hello");
+        this.expandAndCheck("{;list}", ";list=red,green,blue");
+        this.expandAndCheck("{;list*}", ";list=red;list=green;list=blue");
+        this.expandAndCheck("{;keys}", ";keys=semi,%3B,dot,.,comma,%2C");
+        this.expandAndCheck("{;keys*}", ";semi=%3B;dot=.;comma=%2C");
+    }
+
+    // RFC 6570 3.2.8 Form-Style Query Expansion
+
+    @Test
+    public void testExpandFormStyleQuery() {
+        this.expandAndCheck("{?who}", "?who=fred");
+        this.expandAndCheck("{?half}", "?half=50%25");
+        this.expandAndCheck("{?x,y}", "?x=1024&y=768");
+        this.expandAndCheck("{?x,y,empty}", "?x=1024&y=768&empty=");
+        this.expandAndCheck("{?x,y,undef}", "?x=1024&y=768");
+        this.expandAndCheck("{?var:3}", "?var=val");
+        this.expandAndCheck("{?list}", "?list=red,green,blue");
+        this.expandAndCheck("{?list*}", "?list=red&list=green&list=blue");
+        this.expandAndCheck("{?keys}", "?keys=semi,%3B,dot,.,comma,%2C");
+        this.expandAndCheck("{?keys*}", "?semi=%3B&dot=.&comma=%2C");
+    }
+
+    // RFC 6570 3.2.9 Form-Style Query Continuation
+
+    @Test
+    public void testExpandFormStyleQueryContinuation() {
+        this.expandAndCheck("{&who}", "&who=fred");
+        this.expandAndCheck("{&half}", "&half=50%25");
+        this.expandAndCheck("?fixed=yes{&x}", "?fixed=yes&x=1024");
+        this.expandAndCheck("{&x,y,empty}", "&x=1024&y=768&empty=");
+        this.expandAndCheck("{&var:3}", "&var=val");
+        this.expandAndCheck("{&list}", "&list=red,green,blue");
+        this.expandAndCheck("{&list*}", "&list=red&list=green&list=blue");
+        this.expandAndCheck("{&keys}", "&keys=semi,%3B,dot,.,comma,%2C");
+        this.expandAndCheck("{&keys*}", "&semi=%3B&dot=.&comma=%2C");
+    }
+
+    private void expandAndCheck(final String template,
+                                final String expected) {
+        final URITemplate parsed = URITemplate.parse(template);
+        final Map<String, Object> variables = variables();
+        this.checkEquals(expected, parsed.expand(variables), () -> template);
+        this.checkEquals(expected, parsed.expand(variables), () -> template + " again");
+    }
+
+    /**
+     * The variables from section 3.2 of RFC 6570.
+     */
+    private static Map<String, Object> variables() {
+        final Map<String, String> keys = new LinkedHashMap<>();
+        keys.put("semi", ";");
+        keys.put("dot", ".");
+        keys.put("comma", ",");
+
+        final Map<String, Object> variables = new HashMap<>();
+        variables.put("count", Arrays.asList("one", "two", "three"));
+        variables.put("dom", Arrays.asList("example", "com"));
+        variables.put("dub", "me/too");
+        variables.put("hello", "Hello World!");
+        variables.put("half", "50%");
+        variables.put("var", "value");
+        variables.put("who", "fred");
+        variables.put("base", "http://example.com/home/");
+        variables.put("path", "/foo/bar");
+        variables.put("list", Arrays.asList("red", "green", "blue"));
+        variables.put("keys", keys);
+        variables.put("v", "6");
+        variables.put("x", "1024");
+        variables.put("y", "768");
+        variables.put("empty", "");
+        variables.put("empty_keys", Collections.emptyMap());
+        variables.put("undef", null);
+        return variables;
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.checkEquals("/users/{id}{?q}", URITemplate.parse("/users/{id}{?q}").toString());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<URITemplate> type() {
+        return URITemplate.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -18,10 +18,13 @@
 package walkingkooka.j2cl.java.net;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.predicate.Predicates;
 import walkingkooka.text.CharSequences;
 
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -209,6 +212,84 @@ public final class URLDecoderTest extends JavaNetTestCase<URLDecoder> {
                 () -> "decode " + CharSequences.quoteAndEscape(encoded) + " encoding: " + encoding + " originally " + CharSequences.quoteAndEscape(s));
     }
 
+    // charset..........................................................................................................
+
+    @Test
+    public void testDecodeCharsetNullStringFails() {
+        this.decodeCharsetFails(null, StandardCharsets.UTF_8, NullPointerException.class);
+    }
+
+    @Test
+    public void testDecodeCharsetNullCharsetFails() {
+        this.decodeCharsetFails("%20", null, NullPointerException.class);
+    }
+
+    @Test
+    public void testDecodeCharsetInvalidStringFails() {
+        this.decodeCharsetFails("%2", StandardCharsets.UTF_8, IllegalArgumentException.class);
+    }
+
+    private void decodeCharsetFails(final String s,
+                                    final Charset charset,
+                                    final Class<? extends Throwable> thrown) {
+        assertThrows(thrown, () -> java.net.URLDecoder.decode(s, charset));
+        assertThrows(thrown, () -> URLDecoder.decode(s, charset));
+    }
+
+    @Test
+    public void testDecodeCharsetPlusOnly() {
+        this.decodeCharsetAndCheck("A+B+C", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDecodeCharsetUtf8() {
+        this.decodeCharsetAndCheck("A+b%2Bc%C3%A9%E2%82%AC", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDecodeCharsetIso88591() {
+        this.decodeCharsetAndCheck("A+b%2Bc%E9", StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void testDecodeCharsetUsAscii() {
+        this.decodeCharsetAndCheck("A+b%2Bc%7F%80%E9", StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void testDecodeCharsetWindows1252() {
+        this.decodeCharsetAndCheck("A+b%80%81%8D%9F%A0%E9", Charset.forName("windows-1252"));
+    }
+
+    @Test
+    public void testDecodeCharsetUtf16() {
+        this.decodeCharsetAndCheck("A+b%E9%00%AC%20", StandardCharsets.UTF_16LE);
+    }
+
+    @Test
+    public void testDecodeCharsetUtf8SupplementaryCodePoint() {
+        this.decodeCharsetAndCheck("%F0%9F%98%80", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDecodeCharsetUtf8Malformed() {
+        this.decodeCharsetAndCheck("%C3x%E2%82+%F0%9F%98%C0%AF%ED%A0%80%ED%BF%F4%90%80%80%FF", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDecodeCharsetUtf8RunsSplitByLiteral() {
+        this.decodeCharsetAndCheck("%E2%82x%AC", StandardCharsets.UTF_8);
+    }
+
+    private void decodeCharsetAndCheck(final String s,
+                                       final Charset charset) {
+        this.checkEquals(java.net.URLDecoder.decode(s, charset),
+                URLDecoder.decode(s, charset),
+                () -> "decode " + CharSequences.quoteAndEscape(s) + " charset: " + charset);
+    }
+
+    // ShadedClassTesting...............................................................................................
+
     @Override
     public Class<URLDecoder> type() {
         return URLDecoder.class;
@@ -216,6 +297,6 @@ public final class URLDecoderTest extends JavaNetTestCase<URLDecoder> {
 
     @Override
     public Predicate<Method> requiredMethods() {
-        return (m) -> !m.getName().equals("decode");
+        return Predicates.always();
     }
 }
@@ -23,6 +23,8 @@ import walkingkooka.text.CharSequences;
 
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -145,6 +147,46 @@ public final class URLEncoderTest extends JavaNetTestCase<URLEncoder> {
                 () -> "encode " + CharSequences.quoteAndEscape(s) + " encoding: " + encoding + " encoding: " + encoding);
     }
     
+    // encodeCharset....................................................................................................
+
+    @Test
+    public void testEncodeCharsetNullStringFails() {
+        this.encodeCharsetFails(null, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testEncodeCharsetNullCharsetFails() {
+        this.encodeCharsetFails("%20", null);
+    }
+
+    private void encodeCharsetFails(final String s,
+                                    final Charset charset) {
+        assertThrows(NullPointerException.class, () -> java.net.URLEncoder.encode(s, charset));
+        assertThrows(NullPointerException.class, () -> URLEncoder.encode(s, charset));
+    }
+
+    @Test
+    public void testEncodeCharsetUtf8() {
+        this.encodeCharsetAndCheck("A b+c\u00e9\u20ac", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testEncodeCharsetIso88591() {
+        this.encodeCharsetAndCheck("A b+c\u00e9", StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void testEncodeCharsetUtf16() {
+        this.encodeCharsetAndCheck("A b+c\u00e9", StandardCharsets.UTF_16);
+    }
+
+    private void encodeCharsetAndCheck(final String s,
+                                       final Charset charset) {
+        this.checkEquals(java.net.URLEncoder.encode(s, charset),
+                URLEncoder.encode(s, charset),
+                () -> "encode " + CharSequences.quoteAndEscape(s) + " charset: " + charset);
+    }
+
     // ShadedClassTesting...............................................................................................
 
     @Override
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.net;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.charset.StandardCharsets;
+
+public final class Utf8ByteRunDecoderTest implements ClassTesting<Utf8ByteRunDecoder> {
+
+    @Test
+    public void testEmpty() {
+        this.decodeAndCheck();
+    }
+
+    @Test
+    public void testAscii() {
+        this.decodeAndCheck('A', 'b', '1', 0x7f);
+    }
+
+    @Test
+    public void testTwoBytes() {
+        this.decodeAndCheck(0xc3, 0xa9);
+    }
+
+    @Test
+    public void testThreeBytes() {
+        this.decodeAndCheck(0xe2, 0x82, 0xac);
+    }
+
+    @Test
+    public void testFourBytes() {
+        this.decodeAndCheck(0xf0, 0x9f, 0x98, 0x80);
+    }
+
+    @Test
+    public void testLargestCodePoint() {
+        this.decodeAndCheck(0xf4, 0x8f, 0xbf, 0xbf);
+    }
+
+    @Test
+    public void testContinuationWithoutLead() {
+        this.decodeAndCheck(0x80, 'A', 0xbf);
+    }
+
+    @Test
+    public void testOverlongTwoBytes() {
+        this.decodeAndCheck(0xc0, 0xaf, 0xc1, 0xbf);
+    }
+
+    @Test
+    public void testOverlongThreeBytes() {
+        this.decodeAndCheck(0xe0, 0x80, 0xaf);
+    }
+
+    @Test
+    public void testOverlongFourBytes() {
+        this.decodeAndCheck(0xf0, 0x80, 0x80, 0xaf);
+    }
+
+    @Test
+    public void testSurrogate() {
+        this.decodeAndCheck(0xed, 0xa0, 0x80, 0xed, 0xbf, 0xbf);
+    }
+
+    @Test
+    public void testTruncatedSurrogate() {
+        this.decodeAndCheck(0xed, 0xbf, 'A');
+    }
+
+    @Test
+    public void testAboveLargestCodePoint() {
+        this.decodeAndCheck(0xf4, 0x90, 0x80, 0x80);
+    }
+
+    @Test
+    public void testInvalidLeads() {
+        this.decodeAndCheck(0xf5, 0xf8, 0xfe, 0xff);
+    }
+
+    @Test
+    public void testTruncatedThreeBytes() {
+        this.decodeAndCheck(0xe2, 0x82);
+    }
+
+    @Test
+    public void testTruncatedFourBytesBeforeAscii() {
+        this.decodeAndCheck(0xf0, 0x9f, 0x98, 'A');
+    }
+
+    @Test
+    public void testTruncatedBeforeLead() {
+        this.decodeAndCheck(0xe2, 0xc3, 0xa9);
+    }
+
+    @Test
+    public void testWritesFromOffset() {
+        final char[] chars = new char[4];
+        chars[0] = 'X';
+        this.checkEquals(3,
+                Utf8ByteRunDecoder.INSTANCE.decode(new byte[]{(byte) 0xc3, (byte) 0xa9, 'A'}, 2, chars, 2));
+        this.checkEquals("X\0é\0", new String(chars));
+    }
+
+    private void decodeAndCheck(final int... values) {
+        final byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        final String expected = new String(bytes, StandardCharsets.UTF_8);
+
+        final char[] chars = new char[bytes.length];
+        final int length = Utf8ByteRunDecoder.INSTANCE.decode(bytes, bytes.length, chars, 0);
+        this.checkEquals(expected,
+                new String(chars, 0, length),
+                () -> "decode " + expected);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<Utf8ByteRunDecoder> type() {
+        return Utf8ByteRunDecoder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}